@@ -0,0 +1,108 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.ScanEngine;
+import parser.XMLParser;
+
+/**
+ * FILE: EndTagScaling.java
+ *
+ * Pathological input for XMLParser.processEndTag, in two shapes of n tags:
+ *
+ * MISSING_END    n/2 nested open tags, then n/2 end tags whose names are not
+ *                open anywhere. The old stack.search scanned the whole stack
+ *                for each of them (n^2).
+ * DEEP_MISMATCH  a root, n-2 nested open tags and then the root's end tag,
+ *                which mismatches the top and is matched n-1 deep; every open
+ *                tag above it is popped and reported.
+ *
+ * With the open-name index the work per tag is constant: the time per
+ * operation should grow in step with n (4x per 4x), not with its square.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndTagScaling {
+
+    public enum Shape { MISSING_END, DEEP_MISMATCH }
+
+    /** Number of tags in the document */
+    @Param({ "25000", "100000", "400000" })
+    public int n;
+
+    @Param({ "MISSING_END", "DEEP_MISMATCH" })
+    public Shape shape;
+
+    /** Open tags as IDs in parallel arrays, or as Tag objects on a MyArrayDeque */
+    @Param({ "true", "false" })
+    public boolean idStack;
+
+    private File file;
+    private PrintStream discard;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("endtags", ".xml");
+        discard = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        });
+
+        try (PrintWriter w = new PrintWriter(file)) {
+            if (shape == Shape.MISSING_END) {
+                for (int i = 0; i < n / 2; i++) {
+                    w.println("<open" + (i % 16) + ">");
+                }
+                for (int i = 0; i < n / 2; i++) {
+                    w.println("</missing" + (i % 16) + ">");
+                }
+            } else {
+                w.println("<root>");
+                for (int i = 0; i < n - 2; i++) {
+                    w.println("<open" + (i % 16) + ">");
+                }
+                w.println("</root>");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void parse() {
+        XMLParser parser = new XMLParser(ScanEngine.STATE_MACHINE, discard);
+        parser.setIdStack(idStack);
+        parser.parseFile(file.getPath());
+    }
+}
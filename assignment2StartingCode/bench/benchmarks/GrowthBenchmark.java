@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.GrowthPolicy;
+import implementations.MyArrayList;
+
+/**
+ * FILE: GrowthBenchmark.java
+ *
+ * Fills a MyArrayList to size elements and drains it from the end, the way
+ * a stack spikes and empties, for each growth policy and with shrinking on
+ * or off. Run with -prof gc to see the allocation side of the trade.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrowthBenchmark {
+
+    @Param({ "2x", "1.5x", "+65536" })
+    public String policy;
+
+    @Param({ "false", "true" })
+    public boolean shrink;
+
+    @Param({ "1000000" })
+    public int size;
+
+    private GrowthPolicy growth;
+    private Integer value = 42;
+
+    @Setup
+    public void setUp() {
+        switch (policy) {
+            case "2x":
+                growth = GrowthPolicy.DOUBLING;
+                break;
+            case "1.5x":
+                growth = GrowthPolicy.ONE_AND_HALF;
+                break;
+            default:
+                growth = GrowthPolicy.increment(Integer.parseInt(policy.substring(1)));
+        }
+    }
+
+    /** Push size elements, then pop them all */
+    @Benchmark
+    public MyArrayList<Integer> fillAndDrain() {
+        MyArrayList<Integer> list = new MyArrayList<>(10, growth);
+        if (shrink) {
+            list.setShrinkThreshold(1024);
+        }
+
+        for (int i = 0; i < size; i++) {
+            list.add(value);
+        }
+        while (!list.isEmpty()) {
+            list.remove(list.size() - 1);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,94 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import implementations.MyArrayList;
+import implementations.MyCircularList;
+import implementations.MyDLL;
+import implementations.MyTreeList;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * FILE: IteratorBenchmark.java
+ *
+ * The fail-fast iterator against the snapshot iterator, which copies
+ * the list with toArray before the pass.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IteratorBenchmark {
+
+    @Param({ "MyArrayList", "MyDLL", "MyUnrolledList", "MyTreeList", "MyCircularList" })
+    public String impl;
+
+    @Param({ "100", "10000" })
+    public int size;
+
+    private ListADT<Integer> list;
+
+    @Setup
+    public void setUp() {
+        switch (impl) {
+            case "MyArrayList":
+                list = new MyArrayList<>();
+                break;
+            case "MyDLL":
+                list = new MyDLL<>();
+                break;
+            case "MyUnrolledList":
+                list = new MyUnrolledList<>();
+                break;
+            case "MyTreeList":
+                list = new MyTreeList<>();
+                break;
+            case "MyCircularList":
+                list = new MyCircularList<>();
+                break;
+            default:
+                throw new IllegalArgumentException(impl);
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    /** Full pass with the fail-fast iterator */
+    @Benchmark
+    public void failFast(Blackhole bh) {
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    /** Full pass over a copy taken by snapshotIterator */
+    @Benchmark
+    public void snapshot(Blackhole bh) {
+        Iterator<Integer> it = list.snapshotIterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+}
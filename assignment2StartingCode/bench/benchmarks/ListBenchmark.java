@@ -0,0 +1,140 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import implementations.MyArrayList;
+import implementations.MyCircularList;
+import implementations.MyDLL;
+import implementations.MyTreeList;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * FILE: ListBenchmark.java
+ *
+ * add / get / remove / iterate for the ListADT implementations.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+
+    @Param({ "MyArrayList", "MyDLL", "MyUnrolledList", "MyTreeList", "MyCircularList" })
+    public String impl;
+
+    @Param({ "100", "10000" })
+    public int size;
+
+    private ListADT<Integer> list;
+    private MyDLL<Integer> linkedSource;
+    private int[] indices;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        list = newList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        linkedSource = new MyDLL<>();
+        for (int i = 0; i < size; i++) {
+            linkedSource.add(i);
+        }
+
+        Random random = new Random(42);
+        indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    private ListADT<Integer> newList() {
+        switch (impl) {
+            case "MyArrayList":
+                return new MyArrayList<>();
+            case "MyDLL":
+                return new MyDLL<>();
+            case "MyUnrolledList":
+                return new MyUnrolledList<>();
+            case "MyTreeList":
+                return new MyTreeList<>();
+            case "MyCircularList":
+                return new MyCircularList<>();
+            default:
+                throw new IllegalArgumentException(impl);
+        }
+    }
+
+    /** Append size elements to an empty list */
+    @Benchmark
+    public ListADT<Integer> add() {
+        ListADT<Integer> fresh = newList();
+        for (int i = 0; i < size; i++) {
+            fresh.add(i);
+        }
+        return fresh;
+    }
+
+    /** Copy a whole MyDLL into an empty list, the worst case for get(i) */
+    @Benchmark
+    public ListADT<Integer> addAllFromDLL() {
+        ListADT<Integer> fresh = newList();
+        fresh.addAll(linkedSource);
+        return fresh;
+    }
+
+    /** One get at a random index */
+    @Benchmark
+    public Integer get() {
+        return list.get(indices[next++ & 1023]);
+    }
+
+    /** Insert then remove at a random index; the list size is unchanged */
+    @Benchmark
+    public Integer addRemoveAtIndex() {
+        int index = indices[next++ & 1023];
+        list.add(index, -1);
+        return list.remove(index);
+    }
+
+    /** Remove from the front until empty, the queue-like pattern */
+    @Benchmark
+    public ListADT<Integer> drainFront() {
+        ListADT<Integer> fresh = add();
+        while (!fresh.isEmpty()) {
+            fresh.remove(0);
+        }
+        return fresh;
+    }
+
+    /** Full pass with the list's own iterator */
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+}
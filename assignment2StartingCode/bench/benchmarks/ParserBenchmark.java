@@ -0,0 +1,100 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.InputMode;
+import parser.ScanEngine;
+import parser.XMLGenerator;
+import parser.XMLParser;
+
+/**
+ * FILE: ParserBenchmark.java
+ *
+ * End-to-end XMLParser throughput on XMLGenerator documents of varying size
+ * and error density, for every input mode and scan engine. Output goes to a
+ * discarding stream so printing is not measured.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    /** Same document for every run, whatever the size */
+    private static final long SEED = 42;
+
+    /** Number of elements in the document */
+    @Param({ "10000", "1000000" })
+    public int elements;
+
+    /** Fraction of elements that are broken (unclosed or stray end tag) */
+    @Param({ "0.0", "0.01", "0.1" })
+    public double errorRate;
+
+    @Param({ "LINES", "STREAMING", "MAPPED", "PARALLEL" })
+    public InputMode mode;
+
+    @Param({ "REGEX", "STATE_MACHINE" })
+    public ScanEngine engine;
+
+    /** Open tags as IDs in parallel arrays, or as Tag objects on a MyArrayDeque */
+    @Param({ "true", "false" })
+    public boolean idStack;
+
+    private File file;
+    private PrintStream discard;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("parser-bench", ".xml");
+        discard = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        });
+
+        // Errors split evenly between unclosed tags and stray end tags
+        new XMLGenerator(SEED)
+                .elements(elements)
+                .inlineRate(0.2)
+                .unclosedRate(errorRate / 2)
+                .extraCloseRate(errorRate / 2)
+                .write(file.getPath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void parse() {
+        XMLParser parser = new XMLParser(engine, discard);
+        parser.setIdStack(idStack);
+        parser.parse(file.getPath(), mode);
+    }
+}
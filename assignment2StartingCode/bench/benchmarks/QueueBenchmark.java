@@ -0,0 +1,100 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import exceptions.EmptyQueueException;
+import implementations.MyArrayDeque;
+import implementations.MyCircularQueue;
+import implementations.MyQueue;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * FILE: QueueBenchmark.java
+ *
+ * enqueue / dequeue / iterate for the QueueADT implementations.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({ "MyQueue", "MyCircularQueue", "MyArrayDeque" })
+    public String impl;
+
+    @Param({ "100", "10000" })
+    public int size;
+
+    private QueueADT<Integer> filled;
+
+    @Setup
+    public void setUp() {
+        filled = newQueue();
+        for (int i = 0; i < size; i++) {
+            filled.enqueue(i);
+        }
+    }
+
+    private QueueADT<Integer> newQueue() {
+        switch (impl) {
+            case "MyQueue":
+                return new MyQueue<>();
+            case "MyCircularQueue":
+                return new MyCircularQueue<>();
+            case "MyArrayDeque":
+                return new MyArrayDeque<>();
+            default:
+                throw new IllegalArgumentException(impl);
+        }
+    }
+
+    /** Enqueue size elements into an empty queue, then dequeue them all */
+    @Benchmark
+    public void enqueueDequeue(Blackhole bh) throws EmptyQueueException {
+        QueueADT<Integer> queue = newQueue();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        while (!queue.isEmpty()) {
+            bh.consume(queue.dequeue());
+        }
+    }
+
+    /** size dequeue/enqueue pairs on a queue that stays at size elements */
+    @Benchmark
+    public void steadyState(Blackhole bh) throws EmptyQueueException {
+        for (int i = 0; i < size; i++) {
+            Integer front = filled.dequeue();
+            bh.consume(front);
+            filled.enqueue(front);
+        }
+    }
+
+    /** Full pass with the queue's own iterator */
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        Iterator<Integer> it = filled.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import exceptions.EmptyQueueException;
+import implementations.MyConcurrentQueue;
+import implementations.MyQueue;
+
+/**
+ * FILE: QueueContentionBenchmark.java
+ *
+ * Shared-queue throughput: every thread enqueues one element and then
+ * dequeues one, so the queue never runs dry. Compares the lock-free
+ * MyConcurrentQueue with a MyQueue guarded by synchronized, on one thread
+ * and on four.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueContentionBenchmark {
+
+    @Param({ "MyConcurrentQueue", "synchronized MyQueue" })
+    public String impl;
+
+    private MyConcurrentQueue<Integer> lockFree;
+    private MyQueue<Integer> locked;
+    private boolean useLocked;
+
+    @Setup
+    public void setUp() {
+        lockFree = new MyConcurrentQueue<>();
+        locked = new MyQueue<>();
+        useLocked = impl.startsWith("synchronized");
+
+        // A few elements so consumers rarely meet producers at one node
+        for (int i = 0; i < 64; i++) {
+            lockFree.enqueue(i);
+            locked.enqueue(i);
+        }
+    }
+
+    private Integer enqueueDequeue() throws EmptyQueueException {
+        Integer value = 42;
+
+        if (useLocked) {
+            synchronized (locked) {
+                locked.enqueue(value);
+            }
+            synchronized (locked) {
+                return locked.dequeue();
+            }
+        }
+
+        lockFree.enqueue(value);
+        return lockFree.dequeue();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer uncontended() throws EmptyQueueException {
+        return enqueueDequeue();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer contended() throws EmptyQueueException {
+        return enqueueDequeue();
+    }
+}
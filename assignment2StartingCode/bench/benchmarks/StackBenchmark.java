@@ -0,0 +1,66 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import implementations.MyArrayDeque;
+import implementations.MyStack;
+import utilities.StackADT;
+
+/**
+ * FILE: StackBenchmark.java
+ *
+ * push / pop for the StackADT implementations. The queue side of
+ * MyArrayDeque is measured in QueueBenchmark.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+    @Param({ "MyStack", "MyArrayDeque" })
+    public String impl;
+
+    @Param({ "100", "10000" })
+    public int size;
+
+    private StackADT<Integer> newStack() {
+        switch (impl) {
+            case "MyStack":
+                return new MyStack<>();
+            case "MyArrayDeque":
+                return new MyArrayDeque<>();
+            default:
+                throw new IllegalArgumentException(impl);
+        }
+    }
+
+    /** Push size elements onto an empty stack, then pop them all */
+    @Benchmark
+    public void pushPop(Blackhole bh) {
+        StackADT<Integer> stack = newStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        while (!stack.isEmpty()) {
+            bh.consume(stack.pop());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import implementations.MyConcurrentStack;
+import implementations.MyStack;
+import utilities.StackADT;
+
+/**
+ * FILE: StackContentionBenchmark.java
+ *
+ * Shared-stack throughput: every thread pushes one element and then pops
+ * one. Compares MyConcurrentStack without and with an elimination array
+ * against a MyStack guarded by synchronized, on one thread and on four.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackContentionBenchmark {
+
+    @Param({ "MyConcurrentStack", "MyConcurrentStack elimination", "synchronized MyStack" })
+    public String impl;
+
+    private StackADT<Integer> stack;
+    private boolean useLocked;
+
+    @Setup
+    public void setUp() {
+        useLocked = impl.startsWith("synchronized");
+
+        if (useLocked) {
+            stack = new MyStack<>();
+        } else if (impl.endsWith("elimination")) {
+            stack = new MyConcurrentStack<>(4);
+        } else {
+            stack = new MyConcurrentStack<>();
+        }
+
+        // Never let a pop find the stack empty
+        for (int i = 0; i < 64; i++) {
+            stack.push(i);
+        }
+    }
+
+    private Integer pushPop() {
+        Integer value = 42;
+
+        if (useLocked) {
+            synchronized (stack) {
+                stack.push(value);
+            }
+            synchronized (stack) {
+                return stack.pop();
+            }
+        }
+
+        stack.push(value);
+        return stack.pop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer uncontended() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer contended() {
+        return pushPop();
+    }
+}
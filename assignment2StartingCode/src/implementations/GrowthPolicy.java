@@ -0,0 +1,84 @@
+package implementations;
+
+/**
+ * FILE: GrowthPolicy.java
+ * DESCRIPTION:
+ * Decides how large MyArrayList makes its array when it runs out of room.
+ * Doubling reallocates least often; 1.5x and fixed increments waste less
+ * memory on very large lists. grownCapacity always raises the result to at
+ * least the capacity needed and caps it near Integer.MAX_VALUE, so a policy
+ * does not have to guard against overflow. MyArrayList and the primitive
+ * IntArrayList, LongArrayList and IntStack all grow through it.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public interface GrowthPolicy {
+
+	/** Longest array asked for; some VMs reserve header words in an array */
+	int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	/** New capacity is twice the old one */
+	GrowthPolicy DOUBLING = (oldCapacity, minCapacity) -> oldCapacity * 2;
+
+	/** New capacity is one and a half times the old one */
+	GrowthPolicy ONE_AND_HALF = (oldCapacity, minCapacity) -> oldCapacity + (oldCapacity >> 1);
+
+	/**
+	 * Suggests a capacity for a full array.
+	 *
+	 * @param oldCapacity the current array length.
+	 * @param minCapacity the number of elements that must fit.
+	 * @return the new array length; may overflow or fall short of
+	 *         minCapacity, in which case grownCapacity corrects it.
+	 */
+	int newCapacity(int oldCapacity, int minCapacity);
+
+	/**
+	 * Asks the policy for a new size, then keeps it within
+	 * [minCapacity, MAX_ARRAY_SIZE].
+	 *
+	 * @param oldCapacity the current array length.
+	 * @param minCapacity the number of elements that must fit.
+	 * @return the array length to grow to.
+	 * @throws OutOfMemoryError if minCapacity is negative, i.e. size + n
+	 *                          overflowed.
+	 */
+	default int grownCapacity(int oldCapacity, int minCapacity) {
+
+		if (minCapacity < 0) // size + n overflowed
+			throw new OutOfMemoryError("Required array size too large");
+
+		int newCapacity = newCapacity(oldCapacity, minCapacity);
+
+		// A negative result means the policy overflowed
+		if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+
+			newCapacity = MAX_ARRAY_SIZE;
+
+		}
+
+		return Math.max(newCapacity, minCapacity);
+
+	}
+
+	/**
+	 * Grows by a fixed number of slots each time.
+	 *
+	 * @param step slots to add; must be positive.
+	 * @return the policy.
+	 */
+	static GrowthPolicy increment(int step) {
+
+		if (step <= 0) {
+
+			throw new IllegalArgumentException("Step must be positive: " + step);
+
+		}
+
+		return (oldCapacity, minCapacity) -> oldCapacity + step;
+
+	}
+
+}
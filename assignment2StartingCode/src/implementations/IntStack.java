@@ -0,0 +1,188 @@
+package implementations;
+
+import utilities.IntIterator;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+
+/**
+ *
+ * FILE: IntStack.java
+ *
+ * DESCRIPTION:
+ * Stack of int values on a raw int[], following the StackADT
+ * contract without boxing. The top of the stack is the end of
+ * the array, so push and pop never shift anything.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class IntStack {
+
+	private static final int DEFAULT_CAPACITY = 10;
+	private int[] elements;
+	private int size;
+	private int modCount; // pushes and pops, checked by the iterator
+
+	public IntStack() {
+
+		elements = new int[DEFAULT_CAPACITY];
+
+	}
+
+	public void push(int toAdd) {
+
+		if (size == elements.length) {
+
+			elements = Arrays.copyOf(elements, GrowthPolicy.DOUBLING.grownCapacity(elements.length, size + 1));
+
+		}
+
+		elements[size++] = toAdd; // Push to top (end of array)
+		modCount++;
+
+	}
+
+	public int pop() throws EmptyStackException {
+
+		if (size == 0) {
+
+			throw new EmptyStackException();
+
+		}
+
+		modCount++;
+		return elements[--size]; // Remove from top
+	}
+
+	public int peek() throws EmptyStackException {
+
+		if (size == 0) {
+
+			throw new EmptyStackException();
+
+		}
+
+		return elements[size - 1]; // Return top element
+
+	}
+
+	public void clear() {
+
+		size = 0;
+		modCount++;
+
+	}
+
+	public boolean isEmpty() {
+
+		return size == 0;
+	}
+
+	public int[] toArray() {
+
+		//Returning in stack order (top to bottom)....
+		int[] reversed = new int[size];
+
+		for (int i = 0; i < size; i++) {
+
+			reversed[i] = elements[size - 1 - i];
+
+		}
+
+		return reversed;
+	}
+
+	public boolean contains(int toFind) {
+
+		return search(toFind) != -1;
+	}
+
+	public int search(int toFind) {
+
+		// Position is 1-based from the top
+		for (int i = size - 1, position = 1; i >= 0; i--, position++) {
+
+			if (elements[i] == toFind) {
+
+				return position;
+
+			}
+
+		}
+		return -1;
+	}
+
+	public IntIterator iterator() {
+
+		return new IntStackIterator();
+
+	}
+
+	public boolean equals(IntStack that) {
+
+		if (that == null || this.size != that.size) {
+
+			return false;
+
+		}
+
+		for (int i = 0; i < size; i++) {
+
+			if (elements[i] != that.elements[i]) {
+
+				return false;
+
+			}
+
+		}
+
+		return true;
+
+	}
+
+	public int size() {
+
+		return size;
+
+	}
+
+	public boolean stackOverflow() {
+		//The array grows, so the stack never overflows....
+		return false;
+
+	}
+
+    // Iterator Class — iterates from top (last index) downward
+	private class IntStackIterator implements IntIterator {
+
+		private int currentIndex = size - 1;  // Start at top
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+
+			return currentIndex >= 0;
+
+		}
+
+		@Override
+		public int next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) {
+
+				throw new ConcurrentModificationException("Stack changed during iteration");
+
+			}
+			if (!hasNext()) {
+
+				throw new NoSuchElementException("No more elements in stack !");
+
+			}
+			return elements[currentIndex--];
+
+		}
+	}
+}
@@ -0,0 +1,268 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+
+import java.util.NoSuchElementException;
+
+import utilities.LongIterator;
+
+/**
+ * FILE: LongArrayList.java
+ * MyArrayList specialised for long values. Elements are kept in a long[],
+ * so nothing is boxed; the operations mirror those of ListADT.
+ *
+ * Removing by value is called removeValue, as in IntArrayList, so that
+ * remove(5) always means an index.
+ *
+ * The array grows through GrowthPolicy.grownCapacity, as MyArrayList and
+ * IntArrayList do, so the overflow checks exist in one place only.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class LongArrayList {
+
+	private static final int DEFAULT_CAPACITY = 10;
+	private long[] elements;
+	private int size;
+	private int modCount; // adds and removes, checked by the iterator
+
+    /**
+     * Constructs an empty LongArrayList with default capacity.
+     */
+	public LongArrayList() {
+
+		this(DEFAULT_CAPACITY);
+
+	}
+
+    /**
+     * Constructs an empty LongArrayList that doubles from the given capacity.
+     *
+     * @param initialCapacity the number of elements it holds before growing.
+     * @throws IllegalArgumentException if initialCapacity is negative.
+     */
+	public LongArrayList(int initialCapacity) {
+
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+		elements = new long[initialCapacity];
+		size = 0;
+
+	}
+
+	public int size() {
+		// Returns the number of elements stored
+		return size;
+	}
+
+	public void clear() {
+		// Nothing to release for primitives
+		size = 0;
+		modCount++;
+	}
+
+	public boolean add(int index, long toAdd) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		// Ensuring Capacity
+		if (size == elements.length) {
+
+			grow(size + 1);
+
+		}
+
+		// Shifting elements right
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+
+		// Insert element
+		elements[index] = toAdd;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	public boolean add(long toAdd) {
+
+		// If array is full, double its size
+		if (size == elements.length) {
+
+			grow(size + 1);
+
+		}
+		// Place element at end
+		elements[size++] = toAdd;
+		modCount++;
+
+		return true;
+	}
+
+	public boolean addAll(LongArrayList toAdd) throws NullPointerException {
+
+		if (toAdd == null) throw new NullPointerException("cannot add null collection");
+
+		int count = toAdd.size;
+		if (count == 0) return false;
+
+		// One resize for the whole batch; the subtraction cannot overflow
+		if (count > elements.length - size) {
+
+			grow(size + count);
+
+		}
+		// Copy in one go (also safe when toAdd is this list)
+		System.arraycopy(toAdd.elements, 0, elements, size, count);
+		size += count;
+		modCount++;
+
+		return true;
+	}
+
+	public long get(int index) throws IndexOutOfBoundsException {
+		// Check bounds
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		return elements[index];
+	}
+
+	public long remove(int index) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		// Element to return
+		long removed = elements[index];
+
+		// Shifting elements left
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+
+		return removed;
+	}
+
+	/**
+	 * Removes the first occurrence of toRemove.
+	 *
+	 * @return true if the value was found and removed.
+	 */
+	public boolean removeValue(long toRemove) {
+
+		int index = indexOf(toRemove);
+		if (index < 0) return false;
+
+		remove(index);
+		return true;
+	}
+
+	public long set(int index, long toChange) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		// Store old value
+		long old = elements[index];
+
+		// Replace with new one
+		elements[index] = toChange;
+
+		return old;
+	}
+
+	public boolean isEmpty() {
+		// True if list has no elements
+		return size == 0;
+	}
+
+	public boolean contains(long toFind) {
+
+		return indexOf(toFind) >= 0;
+
+	}
+
+	/**
+	 * Index of the first occurrence of toFind, or -1.
+	 */
+	public int indexOf(long toFind) {
+		// Linear search
+		for (int i = 0; i < size; i++) {
+
+			if (elements[i] == toFind) {
+
+				return i;
+
+			}
+
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Copies the elements into toHold, or into a new array if toHold is
+	 * too small.
+	 */
+	public long[] toArray(long[] toHold) throws NullPointerException {
+
+		if (toHold == null) throw new NullPointerException("Array cannot be null");
+		// If provided array too small, create new one
+		if (toHold.length < size) {
+
+			toHold = new long[size];
+
+		}
+		// Copy elements
+		System.arraycopy(elements, 0, toHold, 0, size);
+
+		return toHold;
+	}
+
+	public long[] toArray() {
+		// Return copy of used portion of internal array
+		return Arrays.copyOf(elements, size);
+
+	}
+
+	// Doubles the array, kept within [minCapacity, MAX_ARRAY_SIZE] by GrowthPolicy
+	private void grow(int minCapacity) {
+
+		elements = Arrays.copyOf(elements, GrowthPolicy.DOUBLING.grownCapacity(elements.length, minCapacity));
+
+	}
+
+    /**
+     * Inner iterator class to iterate over list elements.
+     */
+	public LongIterator iterator() {
+
+		return new LongArrayIterator();
+	}
+
+	private class LongArrayIterator implements LongIterator {
+
+		private int currentIndex = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			// More elements if currentIndex < size
+			return currentIndex < size;
+
+		}
+
+		@Override
+		public long next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) throw new ConcurrentModificationException("List changed during iteration");
+			if (!hasNext()) throw new NoSuchElementException("No more elements");
+			// Return current and increment index
+			return elements[currentIndex++];
+
+		}
+
+	}
+}
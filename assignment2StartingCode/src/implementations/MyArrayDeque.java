@@ -0,0 +1,482 @@
+package implementations;
+
+import utilities.StackADT;
+import utilities.QueueADT;
+import utilities.Iterator;
+import utilities.SnapshotIterator;
+import exceptions.EmptyQueueException;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+
+/**
+ * FILE: MyArrayDeque.java
+ * DESCRIPTION:
+ * A double-ended queue on a circular array that can serve as a stack, as
+ * a queue, or as both. Adding and removing at either end is O(1)
+ * amortized and allocates nothing per element. The array length is a
+ * power of two, so wrapping an index is a mask rather than a compare.
+ *
+ * As a stack the top is the first element: push adds first and pop
+ * removes first. As a queue enqueue adds last and dequeue removes first.
+ * Either way the iterator, toArray and search go from the first element
+ * to the last, which is top to bottom for a stack and front to rear for
+ * a queue.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyArrayDeque<E> implements StackADT<E>, QueueADT<E> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private Object[] elements; // length is always a power of two
+	private int head; // index of the first element
+	private int size;
+	private int modCount; // adds and removes, checked by the iterator
+
+	public MyArrayDeque() {
+
+		elements = new Object[DEFAULT_CAPACITY];
+
+	}
+
+	/**
+	 * @param initialCapacity elements to hold before growing; rounded up
+	 *                        to a power of two.
+	 * @throws IllegalArgumentException if initialCapacity is negative.
+	 */
+	public MyArrayDeque(int initialCapacity) {
+
+		if (initialCapacity < 0) {
+
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+		}
+
+		int capacity = initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+		elements = new Object[capacity <= 0 ? MAX_CAPACITY : Math.min(capacity, MAX_CAPACITY)];
+
+	}
+
+	/**
+	 * Inserts an element before the first.
+	 */
+	public void addFirst(E toAdd) throws NullPointerException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot add null element");
+
+		}
+
+		if (size == elements.length) {
+
+			grow();
+
+		}
+
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = toAdd;
+		size++;
+		modCount++;
+
+	}
+
+	/**
+	 * Appends an element after the last.
+	 */
+	public void addLast(E toAdd) throws NullPointerException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot add null element");
+
+		}
+
+		if (size == elements.length) {
+
+			grow();
+
+		}
+
+		elements[index(size)] = toAdd;
+		size++;
+		modCount++;
+
+	}
+
+	/**
+	 * Removes and returns the first element, or returns null if empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public E pollFirst() {
+
+		if (size == 0) {
+
+			return null;
+
+		}
+
+		E first = (E) elements[head];
+		elements[head] = null; // Release for garbage collection
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		modCount++;
+
+		return first;
+
+	}
+
+	/**
+	 * Removes and returns the last element, or returns null if empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public E pollLast() {
+
+		if (size == 0) {
+
+			return null;
+
+		}
+
+		int last = index(size - 1);
+		E element = (E) elements[last];
+		elements[last] = null;
+		size--;
+		modCount++;
+
+		return element;
+
+	}
+
+	/**
+	 * Returns the first element without removing it, or null if empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public E peekFirst() {
+
+		return (E) elements[head]; // null when empty
+
+	}
+
+	/**
+	 * Returns the last element without removing it, or null if empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public E peekLast() {
+
+		return size == 0 ? null : (E) elements[index(size - 1)];
+
+	}
+
+	@Override
+	public void push(E toAdd) throws NullPointerException {
+
+		addFirst(toAdd);
+
+	}
+
+	@Override
+	public E pop() throws EmptyStackException {
+
+		E top = pollFirst();
+
+		if (top == null) {
+
+			throw new EmptyStackException();
+
+		}
+
+		return top;
+
+	}
+
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException {
+
+		addLast(toAdd);
+
+	}
+
+	@Override
+	public E dequeue() throws EmptyQueueException {
+
+		E front = pollFirst();
+
+		if (front == null) {
+
+			throw new EmptyQueueException("Queue is empty!");
+
+		}
+
+		return front;
+
+	}
+
+	/**
+	 * Returns the first element: the top of the stack and the front of the
+	 * queue. StackADT and QueueADT both declare peek, so it may only throw
+	 * what both allow; an empty deque throws EmptyStackException whichever
+	 * interface it is used through. Code that holds the deque as a QueueADT
+	 * and expects EmptyQueueException should check isEmpty, or call
+	 * peekFirst and test for null.
+	 *
+	 * @throws EmptyStackException if the deque is empty.
+	 */
+	@Override
+	public E peek() throws EmptyStackException {
+
+		E first = peekFirst();
+
+		if (first == null) {
+
+			throw new EmptyStackException();
+
+		}
+
+		return first;
+
+	}
+
+	@Override
+	public void clear() {
+
+		int firstRun = Math.min(size, elements.length - head);
+		Arrays.fill(elements, head, head + firstRun, null);
+		Arrays.fill(elements, 0, size - firstRun, null);
+		head = 0;
+		size = 0;
+		modCount++;
+
+	}
+
+	@Override
+	public void dequeueAll() {
+
+		clear();
+
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return size == 0;
+
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) {
+
+			throw new NullPointerException("Cannot search for null element");
+
+		}
+
+		return search(toFind) != -1;
+
+	}
+
+	@Override
+	public int search(E toFind) throws NullPointerException {
+
+		if (toFind == null) {
+
+			throw new NullPointerException("Cannot search for null element");
+
+		}
+
+		// Position 1 is the first element: the top, or the front
+		for (int i = 0; i < size; i++) {
+
+			if (toFind.equals(elements[index(i)])) {
+
+				return i + 1;
+
+			}
+
+		}
+
+		return -1;
+
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+
+		return new DequeIterator();
+
+	}
+
+	/**
+	 * StackADT and QueueADT both supply this method, so it is declared
+	 * here to pick one; both copy toArray.
+	 */
+	@Override
+	public Iterator<E> snapshotIterator() {
+
+		return new SnapshotIterator<>(toArray());
+
+	}
+
+	@Override
+	public boolean equals(StackADT<E> that) {
+
+		if (that == null || this.size() != that.size()) {
+
+			return false;
+
+		}
+
+		return Arrays.equals(this.toArray(), that.toArray());
+
+	}
+
+	@Override
+	public boolean equals(QueueADT<E> that) {
+
+		if (that == null || this.size() != that.size()) {
+
+			return false;
+
+		}
+
+		return Arrays.equals(this.toArray(), that.toArray());
+
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		Object[] array = new Object[size];
+		copyTo(array);
+		return array;
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+
+		if (holder == null) {
+
+			throw new NullPointerException("Array cannot be null");
+
+		}
+
+		if (holder.length < size) {
+
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+
+		}
+
+		copyTo(holder);
+
+		if (holder.length > size) {
+
+			holder[size] = null;
+
+		}
+
+		return holder;
+
+	}
+
+	@Override
+	public boolean isFull() {
+		// Grows as needed, so never full
+		return false;
+	}
+
+	@Override
+	public boolean stackOverflow() {
+		// Grows as needed, so never overflows
+		return false;
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+
+	}
+
+	/**
+	 * Array index of the element i places after the first.
+	 */
+	private int index(int i) {
+
+		return (head + i) & (elements.length - 1);
+
+	}
+
+	/**
+	 * Copy the elements first to last into the start of target: at most
+	 * two runs, before and after the wrap.
+	 */
+	private void copyTo(Object[] target) {
+
+		int firstRun = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, target, 0, firstRun);
+		System.arraycopy(elements, 0, target, firstRun, size - firstRun);
+
+	}
+
+	/**
+	 * Double the array, unwrapping the elements so the first is at 0.
+	 */
+	private void grow() {
+
+		if (elements.length == MAX_CAPACITY) {
+
+			throw new OutOfMemoryError("Required array size too large");
+
+		}
+
+		Object[] bigger = new Object[elements.length * 2];
+		copyTo(bigger);
+
+		elements = bigger;
+		head = 0;
+
+	}
+
+	private class DequeIterator implements Iterator<E> {
+
+		private int currentIndex = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+
+			return currentIndex < size;
+
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) {
+
+				throw new ConcurrentModificationException("Deque changed during iteration");
+
+			}
+
+			if (!hasNext()) {
+
+				throw new NoSuchElementException("No more elements in deque!");
+
+			}
+
+			return (E) elements[index(currentIndex++)];
+
+		}
+
+	}
+
+}
@@ -4,6 +4,7 @@ import utilities.ListADT;
 
 import java.util.Arrays;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import utilities.Iterator;
@@ -22,13 +23,52 @@ public class MyArrayList<E> implements ListADT<E> {
 	private static final int DEFAULT_CAPACITY = 10;
 	private Object[] elements;
 	private int size;
+	private final int initialCapacity;
+	private final GrowthPolicy growth;
+	// Capacity above which the array is given back as the list empties
+	private int shrinkThreshold = Integer.MAX_VALUE;
+	// Counts adds and removes, so an iterator can tell the list changed under it
+	private int modCount;
 	
     /**
      * Constructs an empty MyArrayList with default capacity.
      */
 	public MyArrayList() {
 
-		elements = new Object[DEFAULT_CAPACITY];
+		this(DEFAULT_CAPACITY, GrowthPolicy.DOUBLING);
+
+	}
+
+    /**
+     * Constructs an empty MyArrayList that doubles from the given capacity.
+     *
+     * @param initialCapacity the number of elements it holds before growing.
+     * @throws IllegalArgumentException if initialCapacity is negative.
+     */
+	public MyArrayList(int initialCapacity) {
+
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+
+	}
+
+    /**
+     * Constructs an empty MyArrayList with the given capacity and growth policy.
+     *
+     * @param initialCapacity the number of elements it holds before growing.
+     * @param growth          how to size the array when it is full.
+     * @throws IllegalArgumentException if initialCapacity is negative.
+     * @throws NullPointerException     if growth is null.
+     */
+	public MyArrayList(int initialCapacity, GrowthPolicy growth) {
+
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		if (growth == null)
+			throw new NullPointerException("Growth policy cannot be null");
+
+		this.initialCapacity = initialCapacity;
+		this.growth = growth;
+		elements = new Object[initialCapacity];
 		size = 0;
 
 	}
@@ -41,13 +81,22 @@ public class MyArrayList<E> implements ListADT<E> {
 
 	@Override
 	public void clear() {
-		// Set all used positions to null for garbage collection
-		for (int i = 0; i < size; i++) {
-			elements[i] = null;
+
+		if (elements.length > shrinkThreshold) {
+			// Give a large array back instead of keeping it empty
+			elements = new Object[initialCapacity];
+
+		} else {
+			// Set all used positions to null for garbage collection
+			for (int i = 0; i < size; i++) {
+				elements[i] = null;
+
+			}
 
 		}
 		// Reset size to 0 — list becomes empty
 		size = 0;
+		modCount++;
 
 	}
 
@@ -62,19 +111,16 @@ public class MyArrayList<E> implements ListADT<E> {
 		// Ensuring Capacity
 		if (size == elements.length) {
 
-			elements = Arrays.copyOf(elements, elements.length * 2);
+			grow(size + 1);
 
 		}
 
 		// Shifting elements right
-		for (int i = size; i > index; i--) {
-
-			elements[i] = elements[i - 1];
-
-		}
+		System.arraycopy(elements, index, elements, index + 1, size - index);
 		// Insert element
 		elements[index] = toAdd;
 		size++;
+		modCount++;
 
 		return true;
 	}
@@ -87,11 +133,12 @@ public class MyArrayList<E> implements ListADT<E> {
 		// If array is full, double its size
 		if (size == elements.length) {
 			
-			elements = Arrays.copyOf(elements, elements.length * 2);
+			grow(size + 1);
 
 		}
 		// Place element at end
 		elements[size++] = toAdd;
+		modCount++;
 
 		return true;
 	}
@@ -100,18 +147,160 @@ public class MyArrayList<E> implements ListADT<E> {
 	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
 
 		if (toAdd == null) throw new NullPointerException("cannot add null collection");
+
+		return addAll(size, toAdd);
 		
-		boolean modified = false;
-		// Add items one by one
-		for (int i = 0; i < toAdd.size(); i++) {
+	}
+
+	@Override
+	public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("cannot add null collection");
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		// Another MyArrayList is copied straight from its array, anything else through its toArray
+		Object[] source;
+		int count;
+
+		if (toAdd instanceof MyArrayList) {
+
+			source = ((MyArrayList<?>) toAdd).elements;
+			count = toAdd.size();
+
+		} else {
+
+			source = toAdd.toArray();
+			count = source.length;
+
+		}
+
+		if (count == 0) {
+
+			return false;
+
+		}
+
+		// One resize for the whole batch; the subtraction cannot overflow
+		if (count > elements.length - size) {
+
+			grow(size + count);
+
+		}
+
+		// Open a gap, then fill it; a self-copy reads [0, index) and the moved tail
+		System.arraycopy(elements, index, elements, index + count, size - index);
+
+		if (toAdd == this) {
+
+			System.arraycopy(elements, 0, elements, index, index);
+			System.arraycopy(elements, index + count, elements, index * 2, count - index);
+
+		} else {
+
+			System.arraycopy(source, 0, elements, index, count);
+
+		}
+
+		size += count;
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+
+		// Shift the tail down over the range, then clear the leftover slots
+		System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+
+		int newSize = size - (toIndex - fromIndex);
+		Arrays.fill(elements, newSize, size, null);
+		size = newSize;
+		if (fromIndex < toIndex) modCount++;
+
+		shrinkIfSparse();
+
+	}
+
+	/**
+	 * Grows the internal array, if needed, so it can hold at least
+	 * minCapacity elements without another resize.
+	 *
+	 * @param minCapacity the number of elements to make room for.
+	 */
+	public void ensureCapacity(int minCapacity) {
+
+		if (minCapacity > elements.length) {
+
+			grow(minCapacity);
+
+		}
+
+	}
+
+	/**
+	 * Shrinks the internal array to the current size.
+	 */
+	public void trimToSize() {
+
+		if (size < elements.length) {
+
+			elements = Arrays.copyOf(elements, size);
+
+		}
+
+	}
+
+	/**
+	 * Returns the length of the internal array, the number of elements the
+	 * list can hold before it next grows.
+	 *
+	 * @return the current capacity.
+	 */
+	public int capacity() {
+
+		return elements.length;
+
+	}
+
+	/**
+	 * Lets the list give memory back as it empties. Once the capacity is
+	 * above threshold, clear() drops back to the initial capacity and a
+	 * remove that leaves the list under a quarter full halves the array.
+	 * Off (Integer.MAX_VALUE) by default.
+	 *
+	 * @param threshold capacity above which the array may shrink.
+	 * @throws IllegalArgumentException if threshold is negative.
+	 */
+	public void setShrinkThreshold(int threshold) {
+
+		if (threshold < 0)
+			throw new IllegalArgumentException("Illegal threshold: " + threshold);
+
+		shrinkThreshold = threshold;
+
+	}
+
+	// Asks the growth policy for a new size within [minCapacity, MAX_ARRAY_SIZE]
+	private void grow(int minCapacity) {
+
+		elements = Arrays.copyOf(elements, growth.grownCapacity(elements.length, minCapacity));
+
+	}
+
+	// Halves a large array that is less than a quarter full; the gap avoids resizing back and forth
+	private void shrinkIfSparse() {
+
+		if (elements.length > shrinkThreshold && size < elements.length / 4) {
+
+			elements = Arrays.copyOf(elements, Math.max(elements.length / 2, initialCapacity));
 
-			add(toAdd.get(i));
-			modified = true;
-			
 		}
 
-		return modified;
-		
 	}
 
 	@Override
@@ -134,13 +323,12 @@ public class MyArrayList<E> implements ListADT<E> {
 		E removed = (E) elements[index];
 
 		// Shifting elements left
-		for (int i = index; i < size - 1; i++) {
-
-			elements[i] = elements[i + 1];
-
-		}
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
 		// Reduce size and remove leftover reference
 		elements[--size] = null;
+		modCount++;
+
+		shrinkIfSparse();
 
 		return removed;
 	}
@@ -234,7 +422,9 @@ public class MyArrayList<E> implements ListADT<E> {
 	}
 	
     /**
-     * Inner iterator class to iterate over list elements.
+     * Inner iterator class to iterate over list elements. It is fail-fast:
+     * next() throws ConcurrentModificationException once the list has been
+     * added to or removed from, other than through the iterator.
      */
 	@Override
 	public Iterator<E> iterator() {
@@ -245,6 +435,7 @@ public class MyArrayList<E> implements ListADT<E> {
 	private class ArrayIterator implements Iterator<E> {
 		
 		private int currentIndex = 0;
+		private final int expectedModCount = modCount;
 		
 		@Override
 		public boolean hasNext() {
@@ -257,6 +448,7 @@ public class MyArrayList<E> implements ListADT<E> {
 		@SuppressWarnings("unchecked")
 		public E next() throws NoSuchElementException {
 			
+			if(modCount != expectedModCount) throw new ConcurrentModificationException("List changed during iteration");
 			if(!hasNext()) throw new NoSuchElementException("No more elements");
 			// Return current and increment index
 			return (E) elements[currentIndex++];
@@ -0,0 +1,380 @@
+package implementations;
+
+import utilities.QueueADT;
+import utilities.Iterator;
+import utilities.SnapshotIterator;
+import exceptions.EmptyQueueException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * FILE: MyBlockingQueue.java
+ * DESCRIPTION:
+ * A bounded, thread-safe queue for producer/consumer hand-off, backed by
+ * a fixed-capacity MyCircularQueue behind one lock.
+ *
+ * The QueueADT methods never wait: enqueue on a full queue throws
+ * IllegalStateException and dequeue on an empty one throws
+ * EmptyQueueException. put/take wait as long as needed, and
+ * offer/poll wait at most the given time.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyBlockingQueue<E> implements QueueADT<E> {
+
+	private final MyCircularQueue<E> queue;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+
+	/**
+	 * @param capacity the most elements the queue will hold.
+	 * @throws IllegalArgumentException if capacity is less than 1.
+	 */
+	public MyBlockingQueue(int capacity) throws IllegalArgumentException {
+
+		queue = new MyCircularQueue<>(capacity);
+
+	}
+
+	/**
+	 * Adds toAdd at the rear, waiting for space if the queue is full.
+	 *
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void put(E toAdd) throws NullPointerException, InterruptedException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot enqueue null element");
+
+		}
+
+		lock.lockInterruptibly();
+		try {
+
+			while (queue.isFull()) {
+
+				notFull.await();
+
+			}
+
+			add(toAdd);
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	/**
+	 * Removes the front element, waiting for one if the queue is empty.
+	 *
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public E take() throws InterruptedException {
+
+		lock.lockInterruptibly();
+		try {
+
+			while (queue.isEmpty()) {
+
+				notEmpty.await();
+
+			}
+
+			return remove();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	/**
+	 * Adds toAdd at the rear, waiting at most timeout for space.
+	 *
+	 * @return true if added, false if the queue was still full.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public boolean offer(E toAdd, long timeout, TimeUnit unit) throws NullPointerException, InterruptedException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot enqueue null element");
+
+		}
+
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+
+			while (queue.isFull()) {
+
+				if (nanos <= 0) {
+
+					return false;
+
+				}
+
+				nanos = notFull.awaitNanos(nanos);
+
+			}
+
+			add(toAdd);
+			return true;
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	/**
+	 * Removes the front element, waiting at most timeout for one.
+	 *
+	 * @return the front element, or null if the queue was still empty.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+		long nanos = unit.toNanos(timeout);
+
+		lock.lockInterruptibly();
+		try {
+
+			while (queue.isEmpty()) {
+
+				if (nanos <= 0) {
+
+					return null;
+
+				}
+
+				nanos = notEmpty.awaitNanos(nanos);
+
+			}
+
+			return remove();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	/**
+	 * @throws IllegalStateException if the queue is full.
+	 */
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException, IllegalStateException {
+
+		lock.lock();
+		try {
+
+			queue.enqueue(toAdd);
+			notEmpty.signal();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public E dequeue() throws EmptyQueueException {
+
+		lock.lock();
+		try {
+
+			E front = queue.dequeue();
+			notFull.signal();
+			return front;
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public E peek() throws EmptyQueueException {
+
+		lock.lock();
+		try {
+
+			return queue.peek();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public void dequeueAll() {
+
+		lock.lock();
+		try {
+
+			queue.dequeueAll();
+			notFull.signalAll();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		lock.lock();
+		try {
+
+			return queue.isEmpty();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		lock.lock();
+		try {
+
+			return queue.contains(toFind);
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public int search(E toFind) {
+
+		lock.lock();
+		try {
+
+			return queue.search(toFind);
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	/**
+	 * Iterates over a snapshot taken when the iterator is created.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+
+		return new SnapshotIterator<>(toArray());
+
+	}
+
+	@Override
+	public boolean equals(QueueADT<E> that) {
+
+		if (that == null) {
+
+			return false;
+
+		}
+
+		// Compare snapshots, so two queues are never locked at once
+		return Arrays.equals(this.toArray(), that.toArray());
+
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		lock.lock();
+		try {
+
+			return queue.toArray();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public E[] toArray(E[] holder) throws NullPointerException {
+
+		lock.lock();
+		try {
+
+			return queue.toArray(holder);
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public boolean isFull() {
+
+		lock.lock();
+		try {
+
+			return queue.isFull();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	@Override
+	public int size() {
+
+		lock.lock();
+		try {
+
+			return queue.size();
+
+		} finally {
+			lock.unlock();
+		}
+
+	}
+
+	// Caller holds the lock and has checked there is room
+	private void add(E toAdd) {
+
+		queue.enqueue(toAdd);
+		notEmpty.signal();
+
+	}
+
+	// Caller holds the lock and has checked the queue is not empty
+	private E remove() {
+
+		try {
+
+			E front = queue.dequeue();
+			notFull.signal();
+			return front;
+
+		} catch (EmptyQueueException e) {
+			throw new IllegalStateException(e);
+		}
+
+	}
+
+}
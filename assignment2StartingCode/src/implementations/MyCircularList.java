@@ -0,0 +1,437 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+
+/**
+ * FILE: MyCircularList.java
+ * DESCRIPTION:
+ * An array-backed ListADT whose first element can sit anywhere in the
+ * array, with the elements wrapping around the end. Adding or removing
+ * at either end is O(1), the same as a deque, and an edit in the middle
+ * moves whichever side of the index is shorter, at most size / 2
+ * elements, with System.arraycopy.
+ *
+ * Logical positions map to array slots through index(i). A shift is
+ * copied in at most three runs, split where the source or destination
+ * wraps.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyCircularList<E> implements ListADT<E> {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private Object[] elements;
+	private int head; // index of the first element
+	private int size;
+	private int modCount; // adds and removes, checked by the iterator
+
+	public MyCircularList() {
+
+		elements = new Object[DEFAULT_CAPACITY];
+
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+
+	}
+
+	@Override
+	public void clear() {
+
+		erase(head, size);
+		head = 0;
+		size = 0;
+		modCount++;
+
+	}
+
+	@Override
+	public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null element");
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		ensureRoom(1);
+		openGap(index, 1);
+		elements[index(index)] = toAdd;
+
+		return true;
+	}
+
+	@Override
+	public boolean add(E toAdd) throws NullPointerException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null element");
+
+		ensureRoom(1);
+		elements[index(size)] = toAdd;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null collection");
+
+		return addAll(size, toAdd);
+	}
+
+	@Override
+	public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null collection");
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		// A copy, so adding this list to itself is safe
+		Object[] source = toAdd.toArray();
+
+		if (source.length == 0) {
+
+			return false;
+
+		}
+
+		ensureRoom(source.length);
+		openGap(index, source.length);
+
+		// Fill the gap in at most two runs, before and after the wrap
+		int start = index(index);
+		int firstRun = Math.min(source.length, elements.length - start);
+		System.arraycopy(source, 0, elements, start, firstRun);
+		System.arraycopy(source, firstRun, elements, 0, source.length - firstRun);
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		return (E) elements[index(index)];
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E remove(int index) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		E removed = (E) elements[index(index)];
+		closeGap(index, 1);
+
+		return removed;
+	}
+
+	@Override
+	public E remove(E toRemove) throws NullPointerException {
+
+		if (toRemove == null) throw new NullPointerException("Cannot remove null element");
+
+		// Find and remove first occurrence
+		for (int i = 0; i < size; i++) {
+
+			if (toRemove.equals(elements[index(i)])) {
+
+				return remove(i);
+
+			}
+
+		}
+
+		return null;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+
+		if (fromIndex < toIndex) {
+
+			closeGap(fromIndex, toIndex - fromIndex);
+
+		}
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toChange == null) throw new NullPointerException("Cannot set null element");
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		int slot = index(index);
+		E old = (E) elements[slot];
+		elements[slot] = toChange;
+
+		return old;
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return size == 0;
+
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) throw new NullPointerException("Cannot search for null element");
+
+		for (int i = 0; i < size; i++) {
+
+			if (toFind.equals(elements[index(i)])) {
+
+				return true;
+
+			}
+
+		}
+
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] toHold) throws NullPointerException {
+
+		if (toHold == null) throw new NullPointerException("Array cannot be null");
+
+		if (toHold.length < size) {
+
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+
+		}
+
+		copyTo(toHold);
+
+		if (toHold.length > size) {
+
+			toHold[size] = null;
+
+		}
+
+		return toHold;
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		Object[] array = new Object[size];
+		copyTo(array);
+		return array;
+
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+
+		return new CircularListIterator();
+	}
+
+	/**
+	 * Array index of the element i places after the first.
+	 */
+	private int index(int i) {
+
+		return wrap(head + i);
+
+	}
+
+	// Bring an index that is at most one array length out of range back in
+	private int wrap(int i) {
+
+		if (i < 0) {
+
+			return i + elements.length;
+
+		}
+
+		return i < elements.length ? i : i - elements.length;
+
+	}
+
+	/**
+	 * Makes room for count new elements at index by moving the shorter
+	 * side outward, and counts them in size; the caller fills the gap.
+	 */
+	private void openGap(int index, int count) {
+
+		if (index < size - index) {
+			// Front is shorter: move it count slots toward the start
+			shiftLeft(head, index, count);
+			head = wrap(head - count);
+
+		} else {
+
+			shiftRight(index(index), size - index, count);
+
+		}
+
+		size += count;
+		modCount++;
+
+	}
+
+	/**
+	 * Removes count elements at index by moving the shorter side inward.
+	 */
+	private void closeGap(int index, int count) {
+
+		int after = size - index - count;
+
+		if (index < after) {
+			// Front is shorter: move it count slots toward the end
+			shiftRight(head, index, count);
+			erase(head, count);
+			head = wrap(head + count);
+
+		} else {
+
+			shiftLeft(index(index + count), after, count);
+			erase(index(size - count), count);
+
+		}
+
+		size -= count;
+		modCount++;
+
+	}
+
+	/**
+	 * Moves count elements starting at array index start distance slots
+	 * toward the start of the list. Works forward in runs that neither
+	 * wrap in the source nor in the destination.
+	 */
+	private void shiftLeft(int start, int count, int distance) {
+
+		while (count > 0) {
+
+			int target = wrap(start - distance);
+			int run = Math.min(count, Math.min(elements.length - start, elements.length - target));
+
+			System.arraycopy(elements, start, elements, target, run);
+			start = wrap(start + run);
+			count -= run;
+
+		}
+
+	}
+
+	/**
+	 * Moves count elements starting at array index start distance slots
+	 * toward the end of the list. Works backward from the last element,
+	 * so no element is overwritten before it is moved.
+	 */
+	private void shiftRight(int start, int count, int distance) {
+
+		int last = wrap(start + count - 1);
+
+		while (count > 0) {
+
+			int target = wrap(last + distance);
+			int run = Math.min(count, Math.min(last + 1, target + 1));
+
+			System.arraycopy(elements, last - run + 1, elements, target - run + 1, run);
+			last = wrap(last - run);
+			count -= run;
+
+		}
+
+	}
+
+	// Null out count slots from array index start, for garbage collection
+	private void erase(int start, int count) {
+
+		int firstRun = Math.min(count, elements.length - start);
+		Arrays.fill(elements, start, start + firstRun, null);
+		Arrays.fill(elements, 0, count - firstRun, null);
+
+	}
+
+	/**
+	 * Copy the elements first to last into the start of target: at most
+	 * two runs, before and after the wrap.
+	 */
+	private void copyTo(Object[] target) {
+
+		int firstRun = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, target, 0, firstRun);
+		System.arraycopy(elements, 0, target, firstRun, size - firstRun);
+
+	}
+
+	/**
+	 * Grow the array if extra more elements do not fit, unwrapping the
+	 * elements so the first is at 0.
+	 */
+	private void ensureRoom(int extra) {
+
+		if (extra <= elements.length - size) {
+
+			return;
+
+		}
+
+		if (size + extra < 0) // overflowed
+			throw new OutOfMemoryError("Required array size too large");
+
+		Object[] bigger = new Object[Math.max(elements.length * 2, size + extra)];
+		copyTo(bigger);
+
+		elements = bigger;
+		head = 0;
+
+	}
+
+	private class CircularListIterator implements Iterator<E> {
+
+		private int currentIndex = 0;
+		private int slot = head; // array index of element currentIndex
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+
+			return currentIndex < size;
+
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) throw new ConcurrentModificationException("List changed during iteration");
+			if (!hasNext()) throw new NoSuchElementException("No more elements");
+
+			// Step the slot rather than recompute it; a resize would have failed the check above
+			E element = (E) elements[slot];
+			slot = slot + 1 < elements.length ? slot + 1 : 0;
+			currentIndex++;
+			return element;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,323 @@
+package implementations;
+
+import utilities.QueueADT;
+import utilities.Iterator;
+import exceptions.EmptyQueueException;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+
+/**
+ * FILE: MyCircularQueue.java
+ * DESCRIPTION:
+ * A queue implementation backed by a circular array. The front moves
+ * forward on dequeue and wraps around, so nothing is ever shifted and
+ * no node is allocated per element.
+ *
+ * By default the array doubles when it fills up. A queue created with a
+ * fixed capacity never grows: isFull() reports when it is at capacity and
+ * enqueue then throws IllegalStateException.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyCircularQueue<E> implements QueueADT<E> {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private Object[] elements;
+	private int head; // index of the front element
+	private int size;
+	private int modCount; // enqueues and dequeues, checked by the iterator
+	private final boolean fixed;
+
+	/**
+	 * Growable queue.
+	 */
+	public MyCircularQueue() {
+
+		elements = new Object[DEFAULT_CAPACITY];
+		fixed = false;
+
+	}
+
+	/**
+	 * Fixed-capacity queue.
+	 *
+	 * @param capacity the most elements the queue will hold.
+	 * @throws IllegalArgumentException if capacity is less than 1.
+	 */
+	public MyCircularQueue(int capacity) throws IllegalArgumentException {
+
+		if (capacity < 1) {
+
+			throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+
+		}
+
+		elements = new Object[capacity];
+		fixed = true;
+
+	}
+
+	/**
+	 * @throws IllegalStateException if the queue has a fixed capacity and is full.
+	 */
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException, IllegalStateException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot enqueue null element");
+
+		}
+
+		if (size == elements.length) {
+
+			if (fixed) {
+
+				throw new IllegalStateException("Queue is full");
+
+			}
+
+			grow();
+
+		}
+
+		elements[index(size)] = toAdd; // Rear is size slots after the front
+		size++;
+		modCount++;
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E dequeue() throws EmptyQueueException {
+
+		if (isEmpty()) {
+
+			throw new EmptyQueueException("Queue is empty!");
+
+		}
+
+		E front = (E) elements[head];
+		elements[head] = null; // Release for garbage collection
+
+		head = index(1); // FIFO → front moves forward
+		size--;
+		modCount++;
+
+		return front;
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E peek() throws EmptyQueueException {
+
+		if (isEmpty()) {
+
+			throw new EmptyQueueException("Queue is empty");
+
+		}
+
+		return (E) elements[head]; // Front element only
+
+	}
+
+	@Override
+	public void dequeueAll() {
+
+		for (int i = 0; i < size; i++) {
+
+			elements[index(i)] = null;
+
+		}
+
+		head = 0;
+		size = 0;
+		modCount++;
+
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return size == 0;
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) {
+
+			throw new NullPointerException("Cannot search for null element");
+
+		}
+
+		return search(toFind) != -1;
+
+	}
+
+	@Override
+	public int search(E toFind) {
+		// Searching from front, position 1 to rear..
+		for (int i = 0; i < size; i++) {
+
+			if (toFind.equals(elements[index(i)])) {
+
+				return i + 1;
+
+			}
+
+		}
+
+		return -1;
+
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+
+		return new CircularQueueIterator();
+
+	}
+
+	@Override
+	public boolean equals(QueueADT<E> that) {
+
+		if (that == null || this.size() != that.size()) {
+
+			return false;
+
+		}
+
+		//converting both queues to arrays and compare....
+		Object[] thisArray = this.toArray();
+		Object[] thatArray = that.toArray();
+
+		return Arrays.equals(thisArray, thatArray);
+
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		Object[] array = new Object[size];
+		copyTo(array);
+
+		return array;
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+
+		if (holder == null) {
+
+			throw new NullPointerException("Array cannot be null");
+
+		}
+
+		if (holder.length < size) {
+
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), size);
+
+		}
+
+		copyTo(holder);
+
+		if (holder.length > size) {
+
+			holder[size] = null;
+
+		}
+
+		return holder;
+
+	}
+
+	@Override
+	public boolean isFull() {
+		// Only a fixed-capacity queue can be full
+		return fixed && size == elements.length;
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+	}
+
+	/**
+	 * Array index of the element i places behind the front.
+	 */
+	private int index(int i) {
+
+		int index = head + i;
+		return index < elements.length ? index : index - elements.length;
+
+	}
+
+	/**
+	 * Copy the elements front to rear into the start of target: at most
+	 * two runs, before and after the wrap.
+	 */
+	private void copyTo(Object[] target) {
+
+		int firstRun = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, target, 0, firstRun);
+		System.arraycopy(elements, 0, target, firstRun, size - firstRun);
+
+	}
+
+	/**
+	 * Double the array, unwrapping the elements so the front is at 0.
+	 */
+	private void grow() {
+
+		Object[] bigger = new Object[elements.length * 2];
+		copyTo(bigger);
+
+		elements = bigger;
+		head = 0;
+
+	}
+
+	private class CircularQueueIterator implements Iterator<E> {
+
+		private int currentIndex = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+
+			return currentIndex < size;
+
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) {
+
+				throw new ConcurrentModificationException("Queue changed during iteration");
+
+			}
+
+			if (!hasNext()) {
+
+				throw new NoSuchElementException("No more elements in queue!");
+
+			}
+
+			return (E) elements[index(currentIndex++)];
+
+		}
+
+	}
+
+}
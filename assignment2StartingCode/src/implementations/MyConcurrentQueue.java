@@ -0,0 +1,417 @@
+package implementations;
+
+import utilities.QueueADT;
+import utilities.Iterator;
+import exceptions.EmptyQueueException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * FILE: MyConcurrentQueue.java
+ * DESCRIPTION:
+ * A lock-free queue for any number of producer and consumer threads
+ * (Michael and Scott, 1996). It is a singly linked list with a dummy node
+ * at the front; enqueue and dequeue each move one pointer with a
+ * compare-and-set and help along a tail that another thread left behind.
+ *
+ * enqueue, dequeue, peek and isEmpty are O(1). size, contains, search,
+ * toArray and the iterator walk the list; they are exact when no other
+ * thread changes the queue meanwhile and approximate otherwise.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyConcurrentQueue<E> implements QueueADT<E> {
+
+	private static final class Node<E> {
+
+		// Cleared once the node becomes the dummy, so it is not kept alive
+		volatile E element;
+		volatile Node<E> next;
+
+		Node(E element) {
+
+			this.element = element;
+
+		}
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+			AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<MyConcurrentQueue, Node> HEAD =
+			AtomicReferenceFieldUpdater.newUpdater(MyConcurrentQueue.class, Node.class, "head");
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<MyConcurrentQueue, Node> TAIL =
+			AtomicReferenceFieldUpdater.newUpdater(MyConcurrentQueue.class, Node.class, "tail");
+
+	// head is always the dummy node; the front element is head.next
+	private volatile Node<E> head;
+	private volatile Node<E> tail;
+
+	public MyConcurrentQueue() {
+
+		head = tail = new Node<>(null);
+
+	}
+
+	@Override
+	public void enqueue(E toAdd) throws NullPointerException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot enqueue null element");
+
+		}
+
+		Node<E> node = new Node<>(toAdd);
+
+		while (true) {
+
+			Node<E> last = tail;
+			Node<E> next = last.next;
+
+			if (last != tail) {
+
+				continue; // tail moved while reading it
+
+			}
+
+			if (next == null) {
+
+				// Link after the last node, then try to swing tail to it
+				if (NEXT.compareAndSet(last, null, node)) {
+
+					TAIL.compareAndSet(this, last, node);
+					return;
+
+				}
+
+			} else {
+
+				// Another enqueue linked a node but has not moved tail yet
+				TAIL.compareAndSet(this, last, next);
+
+			}
+
+		}
+
+	}
+
+	@Override
+	public E dequeue() throws EmptyQueueException {
+
+		while (true) {
+
+			Node<E> first = head;
+			Node<E> last = tail;
+			Node<E> next = first.next;
+
+			if (first != head) {
+
+				continue;
+
+			}
+
+			if (next == null) {
+
+				throw new EmptyQueueException("Queue is empty!");
+
+			}
+
+			if (first == last) {
+
+				// Tail is behind: help it along before removing
+				TAIL.compareAndSet(this, last, next);
+				continue;
+
+			}
+
+			E element = next.element;
+
+			// next becomes the new dummy
+			if (HEAD.compareAndSet(this, first, next)) {
+
+				next.element = null;
+				first.next = first; // unlinked; lets traversals notice
+				return element;
+
+			}
+
+		}
+
+	}
+
+	@Override
+	public E peek() throws EmptyQueueException {
+
+		while (true) {
+
+			Node<E> first = head;
+			Node<E> next = first.next;
+
+			if (next == null) {
+
+				throw new EmptyQueueException("Queue is empty");
+
+			}
+
+			E element = next.element;
+
+			// A null element or a moved head means next was just dequeued
+			if (element != null && first == head) {
+
+				return element;
+
+			}
+
+		}
+
+	}
+
+	@Override
+	public void dequeueAll() {
+
+		try {
+
+			while (true) {
+
+				dequeue();
+
+			}
+
+		} catch (EmptyQueueException done) {
+			// Queue drained
+		}
+
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return firstNode() == null;
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) {
+
+			throw new NullPointerException("Cannot search for null element");
+
+		}
+
+		return search(toFind) != -1;
+
+	}
+
+	@Override
+	public int search(E toFind) {
+		// Searching from front, position 1 to rear..
+		int position = 0;
+
+		for (Node<E> node = firstNode(); node != null; node = successor(node)) {
+
+			E element = node.element;
+
+			if (element != null) {
+
+				position++;
+
+				if (toFind.equals(element)) {
+
+					return position;
+
+				}
+
+			}
+
+		}
+
+		return -1;
+
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+
+		return new ConcurrentQueueIterator();
+
+	}
+
+	@Override
+	public boolean equals(QueueADT<E> that) {
+
+		if (that == null) {
+
+			return false;
+
+		}
+
+		return Arrays.equals(this.toArray(), that.toArray());
+
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		MyArrayList<Object> elements = new MyArrayList<>();
+
+		for (Node<E> node = firstNode(); node != null; node = successor(node)) {
+
+			E element = node.element;
+
+			if (element != null) {
+
+				elements.add(element);
+
+			}
+
+		}
+
+		return elements.toArray();
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+
+		if (holder == null) {
+
+			throw new NullPointerException("Array cannot be null");
+
+		}
+
+		Object[] elements = toArray();
+
+		if (holder.length < elements.length) {
+
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), elements.length);
+
+		}
+
+		System.arraycopy(elements, 0, holder, 0, elements.length);
+
+		if (holder.length > elements.length) {
+
+			holder[elements.length] = null;
+
+		}
+
+		return holder;
+
+	}
+
+	@Override
+	public boolean isFull() {
+		// Unbounded, so never full
+		return false;
+	}
+
+	@Override
+	public int size() {
+
+		int count = 0;
+
+		for (Node<E> node = firstNode(); node != null; node = successor(node)) {
+
+			if (node.element != null) {
+
+				count++;
+
+			}
+
+		}
+
+		return count;
+
+	}
+
+	// head.next, read from a head that was still current afterwards
+	private Node<E> firstNode() {
+
+		while (true) {
+
+			Node<E> first = head;
+			Node<E> next = first.next;
+
+			if (first == head) {
+
+				return next;
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Next node after node, restarting from the front if node was
+	 * dequeued meanwhile (its next points to itself).
+	 */
+	private Node<E> successor(Node<E> node) {
+
+		Node<E> next = node.next;
+		return next == node ? firstNode() : next;
+
+	}
+
+	private class ConcurrentQueueIterator implements Iterator<E> {
+
+		private Node<E> nextNode;
+		private E nextElement;
+
+		ConcurrentQueueIterator() {
+
+			advance(firstNode());
+
+		}
+
+		// Move to the first node from node on that still holds an element
+		private void advance(Node<E> node) {
+
+			E element = null;
+
+			while (node != null && (element = node.element) == null) {
+
+				node = successor(node);
+
+			}
+
+			nextNode = node;
+			nextElement = element;
+
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			return nextNode != null;
+
+		}
+
+		@Override
+		public E next() throws NoSuchElementException {
+
+			if (!hasNext()) {
+
+				throw new NoSuchElementException("No more elements in queue!");
+
+			}
+
+			E element = nextElement;
+			advance(successor(nextNode));
+			return element;
+
+		}
+
+	}
+
+}
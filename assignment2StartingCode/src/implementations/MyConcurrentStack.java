@@ -0,0 +1,404 @@
+package implementations;
+
+import utilities.StackADT;
+import utilities.Iterator;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ *
+ * FILE: MyConcurrentStack.java
+ *
+ * DESCRIPTION:
+ * A lock-free stack for any number of threads (Treiber, 1986): a singly
+ * linked list whose top is replaced with one compare-and-set per push or
+ * pop.
+ *
+ * Nodes never change once pushed, so one read of top is a consistent
+ * picture of the whole stack. search, contains, toArray, equals, size and
+ * the iterator all work on such a snapshot.
+ *
+ * Optionally, a push and a pop that both lost a race for top can meet in
+ * an elimination array and hand the element over directly, without
+ * touching top at all (Hendler, Shavit and Yerushalmi, 2004). This helps
+ * only under heavy contention.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyConcurrentStack<E> implements StackADT<E> {
+
+	/** How long a push waits in the elimination array for a pop */
+	private static final int ELIMINATION_SPINS = 64;
+
+	private static final class Node<E> {
+
+		final E element;
+		final Node<E> next;
+
+		Node(E element, Node<E> next) {
+
+			this.element = element;
+			this.next = next;
+
+		}
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<MyConcurrentStack, Node> TOP =
+			AtomicReferenceFieldUpdater.newUpdater(MyConcurrentStack.class, Node.class, "top");
+
+	private volatile Node<E> top;
+
+	/** Pushes waiting to be taken by a pop; null when elimination is off */
+	private final AtomicReferenceArray<Node<E>> elimination;
+
+	/**
+	 * Stack without elimination.
+	 */
+	public MyConcurrentStack() {
+
+		this(0);
+
+	}
+
+	/**
+	 * @param eliminationSlots size of the elimination array, about the
+	 *                         number of threads expected to collide; 0
+	 *                         turns elimination off.
+	 */
+	public MyConcurrentStack(int eliminationSlots) {
+
+		if (eliminationSlots < 0) {
+
+			throw new IllegalArgumentException("eliminationSlots cannot be negative: " + eliminationSlots);
+
+		}
+
+		elimination = eliminationSlots == 0 ? null : new AtomicReferenceArray<>(eliminationSlots);
+
+	}
+
+	@Override
+	public void push(E toAdd) throws NullPointerException {
+
+		if (toAdd == null) {
+
+			throw new NullPointerException("Cannot push null elemnt");
+
+		}
+
+		while (true) {
+
+			Node<E> oldTop = top;
+			Node<E> node = new Node<>(toAdd, oldTop);
+
+			if (TOP.compareAndSet(this, oldTop, node)) {
+
+				return;
+
+			}
+
+			// Lost the race: try to meet a pop instead
+			if (elimination != null && eliminatePush(node)) {
+
+				return;
+
+			}
+
+		}
+
+	}
+
+	@Override
+	public E pop() throws EmptyStackException {
+
+		while (true) {
+
+			Node<E> oldTop = top;
+
+			if (oldTop == null) {
+
+				throw new EmptyStackException();
+
+			}
+
+			if (TOP.compareAndSet(this, oldTop, oldTop.next)) {
+
+				return oldTop.element;
+
+			}
+
+			if (elimination != null) {
+
+				E element = eliminatePop();
+
+				if (element != null) {
+
+					return element;
+
+				}
+
+			}
+
+		}
+
+	}
+
+	@Override
+	public E peek() throws EmptyStackException {
+
+		Node<E> oldTop = top;
+
+		if (oldTop == null) {
+
+			throw new EmptyStackException();
+
+		}
+
+		return oldTop.element;
+
+	}
+
+	@Override
+	public void clear() {
+
+		top = null;
+
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return top == null;
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		// Returning in stack order (top to bottom)....
+		Node<E> snapshot = top;
+		Object[] array = new Object[length(snapshot)];
+
+		int i = 0;
+		for (Node<E> node = snapshot; node != null; node = node.next) {
+
+			array[i++] = node.element;
+
+		}
+
+		return array;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] holder) throws NullPointerException {
+
+		if (holder == null) {
+
+			throw new NullPointerException("Array cannot be null");
+
+		}
+
+		Object[] stackArray = toArray(); // One snapshot, top → bottom
+
+		if (holder.length < stackArray.length) {
+
+			holder = (E[]) java.lang.reflect.Array.newInstance(holder.getClass().getComponentType(), stackArray.length);
+
+		}
+
+		System.arraycopy(stackArray, 0, holder, 0, stackArray.length);
+
+		if (holder.length > stackArray.length) {
+
+			holder[stackArray.length] = null;
+
+		}
+
+		return holder;
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) {
+
+			throw new NullPointerException("Cannot search for null element");
+
+		}
+
+		return search(toFind) != -1;
+	}
+
+	@Override
+	public int search(E toFind) {
+
+		// Position is 1-based from the top
+		int position = 1;
+		for (Node<E> node = top; node != null; node = node.next, position++) {
+
+			if (toFind.equals(node.element)) {
+
+				return position;
+
+			}
+
+		}
+		return -1;
+	}
+
+	/**
+	 * Iterates top to bottom over the stack as it was when the iterator
+	 * was created.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+
+		return new NodeIterator(top);
+
+	}
+
+	/**
+	 * The same as iterator(): the nodes never change once pushed, so
+	 * walking down from the top is already a snapshot and needs no copy.
+	 */
+	@Override
+	public Iterator<E> snapshotIterator() {
+
+		return iterator();
+
+	}
+
+	@Override
+	public boolean equals(StackADT<E> that) {
+
+		if (that == null) {
+
+			return false;
+
+		}
+
+		return Arrays.equals(this.toArray(), that.toArray());
+
+	}
+
+	/**
+	 * Counts a snapshot, so O(n).
+	 */
+	@Override
+	public int size() {
+
+		return length(top);
+
+	}
+
+	@Override
+	public boolean stackOverflow() {
+		// Linked nodes, so the stack never overflows....
+		return false;
+
+	}
+
+	private static int length(Node<?> node) {
+
+		int count = 0;
+		for (; node != null; node = node.next) {
+
+			count++;
+
+		}
+		return count;
+
+	}
+
+	/**
+	 * Offer node in a random slot and wait briefly for a pop to take it.
+	 *
+	 * @return true if a pop took the element.
+	 */
+	private boolean eliminatePush(Node<E> node) {
+
+		int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+
+		if (!elimination.compareAndSet(slot, null, node)) {
+
+			return false; // slot busy, go back to the stack
+
+		}
+
+		for (int i = 0; i < ELIMINATION_SPINS; i++) {
+
+			if (elimination.get(slot) != node) {
+
+				return true;
+
+			}
+
+		}
+
+		// Withdraw; if that fails a pop took it just now
+		return !elimination.compareAndSet(slot, node, null);
+
+	}
+
+	/**
+	 * Take a waiting push from a random slot, if there is one.
+	 *
+	 * @return the element, or null if there was nothing to take.
+	 */
+	private E eliminatePop() {
+
+		int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+		Node<E> node = elimination.get(slot);
+
+		if (node != null && elimination.compareAndSet(slot, node, null)) {
+
+			return node.element;
+
+		}
+
+		return null;
+
+	}
+
+	// Iterator Class — iterates from top downward over a snapshot
+	private class NodeIterator implements Iterator<E> {
+
+		private Node<E> current;
+
+		NodeIterator(Node<E> top) {
+
+			current = top;
+
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			return current != null;
+
+		}
+
+		@Override
+		public E next() throws NoSuchElementException {
+
+			if (!hasNext()) {
+
+				throw new NoSuchElementException("No more elements in stack !");
+
+			}
+
+			E element = current.element;
+			current = current.next;
+			return element;
+
+		}
+	}
+}
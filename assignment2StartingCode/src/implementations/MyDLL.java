@@ -2,6 +2,7 @@ package implementations;
 
 import utilities.ListADT;
 import utilities.Iterator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import java.util.Arrays;
 
@@ -19,6 +20,7 @@ public class MyDLL<E> implements ListADT<E> {
 	private MyDLLNode<E> head;
 	private MyDLLNode<E> tail;
 	private int size;
+	private int modCount; // adds and removes, checked by the iterator
 	
 	public MyDLL() {
 		// Clearing references allows garbage collection
@@ -41,6 +43,7 @@ public class MyDLL<E> implements ListADT<E> {
 		head = null;
 		tail = null;
 		size = 0;
+		modCount++;
 		
 	}
 
@@ -67,6 +70,7 @@ public class MyDLL<E> implements ListADT<E> {
 			current.prev.next = newNode;
 			current.prev = newNode;
 			size++;
+			modCount++;
 			
 		}
 		
@@ -88,6 +92,7 @@ public class MyDLL<E> implements ListADT<E> {
 			tail.next = newNode;
 			tail = newNode;
 			size++;
+			modCount++;
 		}
 		
 		return true;
@@ -98,14 +103,112 @@ public class MyDLL<E> implements ListADT<E> {
 		
 		if(toAdd == null) throw new NullPointerException("Cannot add null collection");
 		
-		boolean modified = false; 
-		// Add elements one by one
-		for(int i = 0; i < toAdd.size(); i++) {
+		return addAll(size, toAdd);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+		
+		if(toAdd == null) throw new NullPointerException("Cannot add null collection");
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		
+		// toArray walks a linked source once instead of calling get(i) per element
+		Object[] source = toAdd.toArray();
+		
+		if (source.length == 0) {
+			
+			return false;
+			
+		}
+		
+		// Build the new nodes as a chain of their own, then splice it in
+		MyDLLNode<E> first = new MyDLLNode<>((E) source[0]);
+		MyDLLNode<E> last = first;
+		
+		for (int i = 1; i < source.length; i++) {
+			
+			last.next = new MyDLLNode<>((E) source[i], last, null);
+			last = last.next;
+			
+		}
+		
+		MyDLLNode<E> after = index == size ? null : getNode(index);
+		MyDLLNode<E> before = after == null ? tail : after.prev;
+		
+		first.prev = before;
+		last.next = after;
+		
+		if (before == null) {
+			
+			head = first;
+			
+		}else {
+			
+			before.next = first;
+			
+		}
+		
+		if (after == null) {
+			
+			tail = last;
+			
+		}else {
+			
+			after.prev = last;
 			
-			add(toAdd.get(i));
-			modified = true;
 		}
-		return modified;
+		
+		size += source.length;
+		modCount++;
+		
+		return true;
+	}
+	
+	@Override
+	public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+		
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+		
+		if (fromIndex == toIndex) {
+			
+			return;
+			
+		}
+		
+		// Unlink the whole run of nodes at once
+		MyDLLNode<E> first = getNode(fromIndex);
+		MyDLLNode<E> last = first;
+		
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			
+			last = last.next;
+			
+		}
+		
+		if (first.prev == null) {
+			
+			head = last.next;
+			
+		}else {
+			
+			first.prev.next = last.next;
+			
+		}
+		
+		if (last.next == null) {
+			
+			tail = first.prev;
+			
+		}else {
+			
+			last.next.prev = first.prev;
+			
+		}
+		
+		size -= toIndex - fromIndex;
+		modCount++;
 	}
 
 	@Override
@@ -142,6 +245,7 @@ public class MyDLL<E> implements ListADT<E> {
 		}
 		
 		size--;
+		modCount++;
 		
 		return toRemove.getElement();
 	}
@@ -285,6 +389,7 @@ public class MyDLL<E> implements ListADT<E> {
 			
 		}
 		size++;
+		modCount++;
 	}
 	
 	/**
@@ -325,6 +430,7 @@ public class MyDLL<E> implements ListADT<E> {
 	private class DLLIterator implements Iterator<E> {
 		
 		private MyDLLNode<E> current = head;
+		private final int expectedModCount = modCount;
 		
 		@Override
 		public boolean hasNext() {
@@ -336,6 +442,7 @@ public class MyDLL<E> implements ListADT<E> {
 		@Override
 		public E next() throws NoSuchElementException {
 			
+			if (modCount != expectedModCount) throw new ConcurrentModificationException("List changed during iteration");
 			if (!hasNext()) throw new NoSuchElementException("No more elements");
 			
 			E element = current.getElement();
@@ -3,6 +3,7 @@ package implementations;
 import utilities.QueueADT;
 import utilities.Iterator;
 import exceptions.EmptyQueueException;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import java.util.Arrays;
 
@@ -18,6 +19,7 @@ import java.util.Arrays;
 public class MyQueue<E> implements QueueADT<E> {
 	
 	private MyDLL<E> list;
+	private int modCount; // enqueues and dequeues, checked by the iterator
 	
 	public MyQueue() {
 		
@@ -35,6 +37,7 @@ public class MyQueue<E> implements QueueADT<E> {
 		}
 		
 		list.add(toAdd);
+		modCount++;
 		
 	}
 
@@ -47,6 +50,7 @@ public class MyQueue<E> implements QueueADT<E> {
 			
 		}
 		
+		modCount++;
 		return list.remove(0); // FIFO → remove from front
 		
 	}
@@ -68,6 +72,7 @@ public class MyQueue<E> implements QueueADT<E> {
 	public void dequeueAll() {
 		
 		list.clear();
+		modCount++;
 		
 	}
 
@@ -166,6 +171,7 @@ public class MyQueue<E> implements QueueADT<E> {
 	private class QueueIterator implements Iterator<E> {
 		
 		private int currentIndex;
+		private final int expectedModCount = modCount;
 		
 		public QueueIterator() {
 			
@@ -183,6 +189,12 @@ public class MyQueue<E> implements QueueADT<E> {
 		@Override
 		public E next() throws NoSuchElementException{ 
 			
+			if (modCount != expectedModCount) {
+				
+				throw new ConcurrentModificationException("Queue changed during iteration");
+				
+			}
+			
 			if (!hasNext()) {
 				
 				throw new NoSuchElementException("No more elements in queue!");
@@ -3,6 +3,7 @@ package implementations;
 import utilities.StackADT;
 import utilities.Iterator;
 import java.util.EmptyStackException;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import java.util.Arrays;
 
@@ -21,6 +22,7 @@ import java.util.Arrays;
 public class MyStack<E> implements StackADT<E> {
 		
 	private MyArrayList<E> list;
+	private int modCount; // pushes and pops, checked by the iterator
 	
 	public MyStack() {
 		
@@ -38,6 +40,7 @@ public class MyStack<E> implements StackADT<E> {
 		}
 		
 		list.add(toAdd); // Push to top (end of ArrayList)
+		modCount++;
 		
 	}
 
@@ -50,6 +53,7 @@ public class MyStack<E> implements StackADT<E> {
 			
 		}
 		
+		modCount++;
 		return list.remove(list.size() - 1); // Remove from top
 	}
 
@@ -70,6 +74,7 @@ public class MyStack<E> implements StackADT<E> {
 	public void clear() {
 		
 		list.clear();
+		modCount++;
 		
 	}
 
@@ -195,6 +200,7 @@ public class MyStack<E> implements StackADT<E> {
 	private class StackIterator implements Iterator<E>{
 		
 		private int currentIndex;
+		private final int expectedModCount = modCount;
 		
 		public StackIterator() {
 			
@@ -212,6 +218,12 @@ public class MyStack<E> implements StackADT<E> {
 		@Override
 		public E next() throws NoSuchElementException{
 			
+			if(modCount != expectedModCount) {
+				
+				throw new ConcurrentModificationException("Stack changed during iteration");
+				
+			}
+			
 			if(!hasNext()) {
 				
 				throw new NoSuchElementException("No more elements in stack !");
@@ -0,0 +1,551 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * FILE: MyTreeList.java
+ * Balanced-tree implementation of the ListADT interface.
+ * Elements are kept in order in an implicit treap: a binary tree ordered
+ * by position, where every node knows the size of its subtree and carries
+ * a random priority that keeps the expected depth O(log n).
+ *
+ * get, set, add(index) and remove(index) are expected O(log n) at any
+ * position, so large sequences can be edited anywhere without walking the
+ * list as MyDLL does. contains, remove(E) and the iterator are O(n).
+ * addAll(index) builds a treap from the new elements in O(k) and joins it
+ * in with one split and two merges.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyTreeList<E> implements ListADT<E> {
+
+	private static final class Node {
+
+		Object element;
+		final int priority;
+		int size = 1;
+		Node left;
+		Node right;
+
+		Node(Object element, int priority) {
+
+			this.element = element;
+			this.priority = priority;
+
+		}
+
+	}
+
+	private Node root;
+	private int modCount; // adds and removes, checked by the iterator
+
+	// xorshift state for node priorities
+	private int seed = 0x2545F491;
+
+	public MyTreeList() {
+
+		root = null;
+
+	}
+
+	@Override
+	public int size() {
+
+		return size(root);
+
+	}
+
+	@Override
+	public void clear() {
+
+		root = null;
+		modCount++;
+
+	}
+
+	@Override
+	public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null element");
+		if (index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+
+		root = insert(root, index, new Node(toAdd, nextPriority()));
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public boolean add(E toAdd) throws NullPointerException {
+
+		return add(size(), toAdd);
+
+	}
+
+	@Override
+	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null collection");
+
+		return addAll(size(), toAdd);
+	}
+
+	@Override
+	public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null collection");
+		if (index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+
+		// A copy, so adding this list to itself is safe
+		Object[] source = toAdd.toArray();
+
+		if (source.length == 0) {
+
+			return false;
+
+		}
+
+		// Cut the tree at index and join the new treap in between
+		Node parts = new Node(null, 0);
+
+		split(root, index, parts);
+		root = merge(merge(parts.left, build(source)), parts.right);
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+
+		if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+
+		// Cut the tree into [0, from), [from, to) and [to, size), then join the outer two
+		Node parts = new Node(null, 0);
+
+		split(root, toIndex, parts);
+		Node rest = parts.right;
+		split(parts.left, fromIndex, parts);
+
+		root = merge(parts.left, rest);
+		if (fromIndex < toIndex) modCount++;
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) throws IndexOutOfBoundsException {
+
+		return (E) getNode(index).element;
+
+	}
+
+	@Override
+	public E remove(int index) throws IndexOutOfBoundsException {
+
+		E removed = get(index); // getNode handles bounds checking
+		root = delete(root, index);
+		modCount++;
+
+		return removed;
+	}
+
+	@Override
+	public E remove(E toRemove) throws NullPointerException {
+
+		if (toRemove == null) throw new NullPointerException("Cannot remove null element");
+
+		// Find the position of the first occurrence, then remove by index
+		int index = 0;
+		Iterator<E> it = iterator();
+		while (it.hasNext()) {
+
+			if (toRemove.equals(it.next())) {
+
+				return remove(index);
+
+			}
+			index++;
+
+		}
+
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toChange == null) throw new NullPointerException("Cannot set null element");
+
+		Node node = getNode(index);
+		E old = (E) node.element;
+		node.element = toChange;
+
+		return old;
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return root == null;
+
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) throw new NullPointerException("Cannot search for null element");
+
+		Iterator<E> it = iterator();
+		while (it.hasNext()) {
+
+			if (toFind.equals(it.next())) {
+
+				return true;
+
+			}
+
+		}
+
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] toHold) throws NullPointerException {
+
+		if (toHold == null) throw new NullPointerException("Array cannot be null");
+
+		int size = size();
+
+		if (toHold.length < size) {
+
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+
+		}
+
+		copyInto(toHold);
+
+		if (toHold.length > size) {
+
+			toHold[size] = null;
+
+		}
+
+		return toHold;
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		Object[] array = new Object[size()];
+		copyInto(array);
+		return array;
+
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+
+		return new TreeIterator();
+	}
+
+	private static int size(Node node) {
+
+		return node == null ? 0 : node.size;
+
+	}
+
+	private static Node update(Node node) {
+
+		node.size = 1 + size(node.left) + size(node.right);
+		return node;
+
+	}
+
+	private int nextPriority() {
+
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+
+	}
+
+	/**
+	 * Returns the node at the given index by descending from the root,
+	 * using subtree sizes to choose a side.
+	 */
+	private Node getNode(int index) {
+
+		if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+
+		Node node = root;
+
+		while (true) {
+
+			int leftSize = size(node.left);
+
+			if (index < leftSize) {
+
+				node = node.left;
+
+			} else if (index > leftSize) {
+
+				index -= leftSize + 1;
+				node = node.right;
+
+			} else {
+
+				return node;
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Inserts node at position index of subtree tree and returns the new
+	 * subtree root. node goes in where its priority fits and the subtree
+	 * below is split around it.
+	 */
+	private static Node insert(Node tree, int index, Node node) {
+
+		if (tree == null) {
+
+			return node;
+
+		}
+
+		if (node.priority > tree.priority) {
+
+			split(tree, index, node);
+			return update(node);
+
+		}
+
+		int leftSize = size(tree.left);
+
+		if (index <= leftSize) {
+
+			tree.left = insert(tree.left, index, node);
+
+		} else {
+
+			tree.right = insert(tree.right, index - leftSize - 1, node);
+
+		}
+
+		return update(tree);
+
+	}
+
+	/**
+	 * Splits tree into its first count elements and the rest, stored as
+	 * into.left and into.right.
+	 */
+	private static void split(Node tree, int count, Node into) {
+
+		if (tree == null) {
+
+			into.left = null;
+			into.right = null;
+			return;
+
+		}
+
+		int leftSize = size(tree.left);
+
+		if (leftSize < count) {
+			// tree and its left side belong to the first part
+			split(tree.right, count - leftSize - 1, into);
+			tree.right = into.left;
+			into.left = update(tree);
+
+		} else {
+
+			split(tree.left, count, into);
+			tree.left = into.right;
+			into.right = update(tree);
+
+		}
+
+	}
+
+	/**
+	 * Builds a treap holding elements in order, in one pass: the right spine
+	 * is kept on a stack, and each new node adopts the spine nodes of lower
+	 * priority as its left subtree.
+	 */
+	private Node build(Object[] elements) {
+
+		Node[] spine = new Node[elements.length];
+		int top = 0;
+
+		for (Object element : elements) {
+
+			Node node = new Node(element, nextPriority());
+			Node below = null;
+
+			while (top > 0 && spine[top - 1].priority < node.priority) {
+				// Popped subtrees are complete, so their sizes are final
+				below = update(spine[--top]);
+
+			}
+
+			node.left = below;
+
+			if (top > 0) {
+
+				spine[top - 1].right = node;
+
+			}
+
+			spine[top++] = node;
+
+		}
+
+		while (top > 1) {
+
+			update(spine[--top]);
+
+		}
+
+		return update(spine[0]);
+
+	}
+
+	/**
+	 * Number of nodes on the longest path from the root, for tests.
+	 */
+	int height() {
+
+		return height(root);
+
+	}
+
+	private static int height(Node node) {
+
+		return node == null ? 0 : 1 + Math.max(height(node.left), height(node.right));
+
+	}
+
+	/**
+	 * Removes position index from subtree tree and returns the new subtree root.
+	 */
+	private static Node delete(Node tree, int index) {
+
+		int leftSize = size(tree.left);
+
+		if (index < leftSize) {
+
+			tree.left = delete(tree.left, index);
+
+		} else if (index > leftSize) {
+
+			tree.right = delete(tree.right, index - leftSize - 1);
+
+		} else {
+
+			return merge(tree.left, tree.right);
+
+		}
+
+		return update(tree);
+
+	}
+
+	/**
+	 * Joins two subtrees where every element of first comes before second.
+	 */
+	private static Node merge(Node first, Node second) {
+
+		if (first == null) {
+
+			return second;
+
+		}
+
+		if (second == null) {
+
+			return first;
+
+		}
+
+		if (first.priority > second.priority) {
+
+			first.right = merge(first.right, second);
+			return update(first);
+
+		}
+
+		second.left = merge(first, second.left);
+		return update(second);
+
+	}
+
+	private void copyInto(Object[] array) {
+
+		int i = 0;
+		Iterator<E> it = iterator();
+		while (it.hasNext()) {
+
+			array[i++] = it.next();
+
+		}
+
+	}
+
+	// In-order walk; the stack holds the nodes whose left side is in progress
+	private class TreeIterator implements Iterator<E> {
+
+		private final MyStack<Node> path = new MyStack<>();
+		private final int expectedModCount = modCount;
+
+		TreeIterator() {
+
+			pushLeft(root);
+
+		}
+
+		private void pushLeft(Node node) {
+
+			for (; node != null; node = node.left) {
+
+				path.push(node);
+
+			}
+
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			return !path.isEmpty();
+
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) throw new ConcurrentModificationException("List changed during iteration");
+			if (!hasNext()) throw new NoSuchElementException("No more elements");
+
+			Node node = path.pop();
+			pushLeft(node.right);
+			return (E) node.element;
+
+		}
+
+	}
+
+}
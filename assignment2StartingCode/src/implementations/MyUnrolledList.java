@@ -0,0 +1,630 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+
+/**
+ * FILE: MyUnrolledList.java
+ * Unrolled linked list implementation of the ListADT interface.
+ * Each node holds a small array of up to NODE_CAPACITY elements, so a scan
+ * reads mostly contiguous memory and there is one node per 64 elements
+ * instead of one per element as in MyDLL.
+ *
+ * get, set, add(index) and remove(index) walk O(n / NODE_CAPACITY) nodes
+ * from the nearer end and then shift at most one node's worth of
+ * elements. A full node splits in half on insert; a node that falls below
+ * MIN_FILL on remove takes elements from, or merges with, its successor.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+
+public class MyUnrolledList<E> implements ListADT<E> {
+
+	/** Elements per node */
+	private static final int NODE_CAPACITY = 64;
+
+	/** A node with fewer elements than this is refilled from its successor */
+	private static final int MIN_FILL = NODE_CAPACITY / 4;
+
+	private static final class Node {
+
+		final Object[] elements = new Object[NODE_CAPACITY];
+		int count;
+		Node prev;
+		Node next;
+
+	}
+
+	/** A node and an index within it, as found by locate */
+	private static final class Position {
+
+		final Node node;
+		final int offset;
+
+		Position(Node node, int offset) {
+
+			this.node = node;
+			this.offset = offset;
+
+		}
+
+	}
+
+	private Node head;
+	private Node tail;
+	private int size;
+	private int modCount; // adds and removes, checked by the iterator
+
+	public MyUnrolledList() {
+
+		head = null;
+		tail = null;
+		size = 0;
+
+	}
+
+	@Override
+	public int size() {
+
+		return size;
+
+	}
+
+	@Override
+	public void clear() {
+		// Dropping the nodes lets them be garbage collected
+		head = null;
+		tail = null;
+		size = 0;
+		modCount++;
+
+	}
+
+	@Override
+	public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null element");
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		if (index == size) {
+
+			return add(toAdd);
+
+		}
+
+		Position position = locate(index);
+		Node node = position.node;
+		int at = position.offset;
+
+		if (node.count == NODE_CAPACITY) {
+			// Move the upper half to a new node, then insert into whichever half holds index
+			splitAt(node, node.count / 2);
+
+			if (at > node.count) {
+
+				at -= node.count;
+				node = node.next;
+
+			}
+
+		}
+
+		// Shift the rest of the node right by one
+		System.arraycopy(node.elements, at, node.elements, at + 1, node.count - at);
+		node.elements[at] = toAdd;
+		node.count++;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public boolean add(E toAdd) throws NullPointerException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null element");
+
+		// Appends fill the tail completely before starting a new node
+		if (tail == null || tail.count == NODE_CAPACITY) {
+
+			linkAfter(tail, new Node());
+
+		}
+
+		tail.elements[tail.count++] = toAdd;
+		size++;
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null collection");
+
+		return addAll(size, toAdd);
+	}
+
+	@Override
+	public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toAdd == null) throw new NullPointerException("Cannot add null collection");
+		if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		// A copy, so adding this list to itself is safe
+		Object[] source = toAdd.toArray();
+
+		if (source.length == 0) {
+
+			return false;
+
+		}
+
+		// The new elements go after before; split the node at index if index falls inside it
+		Node before;
+
+		if (index == size) {
+
+			before = tail;
+
+		} else {
+
+			Position position = locate(index);
+
+			if (position.offset == 0) {
+
+				before = position.node.prev;
+
+			} else {
+
+				splitAt(position.node, position.offset);
+				before = position.node;
+
+			}
+
+		}
+
+		int copied = 0;
+
+		// Top up before, then copy the rest into new full nodes
+		if (before != null && before.count < NODE_CAPACITY) {
+
+			copied = Math.min(NODE_CAPACITY - before.count, source.length);
+			System.arraycopy(source, 0, before.elements, before.count, copied);
+			before.count += copied;
+
+		}
+
+		while (copied < source.length) {
+
+			Node node = new Node();
+			node.count = Math.min(NODE_CAPACITY, source.length - copied);
+			System.arraycopy(source, copied, node.elements, 0, node.count);
+			copied += node.count;
+
+			linkAfter(before, node);
+			before = node;
+
+		}
+
+		size += source.length;
+		modCount++;
+
+		return true;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+
+		if (fromIndex == toIndex) {
+
+			return;
+
+		}
+
+		Position position = locate(fromIndex);
+		Node first = position.node;
+		Node last = first;
+		Node node = first;
+		int at = position.offset;
+		int remaining = toIndex - fromIndex;
+
+		size -= remaining;
+		modCount++;
+
+		// Cut the range out node by node; nodes emptied completely are unlinked
+		while (remaining > 0) {
+
+			int removed = Math.min(node.count - at, remaining);
+
+			System.arraycopy(node.elements, at + removed, node.elements, at, node.count - at - removed);
+			Arrays.fill(node.elements, node.count - removed, node.count, null);
+			node.count -= removed;
+			remaining -= removed;
+
+			Node next = node.next;
+
+			if (node.count == 0) {
+
+				unlink(node);
+
+			}
+
+			last = node;
+			node = next;
+			at = 0;
+
+		}
+
+		// Both ends of the cut may be left short; the far end first, as first may refill from it
+		if (last != first && last.count > 0 && last.count < MIN_FILL && last.next != null) {
+
+			refill(last);
+
+		}
+
+		if (first.count > 0 && first.count < MIN_FILL && first.next != null) {
+
+			refill(first);
+
+		}
+
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		Position position = locate(index);
+		return (E) position.node.elements[position.offset];
+
+	}
+
+	@Override
+	public E remove(int index) throws IndexOutOfBoundsException {
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		Position position = locate(index);
+		return removeAt(position.node, position.offset);
+
+	}
+
+	@Override
+	public E remove(E toRemove) throws NullPointerException {
+
+		if (toRemove == null) throw new NullPointerException("Cannot remove null element");
+
+		// Find first occurrence, node by node
+		for (Node node = head; node != null; node = node.next) {
+
+			for (int i = 0; i < node.count; i++) {
+
+				if (toRemove.equals(node.elements[i])) {
+
+					return removeAt(node, i);
+
+				}
+
+			}
+
+		}
+
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+
+		if (toChange == null) throw new NullPointerException("Cannot set null element");
+
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+		Position position = locate(index);
+		E old = (E) position.node.elements[position.offset];
+		position.node.elements[position.offset] = toChange;
+
+		return old;
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		return size == 0;
+
+	}
+
+	@Override
+	public boolean contains(E toFind) throws NullPointerException {
+
+		if (toFind == null) throw new NullPointerException("Cannot search for null element");
+
+		for (Node node = head; node != null; node = node.next) {
+
+			for (int i = 0; i < node.count; i++) {
+
+				if (toFind.equals(node.elements[i])) {
+
+					return true;
+
+				}
+
+			}
+
+		}
+
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray(E[] toHold) throws NullPointerException {
+
+		if (toHold == null) throw new NullPointerException("Array cannot be null");
+
+		if (toHold.length < size) {
+
+			toHold = (E[]) java.lang.reflect.Array.newInstance(toHold.getClass().getComponentType(), size);
+
+		}
+
+		copyInto(toHold);
+
+		if (toHold.length > size) {
+
+			toHold[size] = null;
+
+		}
+
+		return toHold;
+	}
+
+	@Override
+	public Object[] toArray() {
+
+		Object[] array = new Object[size];
+		copyInto(array);
+		return array;
+
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+
+		return new UnrolledIterator();
+	}
+
+	/**
+	 * Returns the node holding index and the position within that node.
+	 * Walks from whichever end is nearer.
+	 */
+	private Position locate(int index) {
+
+		Node node;
+
+		if (index < size / 2) {
+
+			node = head;
+			while (index >= node.count) {
+
+				index -= node.count;
+				node = node.next;
+
+			}
+
+		} else {
+			// Count back from the end
+			node = tail;
+			int start = size - node.count;
+			while (index < start) {
+
+				node = node.prev;
+				start -= node.count;
+
+			}
+			index -= start;
+
+		}
+
+		return new Position(node, index);
+
+	}
+
+	/**
+	 * Removes the element at position at of node and rebalances the node.
+	 */
+	@SuppressWarnings("unchecked")
+	private E removeAt(Node node, int at) {
+
+		E removed = (E) node.elements[at];
+
+		// Shift the rest of the node left by one
+		System.arraycopy(node.elements, at + 1, node.elements, at, node.count - at - 1);
+		node.elements[--node.count] = null;
+		size--;
+		modCount++;
+
+		if (node.count == 0) {
+
+			unlink(node);
+
+		} else if (node.count < MIN_FILL && node.next != null) {
+
+			refill(node);
+
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Moves the elements of node from position at onward into a new node
+	 * after it.
+	 */
+	private void splitAt(Node node, int at) {
+
+		Node right = new Node();
+		int moved = node.count - at;
+
+		System.arraycopy(node.elements, at, right.elements, 0, moved);
+		Arrays.fill(node.elements, at, node.count, null);
+		right.count = moved;
+		node.count = at;
+
+		linkAfter(node, right);
+
+	}
+
+	/**
+	 * Merges node's successor into node if both fit with room to spare,
+	 * otherwise takes half the difference from the successor's front.
+	 */
+	private void refill(Node node) {
+
+		Node next = node.next;
+
+		if (node.count + next.count <= NODE_CAPACITY - MIN_FILL) {
+
+			System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+			node.count += next.count;
+			unlink(next);
+
+		} else {
+
+			int moved = (next.count - node.count) / 2;
+
+			System.arraycopy(next.elements, 0, node.elements, node.count, moved);
+			System.arraycopy(next.elements, moved, next.elements, 0, next.count - moved);
+			Arrays.fill(next.elements, next.count - moved, next.count, null);
+			node.count += moved;
+			next.count -= moved;
+
+		}
+
+	}
+
+	/**
+	 * Links node after prev, or as the new head when prev is null.
+	 */
+	private void linkAfter(Node prev, Node node) {
+
+		if (prev == null) {
+
+			node.next = head;
+
+			if (head != null) {
+
+				head.prev = node;
+
+			} else {
+
+				tail = node;
+
+			}
+
+			head = node;
+			return;
+
+		}
+
+		node.prev = prev;
+		node.next = prev.next;
+
+		if (prev.next != null) {
+
+			prev.next.prev = node;
+
+		} else {
+
+			tail = node;
+
+		}
+
+		prev.next = node;
+
+	}
+
+	private void unlink(Node node) {
+
+		if (node.prev != null) {
+
+			node.prev.next = node.next;
+
+		} else {
+
+			head = node.next;
+
+		}
+
+		if (node.next != null) {
+
+			node.next.prev = node.prev;
+
+		} else {
+
+			tail = node.prev;
+
+		}
+
+	}
+
+	// One arraycopy per node
+	private void copyInto(Object[] array) {
+
+		int i = 0;
+		for (Node node = head; node != null; node = node.next) {
+
+			System.arraycopy(node.elements, 0, array, i, node.count);
+			i += node.count;
+
+		}
+
+	}
+
+	private class UnrolledIterator implements Iterator<E> {
+
+		private Node current = head;
+		private int index = 0;
+		private final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+
+			return current != null && index < current.count;
+
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() throws NoSuchElementException {
+
+			if (modCount != expectedModCount) throw new ConcurrentModificationException("List changed during iteration");
+			if (!hasNext()) throw new NoSuchElementException("No more elements");
+
+			E element = (E) current.elements[index++];
+
+			if (index == current.count) {
+
+				current = current.next;
+				index = 0;
+
+			}
+
+			return element;
+
+		}
+
+	}
+
+}
@@ -0,0 +1,161 @@
+package parser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * FILE: BatchValidator.java
+ *
+ * Validates many files concurrently. Every task owns its own XMLParser (and
+ * so its own stack and queues) and prints into a private buffer; the buffers
+ * are written out in input order, so the combined output does not depend on
+ * scheduling.
+ *
+ * The tasks run on a fixed thread pool rather than a ForkJoinPool. A file is
+ * one task that never forks, so work stealing has nothing to balance, and
+ * the task blocks on disk reads, which a ForkJoinPool worker should not do.
+ * Only 2 x parallelism files are submitted at a time: a finished buffer is
+ * held only until the files before it are printed, so memory stays bounded
+ * however many files there are, and a thread that finishes early still finds
+ * the next file queued.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class BatchValidator {
+
+    private final ScanEngine engine;
+    private final InputMode mode;
+    private final ReportFormat format;
+    private final int parallelism;
+    private final int window;
+
+    /**
+     * @param engine      scan engine used by every parser.
+     * @param mode        how each file is read. PARALLEL is read as MAPPED:
+     *                    the batch already keeps every thread busy, and a
+     *                    split file would only queue behind the other files.
+     * @param format      output format of the per-file results.
+     * @param parallelism number of worker threads.
+     */
+    public BatchValidator(ScanEngine engine, InputMode mode, ReportFormat format, int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+
+        this.engine = engine;
+        this.mode = mode == InputMode.PARALLEL ? InputMode.MAPPED : mode;
+        this.format = format;
+        this.parallelism = parallelism;
+        // Enough queued that a thread finishing early finds the next file waiting
+        this.window = 2 * parallelism;
+    }
+
+    /**
+     * Expand the command line arguments: directories become every *.xml file
+     * below them (sorted), files are kept as given.
+     */
+    public static List<String> collectFiles(List<String> args) throws IOException {
+        List<String> files = new ArrayList<>();
+
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    List<String> found = walk
+                            .filter(p -> Files.isRegularFile(p) && p.toString().endsWith(".xml"))
+                            .map(Path::toString)
+                            .collect(Collectors.toList());
+                    Collections.sort(found);
+                    files.addAll(found);
+                }
+            } else {
+                files.add(arg);
+            }
+        }
+
+        return files;
+    }
+
+    /**
+     * Validate all files and print the results of each one, in the order
+     * given, as soon as it and every file before it are done. Text output
+     * gets a "--- path ---" header per file.
+     */
+    public void validate(List<String> files, PrintStream out) {
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+
+        try {
+            ArrayDeque<Future<String>> inFlight = new ArrayDeque<>(window);
+            int next = 0;
+
+            while (next < files.size() || !inFlight.isEmpty()) {
+                // Top the window up, then wait for its oldest file
+                while (next < files.size() && inFlight.size() < window) {
+                    String path = files.get(next++);
+                    inFlight.add(pool.submit(() -> validateToString(path, engine, mode, format)));
+                }
+
+                out.print(await(inFlight.poll()));
+                out.flush();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait for one file's result, rethrowing whatever the task threw.
+     */
+    private static String await(Future<String> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Run a fresh parser on one file and return everything it reported,
+     * including the per-file header.
+     */
+    static String validateToString(String path, ScanEngine engine, InputMode mode, ReportFormat format) {
+        StringWriter buffer = new StringWriter();
+        ParseReporter reporter = format.create(buffer, true);
+
+        try {
+            reporter.startFile(path);
+            new XMLParser(engine, reporter).parse(path, mode);
+            reporter.endFile();
+            reporter.flush();
+        } catch (IOException e) {
+            // StringWriter never fails
+            throw new UncheckedIOException(e);
+        }
+
+        return buffer.toString();
+    }
+}
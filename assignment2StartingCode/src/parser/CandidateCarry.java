@@ -0,0 +1,88 @@
+package parser;
+
+/**
+ * FILE: CandidateCarry.java
+ *
+ * State of the "<...>" candidate a chunked reader is inside: whether a '<'
+ * is open and how much of the candidate has been carried over from earlier
+ * chunks. The reader keeps the carried chars or bytes itself and reserves
+ * room for them here, which enforces the cap.
+ *
+ * A candidate that would grow past the cap is dropped: the carry closes, so
+ * the '>' that ends it is plain text and nothing is handed to the parser.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+final class CandidateCarry {
+
+    private final int maxLength;
+    private boolean open;
+    private int length;
+
+    /**
+     * @param maxLength longest candidate carried from one chunk to the next.
+     */
+    CandidateCarry(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * A '<' starts a new candidate, dropping anything carried.
+     */
+    void open() {
+        open = true;
+        length = 0;
+    }
+
+    /**
+     * The candidate ended: its '>' was handled, or a line break cut it off.
+     */
+    void close() {
+        open = false;
+        length = 0;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * True if part of the open candidate came from an earlier chunk.
+     */
+    boolean isCarried() {
+        return length > 0;
+    }
+
+    /**
+     * Units carried so far.
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Make room for count more units of the open candidate.
+     *
+     * @return where the caller copies them, or -1 if the candidate would
+     *         pass the cap and has been dropped.
+     */
+    int reserve(int count) {
+        if (length + count > maxLength) {
+            close();
+            return -1;
+        }
+
+        int at = length;
+        length += count;
+        return at;
+    }
+
+    /**
+     * Size to grow a carry array of the given capacity to so it holds
+     * length() units.
+     */
+    int grownCapacity(int capacity) {
+        return Math.max(capacity * 2, length);
+    }
+}
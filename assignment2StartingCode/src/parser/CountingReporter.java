@@ -0,0 +1,71 @@
+package parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * FILE: CountingReporter.java
+ *
+ * Only counts errors; writes one summary line per file ("a.xml: 3 errors").
+ * It never needs the text of a tag, so the parser skips reading it back.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class CountingReporter implements ParseReporter {
+
+    private final BufferedWriter out;
+
+    private String file = "";
+    private long fileErrors;
+    private boolean fileUnreadable;
+
+    public CountingReporter(Writer out) {
+        this.out = new BufferedWriter(out, TextReporter.BUFFER_SIZE);
+    }
+
+    @Override
+    public void startFile(String path) {
+        file = path;
+        fileErrors = 0;
+        fileUnreadable = false;
+    }
+
+    @Override
+    public boolean needsText() {
+        return false;
+    }
+
+    @Override
+    public void wellFormed() {
+    }
+
+    @Override
+    public void error(int lineNumber, String tagText) {
+        fileErrors++;
+    }
+
+    @Override
+    public void unreadable(String path) {
+        fileUnreadable = true;
+    }
+
+    @Override
+    public void endFile() throws IOException {
+        out.write(file);
+        if (fileUnreadable) {
+            out.write(": unreadable");
+        } else {
+            out.write(": ");
+            out.write(Long.toString(fileErrors));
+            out.write(fileErrors == 1 ? " error" : " errors");
+        }
+        out.newLine();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
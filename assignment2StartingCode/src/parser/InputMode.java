@@ -0,0 +1,24 @@
+package parser;
+
+/**
+ * FILE: InputMode.java
+ *
+ * Selects how XMLParser reads a file.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public enum InputMode {
+
+    /** BufferedReader.readLine, one String per line (parseFile) */
+    LINES,
+
+    /** FileChannel chunks, flat memory (parseFileStreaming) */
+    STREAMING,
+
+    /** FileChannel.map windows, scanned in place (parseFileMapped) */
+    MAPPED,
+
+    /** Byte ranges scanned on all cores, then merged (parseFileParallel) */
+    PARALLEL
+}
@@ -0,0 +1,98 @@
+package parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * FILE: JsonLinesReporter.java
+ *
+ * One JSON object per line, e.g.
+ * {"file":"a.xml","status":"error","line":8,"tag":"<i>"}
+ * Status is "ok", "error" or "unreadable".
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class JsonLinesReporter implements ParseReporter {
+
+    private final BufferedWriter out;
+    private String file = "";
+
+    public JsonLinesReporter(Writer out) {
+        this.out = new BufferedWriter(out, TextReporter.BUFFER_SIZE);
+    }
+
+    @Override
+    public void startFile(String path) {
+        file = path;
+    }
+
+    @Override
+    public void wellFormed() throws IOException {
+        begin("ok");
+        out.write('}');
+        out.newLine();
+    }
+
+    @Override
+    public void error(int lineNumber, String tagText) throws IOException {
+        begin("error");
+        out.write(",\"line\":");
+        out.write(Integer.toString(lineNumber));
+        out.write(",\"tag\":");
+        string(tagText);
+        out.write('}');
+        out.newLine();
+    }
+
+    @Override
+    public void unreadable(String path) throws IOException {
+        // XMLParser reports this without startFile when driven directly
+        file = path;
+        begin("unreadable");
+        out.write('}');
+        out.newLine();
+    }
+
+    @Override
+    public void endFile() {
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void begin(String status) throws IOException {
+        out.write("{\"file\":");
+        string(file);
+        out.write(",\"status\":\"");
+        out.write(status);
+        out.write('"');
+    }
+
+    /**
+     * Write s as a JSON string literal.
+     */
+    private void string(String s) throws IOException {
+        out.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':  out.write("\\\""); break;
+                case '\\': out.write("\\\\"); break;
+                case '\n': out.write("\\n"); break;
+                case '\r': out.write("\\r"); break;
+                case '\t': out.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
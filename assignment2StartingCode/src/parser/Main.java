@@ -1,5 +1,12 @@
 package parser;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * FILE: Main.java
  * 
@@ -10,13 +17,163 @@ package parser;
  */
 public class Main
 {
+	static final String USAGE =
+            "Usage: java -jar Parser.jar [--stream|--mmap|--parallel] [--engine=regex|state]\n"
+          + "                            [--format=text|json|count] <xmlfile>\n"
+          + "       java -jar Parser.jar --batch [--threads=N] [options] <dir|xmlfile>...\n"
+          + "       java -jar Parser.jar --pipeline [--queue=N] [options] <dir|xmlfile>...\n"
+          + "       java -jar Parser.jar --serve [--port=N] [options]";
+
+	/** Exit status for a bad command line */
+	static final int USAGE_ERROR = 2;
+
 	public static void main(String[] args) {
-        if (args.length == 0) {
-            System.out.println("Usage: java -jar Parser.jar <xmlfile>");
-            return;
+        int status = run(args, System.out);
+        if (status != 0) System.exit(status);
+    }
+
+    /**
+     * Run the command line and return the exit status. An unknown flag, a
+     * bad flag value, no files or more than one file outside --batch and
+     * --pipeline print the usage text and return USAGE_ERROR.
+     */
+    static int run(String[] args, PrintStream out) {
+        InputMode mode = InputMode.LINES;
+        ScanEngine engine = ScanEngine.REGEX;
+        ReportFormat format = ReportFormat.TEXT;
+        boolean batch = false;
+        boolean serve = false;
+        boolean pipeline = false;
+        int queue = 16;
+        int port = -1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<String> files = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.equals("--stream")) {
+                mode = InputMode.STREAMING;
+            } else if (arg.equals("--mmap")) {
+                mode = InputMode.MAPPED;
+            } else if (arg.equals("--parallel")) {
+                mode = InputMode.PARALLEL;
+            } else if (arg.equals("--engine=regex")) {
+                engine = ScanEngine.REGEX;
+            } else if (arg.equals("--engine=state")) {
+                engine = ScanEngine.STATE_MACHINE;
+            } else if (arg.startsWith("--format=")) {
+                format = formatValue(arg.substring("--format=".length()));
+                if (format == null) return usage(out, arg);
+            } else if (arg.equals("--batch")) {
+                batch = true;
+            } else if (arg.equals("--pipeline")) {
+                pipeline = true;
+            } else if (arg.startsWith("--queue=")) {
+                queue = intValue(arg, "--queue=", 1, Integer.MAX_VALUE);
+                if (queue < 0) return usage(out, arg);
+            } else if (arg.equals("--serve")) {
+                serve = true;
+            } else if (arg.startsWith("--port=")) {
+                port = intValue(arg, "--port=", 0, 65535);
+                if (port < 0) return usage(out, arg);
+            } else if (arg.startsWith("--threads=")) {
+                threads = intValue(arg, "--threads=", 1, Integer.MAX_VALUE);
+                if (threads < 0) return usage(out, arg);
+            } else if (arg.startsWith("--")) {
+                return usage(out, arg);
+            } else {
+                files.add(arg);
+            }
+        }
+
+        if (serve) {
+            // Paths arrive on stdin or over the socket instead of argv
+            ValidationService service = new ValidationService(engine, mode, format);
+            try {
+                if (port >= 0) {
+                    service.listen(port);
+                } else {
+                    service.serve(System.in, out);
+                    service.shutdown();
+                }
+            } catch (IOException e) {
+                out.println("ERROR: " + e.getMessage());
+            }
+            return 0;
+        }
+
+        if (files.isEmpty()) {
+            return usage(out, null);
+        }
+
+        if (!batch && !pipeline && files.size() > 1) {
+            // One file per run; the batch modes take several
+            out.println("Extra file: " + files.get(1));
+            return usage(out, null);
         }
 
-        new XMLParser().parseFile(args[0]);
+        if (pipeline) {
+            // Always streams: the scanner thread reads, the validator checks
+            try {
+                new PipelineValidator(engine, format, queue)
+                        .validate(BatchValidator.collectFiles(files), out);
+            } catch (IOException e) {
+                out.println("ERROR: Could not list files: " + e.getMessage());
+            }
+            return 0;
+        }
+
+        if (batch) {
+            try {
+                new BatchValidator(engine, mode, format, threads)
+                        .validate(BatchValidator.collectFiles(files), out);
+            } catch (IOException e) {
+                out.println("ERROR: Could not list files: " + e.getMessage());
+            }
+            return 0;
+        }
+
+        ParseReporter reporter = format.create(new OutputStreamWriter(out), false);
+        try {
+            reporter.startFile(files.get(0));
+            new XMLParser(engine, reporter).parse(files.get(0), mode);
+            reporter.endFile();
+            reporter.flush();
+        } catch (IOException e) {
+            out.println("ERROR: " + e.getMessage());
+        }
+        return 0;
+    }
+
+    /**
+     * Print the usage text, after the argument that was rejected if any.
+     */
+    private static int usage(PrintStream out, String badArg) {
+        if (badArg != null) out.println("Invalid option: " + badArg);
+        out.println(USAGE);
+        out.flush();
+        return USAGE_ERROR;
+    }
+
+    /**
+     * Value of a --name=N flag, or -1 if it is not a number in [min, max].
+     */
+    private static int intValue(String arg, String prefix, int min, int max) {
+        try {
+            int value = Integer.parseInt(arg.substring(prefix.length()));
+            return value >= min && value <= max ? value : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
+    /**
+     * The format named by a --format= value, or null if there is none.
+     */
+    private static ReportFormat formatValue(String name) {
+        try {
+            return ReportFormat.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * FILE: MappedTagReader.java
+ *
+ * Scans a file in place through FileChannel.map. The bytes are never copied
+ * into a char[] or String except for the "<...>" candidates themselves.
+ * Files larger than one window (and than 2 GB) are mapped window by window.
+ *
+ * Scanning bytes for '<', '>' and line breaks is only valid for encodings
+ * where ASCII maps to itself (UTF-8, ISO-8859-x, ...); see supports().
+ * Carried-over candidates are capped by the same CandidateCarry as
+ * StreamingTagReader's.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+class MappedTagReader {
+
+    static final long WINDOW_SIZE = 128L * 1024 * 1024;
+
+    private final XMLParser parser;
+    private final Charset charset;
+    private final long windowSize;
+
+    /** Candidate bytes carried over from the previous window */
+    private final CandidateCarry carry = new CandidateCarry(StreamingTagReader.MAX_CANDIDATE);
+    private byte[] pending = new byte[256];
+
+    /** File position of the open candidate's '<' */
+    private long tagPosition;
+
+    /** Decoded candidate handed to the parser */
+    private char[] chars = new char[256];
+
+    /** Line tracking follows BufferedReader.readLine: \n, \r and \r\n */
+    private int lineNumber = 1;
+    private boolean lastWasCR;
+
+    MappedTagReader(XMLParser parser, Charset charset) {
+        this(parser, charset, WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize bytes mapped at a time; tests use tiny windows to
+     *                   put window borders inside tags.
+     */
+    MappedTagReader(XMLParser parser, Charset charset, long windowSize) {
+        if (windowSize < 1 || windowSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("windowSize out of range: " + windowSize);
+
+        this.parser = parser;
+        this.charset = charset;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * True if tag syntax can be found by looking at single bytes.
+     */
+    static boolean supports(Charset charset) {
+        if (charset.equals(StandardCharsets.UTF_8)) return true;
+        if (charset.newEncoder().maxBytesPerChar() != 1.0f) return false;
+
+        byte[] probe = "<>/\r\n".getBytes(charset);
+        return Arrays.equals(probe, new byte[] { '<', '>', '/', '\r', '\n' });
+    }
+
+    void read(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            read(channel, 0, channel.size());
+        }
+    }
+
+    /**
+     * Scan bytes [from, to) of the channel. Line numbers start at 1 at from.
+     */
+    void read(FileChannel channel, long from, long to) throws IOException {
+        for (long pos = from; pos < to; pos += windowSize) {
+            long len = Math.min(windowSize, to - pos);
+            scan(channel.map(FileChannel.MapMode.READ_ONLY, pos, len), pos, (int) len);
+        }
+    }
+
+    /**
+     * Number of line breaks seen so far.
+     */
+    int lineBreaks() {
+        return lineNumber - 1;
+    }
+
+    /**
+     * Same candidate rules as StreamingTagReader.scan, on raw bytes.
+     */
+    private void scan(MappedByteBuffer window, long base, int end) {
+        int from = 0;
+
+        for (int i = 0; i < end; i++) {
+            byte b = window.get(i);
+
+            if (b == '<') {
+                carry.open();
+                from = i;
+                tagPosition = base + i;
+            } else if (b == '>') {
+                if (carry.isOpen()) {
+                    if (!carry.isCarried() && widen(window, from, i + 1)) {
+                        int len = i + 1 - from;
+                        parser.processCandidate(chars, 0, len, lineNumber, tagPosition, len);
+                    } else if (append(window, from, i + 1)) {
+                        // Straddles a window border or needs real decoding
+                        emit();
+                    }
+                    carry.close();
+                }
+            } else if (b == '\n' || b == '\r') {
+                if (b == '\r' || !lastWasCR) lineNumber++;
+                carry.close();
+            }
+
+            lastWasCR = b == '\r';
+        }
+
+        if (carry.isOpen()) append(window, from, end);
+    }
+
+    /**
+     * Carry window[from, to) over; false if the candidate was dropped instead.
+     */
+    private boolean append(MappedByteBuffer window, int from, int to) {
+        int at = carry.reserve(to - from);
+        if (at < 0) return false;
+
+        if (carry.length() > pending.length) {
+            pending = Arrays.copyOf(pending, carry.grownCapacity(pending.length));
+        }
+        for (int i = from; i < to; i++) {
+            pending[at++] = window.get(i);
+        }
+        return true;
+    }
+
+    /**
+     * Copy an ASCII candidate straight from the window into chars.
+     * Returns false if a non-ASCII byte is found.
+     */
+    private boolean widen(MappedByteBuffer window, int from, int to) {
+        int len = to - from;
+        if (len > chars.length) chars = new char[Math.max(len, chars.length * 2)];
+
+        for (int i = 0; i < len; i++) {
+            byte b = window.get(from + i);
+            if (b < 0) return false;
+            chars[i] = (char) b;
+        }
+        return true;
+    }
+
+    /**
+     * Hand the carried-over candidate to the parser.
+     */
+    private void emit() {
+        int len = carry.length();
+
+        String text = new String(pending, 0, len, charset);
+        if (text.length() > chars.length) chars = new char[Math.max(text.length(), chars.length * 2)];
+        text.getChars(0, text.length(), chars, 0);
+        parser.processCandidate(chars, 0, text.length(), lineNumber, tagPosition, len);
+    }
+}
@@ -0,0 +1,138 @@
+package parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * FILE: ParallelTagReader.java
+ *
+ * Splits one file into byte ranges that end on a '\n', scans the ranges on
+ * the common ForkJoinPool into TagSegments, then replays the segments in file
+ * order into the real parser. Only the (small) reduced segments are processed
+ * sequentially. Sharing the common pool means a batch of files does not start
+ * a pool of threads per file.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+class ParallelTagReader {
+
+    /** Smaller files are not worth splitting */
+    static final long MIN_SEGMENT_SIZE = 1L << 20;
+
+    private final XMLParser parser;
+    private final ScanEngine engine;
+    private final Charset charset;
+    private final int parallelism;
+    private final long minSegmentSize;
+
+    ParallelTagReader(XMLParser parser, ScanEngine engine, Charset charset, int parallelism) {
+        this(parser, engine, charset, parallelism, MIN_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param parallelism    most segments the file is split into.
+     * @param minSegmentSize fewest bytes per segment; tests use tiny
+     *                       segments to split small files.
+     */
+    ParallelTagReader(XMLParser parser, ScanEngine engine, Charset charset, int parallelism, long minSegmentSize) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        if (minSegmentSize < 1)
+            throw new IllegalArgumentException("minSegmentSize must be at least 1: " + minSegmentSize);
+
+        this.parser = parser;
+        this.engine = engine;
+        this.charset = charset;
+        this.parallelism = parallelism;
+        this.minSegmentSize = minSegmentSize;
+    }
+
+    void read(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+
+            try {
+                List<ForkJoinTask<TagSegment>> tasks = new ArrayList<>(bounds.length - 1);
+                for (int i = 0; i + 1 < bounds.length; i++) {
+                    long from = bounds[i];
+                    long to = bounds[i + 1];
+                    tasks.add(pool.submit(() -> scanSegment(channel, from, to)));
+                }
+
+                int lineBase = 0;
+                for (ForkJoinTask<TagSegment> task : tasks) {
+                    TagSegment segment = task.join();
+                    segment.replay(parser, lineBase);
+                    lineBase += segment.lineBreaks;
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private TagSegment scanSegment(FileChannel channel, long from, long to) {
+        TagSegment segment = new TagSegment();
+        MappedTagReader reader = new MappedTagReader(new XMLParser(engine, segment), charset);
+
+        try {
+            reader.read(channel, from, to);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        segment.lineBreaks = reader.lineBreaks();
+        return segment;
+    }
+
+    /**
+     * Segment boundaries: roughly equal ranges, each moved forward to just
+     * after the next '\n' so that no tag or "\r\n" is cut in two.
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int parts = (int) Math.max(1, Math.min(parallelism, size / minSegmentSize));
+
+        long[] bounds = new long[parts + 1];
+        int count = 1;
+        ByteBuffer buf = ByteBuffer.allocate(8192);
+
+        for (int k = 1; k < parts; k++) {
+            long pos = Math.max(size / parts * k, bounds[count - 1]);
+            long cut = nextLineStart(channel, pos, buf);
+            if (cut >= size) break;
+            if (cut > bounds[count - 1]) bounds[count++] = cut;
+        }
+
+        bounds[count++] = size;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Position just after the first '\n' at or after pos, or the file size.
+     */
+    private static long nextLineStart(FileChannel channel, long pos, ByteBuffer buf) throws IOException {
+        while (true) {
+            buf.clear();
+            int n = channel.read(buf, pos);
+            if (n <= 0) return channel.size();
+
+            for (int i = 0; i < n; i++) {
+                if (buf.get(i) == '\n') return pos + i + 1;
+            }
+            pos += n;
+        }
+    }
+}
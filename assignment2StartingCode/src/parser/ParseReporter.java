@@ -0,0 +1,61 @@
+package parser;
+
+import java.io.IOException;
+
+/**
+ * FILE: ParseReporter.java
+ *
+ * Receives the results of XMLParser. Implementations decide the output
+ * format; all of them write through one buffered writer, so nothing is
+ * flushed per error.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public interface ParseReporter {
+
+    /**
+     * Called by the caller before a file is parsed.
+     *
+     * @param path the file about to be parsed.
+     */
+    void startFile(String path) throws IOException;
+
+    /**
+     * Whether error() uses its tagText. When false the parser passes a
+     * placeholder instead of reading the tags back from the file.
+     */
+    default boolean needsText() {
+        return true;
+    }
+
+    /**
+     * The document has no errors.
+     */
+    void wellFormed() throws IOException;
+
+    /**
+     * One tag that is not constructed correctly.
+     *
+     * @param lineNumber line the tag was found on.
+     * @param tagText    the tag as written in the document.
+     */
+    void error(int lineNumber, String tagText) throws IOException;
+
+    /**
+     * The file could not be read.
+     *
+     * @param path the file that failed.
+     */
+    void unreadable(String path) throws IOException;
+
+    /**
+     * Called by the caller after a file is parsed.
+     */
+    void endFile() throws IOException;
+
+    /**
+     * Push buffered output to the underlying writer.
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,200 @@
+package parser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import implementations.MyBlockingQueue;
+
+/**
+ * FILE: PipelineValidator.java
+ *
+ * Validates files on three threads joined by bounded MyBlockingQueues:
+ *
+ *   scanner   - reads each file (streaming mode) and sends its tags as
+ *               reduced TagSegments of at most SEGMENT_BATCH tags
+ *   validator - replays the segments into one XMLParser per file and
+ *               renders the file's results
+ *   reporter  - prints the results in input order
+ *
+ * A slow stage makes the queue in front of it fill up, which stops the
+ * stage before it, so memory is bounded by the queue capacity however many
+ * files there are. Output is the same as BatchValidator's.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class PipelineValidator {
+
+    /** Reporter flushes its output when nothing arrives for this long */
+    private static final long FLUSH_DELAY_MS = 100;
+
+    private enum Kind { START, TAGS, END, UNREADABLE }
+
+    /** One message from the scanner to the validator */
+    private static final class Batch {
+        final Kind kind;
+        final String path;
+        final TagSegment segment;
+        /** START only: where the validator reads tag text back from */
+        final TagTextSource source;
+
+        Batch(Kind kind, String path, TagSegment segment) {
+            this(kind, path, segment, null);
+        }
+
+        Batch(Kind kind, String path, TagSegment segment, TagTextSource source) {
+            this.kind = kind;
+            this.path = path;
+            this.segment = segment;
+            this.source = source;
+        }
+    }
+
+    private final ScanEngine engine;
+    private final ReportFormat format;
+    private final int capacity;
+
+    /**
+     * @param engine   scan engine used by the scanner.
+     * @param format   output format of the per-file results.
+     * @param capacity size of each queue between two stages.
+     */
+    public PipelineValidator(ScanEngine engine, ReportFormat format, int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+
+        this.engine = engine;
+        this.format = format;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Validate all files and print the results of each one, in the order
+     * given. Text output gets a "--- path ---" header per file.
+     */
+    public void validate(List<String> files, PrintStream out) {
+        MyBlockingQueue<Batch> tags = new MyBlockingQueue<>(capacity);
+        MyBlockingQueue<String> reports = new MyBlockingQueue<>(capacity);
+
+        ExecutorService threads = Executors.newFixedThreadPool(3);
+        ExecutorCompletionService<Void> stages = new ExecutorCompletionService<>(threads);
+
+        try {
+            stages.submit(() -> { scan(files, tags); return null; });
+            stages.submit(() -> { check(files.size(), tags, reports); return null; });
+            stages.submit(() -> { report(files.size(), reports, out); return null; });
+
+            // Fail fast: a stage that dies would leave the others waiting
+            for (int i = 0; i < 3; i++) {
+                Future<Void> done = stages.take();
+                try {
+                    done.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    if (cause instanceof Error) throw (Error) cause;
+                    throw new IllegalStateException(cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /**
+     * Scanner stage.
+     */
+    private void scan(List<String> files, MyBlockingQueue<Batch> tags) throws InterruptedException {
+        for (String path : files) {
+            // Filled with checkpoints by the reader below, used once the file's END arrives
+            TagTextSource source = TagTextSource.chars(path, Charset.defaultCharset());
+            tags.put(new Batch(Kind.START, path, null, source));
+
+            XMLParser scanner = new XMLParser(engine, segment -> {
+                try {
+                    tags.put(new Batch(Kind.TAGS, path, segment));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException();
+                }
+            });
+
+            Kind end = Kind.END;
+            try {
+                new StreamingTagReader(scanner, source).read(path);
+                scanner.flushSegment();
+            } catch (IOException e) {
+                end = Kind.UNREADABLE;
+            }
+
+            tags.put(new Batch(end, path, null));
+        }
+    }
+
+    /**
+     * Validator stage: one report per file, START..END or START..UNREADABLE.
+     */
+    private void check(int fileCount, MyBlockingQueue<Batch> tags, MyBlockingQueue<String> reports)
+            throws InterruptedException, IOException {
+        StringWriter buffer = null;
+        ParseReporter reporter = null;
+        XMLParser parser = null;
+
+        for (int done = 0; done < fileCount; ) {
+            Batch batch = tags.take();
+
+            switch (batch.kind) {
+                case START:
+                    buffer = new StringWriter();
+                    reporter = format.create(buffer, true);
+                    reporter.startFile(batch.path);
+                    parser = new XMLParser(engine, reporter);
+                    parser.beginSegments(batch.source);
+                    break;
+                case TAGS:
+                    batch.segment.replay(parser, 0);
+                    break;
+                default:
+                    if (batch.kind == Kind.END) {
+                        parser.endSegments();
+                    } else {
+                        parser.reportUnreadable(batch.path);
+                    }
+                    reporter.endFile();
+                    reporter.flush();
+                    reports.put(buffer.toString());
+                    done++;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Reporter stage.
+     */
+    private void report(int fileCount, MyBlockingQueue<String> reports, PrintStream out)
+            throws InterruptedException {
+        for (int i = 0; i < fileCount; i++) {
+            String report = reports.poll(FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+            if (report == null) {
+                // Idle: let what was printed so far reach the user
+                out.flush();
+                report = reports.take();
+            }
+            out.print(report);
+        }
+        out.flush();
+    }
+}
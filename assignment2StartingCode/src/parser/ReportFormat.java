@@ -0,0 +1,39 @@
+package parser;
+
+import java.io.Writer;
+
+/**
+ * FILE: ReportFormat.java
+ *
+ * The available ParseReporter implementations.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public enum ReportFormat {
+
+    /** TextReporter, the original console messages */
+    TEXT,
+
+    /** JsonLinesReporter, one JSON object per line */
+    JSON,
+
+    /** CountingReporter, one error count per file */
+    COUNT;
+
+    /**
+     * @param out     destination.
+     * @param headers for TEXT, print a "--- path ---" line before each file.
+     * @return a new reporter writing to out.
+     */
+    public ParseReporter create(Writer out, boolean headers) {
+        switch (this) {
+            case JSON:
+                return new JsonLinesReporter(out);
+            case COUNT:
+                return new CountingReporter(out);
+            default:
+                return new TextReporter(out, headers);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package parser;
+
+/**
+ * FILE: ScanEngine.java
+ *
+ * Selects how XMLParser finds and classifies tags.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public enum ScanEngine {
+
+    /** Original TAG_PATTERN matcher plus String-based classification */
+    REGEX,
+
+    /** Single-pass character state machine (TagScanner), no regex or substrings */
+    STATE_MACHINE
+}
@@ -0,0 +1,171 @@
+package parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * FILE: StreamingTagReader.java
+ *
+ * Reads a file through a FileChannel in fixed-size chunks and hands every
+ * "<...>" candidate to the parser, without ever building a whole line.
+ * Only the text of a candidate that straddles two chunks is carried over,
+ * so memory stays flat no matter how long the lines are.
+ *
+ * Between chunks the reader tells the TagTextSource how many characters
+ * and bytes it has consumed, so tag text can later be read back from the
+ * nearest chunk instead of from the start of the file.
+ *
+ * A '<' with no '>' after it on the same line would be carried to the end
+ * of the line, which may be the end of the file. Carried text is therefore
+ * capped at MAX_CANDIDATE characters by CandidateCarry; a longer candidate
+ * is dropped, so a tag longer than that is not recognised in this mode.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+class StreamingTagReader {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+    static final int MAX_CANDIDATE = 1 << 20;
+
+    /** Room for the bytes of any one character, and for a surrogate pair */
+    static final int MIN_CHUNK_SIZE = 8;
+
+    private final XMLParser parser;
+    private final TagTextSource source;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+
+    /** Candidate text carried over from the previous chunk */
+    private final CandidateCarry carry;
+    private char[] pending = new char[256];
+
+    /** Characters decoded before the current chunk, and where the open candidate starts */
+    private long position;
+    private long tagPosition;
+
+    /** Line tracking follows BufferedReader.readLine: \n, \r and \r\n */
+    private int lineNumber = 1;
+    private boolean lastWasCR;
+
+    StreamingTagReader(XMLParser parser, TagTextSource source) {
+        this(parser, source, CHUNK_SIZE, MAX_CANDIDATE);
+    }
+
+    /**
+     * @param source       receives a checkpoint per chunk.
+     * @param chunkSize    bytes read, and chars decoded, at a time; at least MIN_CHUNK_SIZE.
+     * @param maxCandidate longest candidate carried from one chunk to the next.
+     */
+    StreamingTagReader(XMLParser parser, TagTextSource source, int chunkSize, int maxCandidate) {
+        if (chunkSize < MIN_CHUNK_SIZE)
+            throw new IllegalArgumentException("chunkSize must be at least " + MIN_CHUNK_SIZE + ": " + chunkSize);
+
+        this.parser = parser;
+        this.source = source;
+        this.bytes = ByteBuffer.allocate(chunkSize);
+        this.chars = CharBuffer.allocate(chunkSize);
+        this.carry = new CandidateCarry(maxCandidate);
+    }
+
+    void read(String path) throws IOException {
+        // Same charset and replacement behaviour as FileReader
+        CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            boolean eof = false;
+            long bytesRead = 0;
+
+            while (!eof) {
+                int n = channel.read(bytes);
+                eof = n == -1;
+                if (!eof) bytesRead += n;
+                bytes.flip();
+
+                CoderResult result;
+                do {
+                    result = decoder.decode(bytes, chars, eof);
+                    drainChars();
+                } while (result.isOverflow());
+
+                bytes.compact();
+                // Bytes of a character cut by the chunk border are still in the buffer
+                if (!eof) source.checkpoint(position, bytesRead - bytes.position());
+            }
+
+            while (decoder.flush(chars).isOverflow()) {
+                drainChars();
+            }
+            drainChars();
+        }
+    }
+
+    private void drainChars() {
+        chars.flip();
+        scan(chars.array(), chars.arrayOffset() + chars.position(), chars.arrayOffset() + chars.limit());
+        chars.clear();
+    }
+
+    /**
+     * Scan one decoded chunk. A candidate runs from the last '<' to the next
+     * '>' on the same line, which is the only text TAG_PATTERN could match.
+     */
+    private void scan(char[] buf, int start, int end) {
+        int from = start;
+
+        for (int i = start; i < end; i++) {
+            char c = buf[i];
+
+            if (c == '<') {
+                carry.open();
+                from = i;
+                tagPosition = position + (i - start);
+            } else if (c == '>') {
+                if (carry.isOpen()) {
+                    if (!carry.isCarried()) {
+                        int len = i + 1 - from;
+                        parser.processCandidate(buf, from, len, lineNumber, tagPosition, len);
+                    } else if (append(buf, from, i + 1)) {
+                        // Tag straddled a chunk border
+                        int len = carry.length();
+                        parser.processCandidate(pending, 0, len, lineNumber, tagPosition, len);
+                    }
+                    carry.close();
+                }
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' || !lastWasCR) lineNumber++;
+                carry.close();
+            }
+
+            lastWasCR = c == '\r';
+        }
+
+        if (carry.isOpen()) append(buf, from, end);
+        position += end - start;
+    }
+
+    /**
+     * Carry buf[from, to) over; false if the candidate was dropped instead.
+     */
+    private boolean append(char[] buf, int from, int to) {
+        int at = carry.reserve(to - from);
+        if (at < 0) return false;
+
+        if (carry.length() > pending.length) {
+            pending = Arrays.copyOf(pending, carry.grownCapacity(pending.length));
+        }
+        System.arraycopy(buf, from, pending, at, to - from);
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+package parser;
+
+import java.util.Arrays;
+
+/**
+ * FILE: SymbolTable.java
+ *
+ * Interns tag names into small int IDs (0, 1, 2, ...). Lookups hash straight
+ * from the scanner's char buffer, so a name that was seen before costs no
+ * String allocation. Each parser owns its own table (not thread-safe).
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+class SymbolTable {
+
+    /** Open addressing: id + 1 per slot, 0 = empty. Length is a power of two. */
+    private int[] slots = new int[64];
+
+    private String[] names = new String[32];
+    private int[] hashes = new int[32];
+    private int size;
+
+    /**
+     * ID of the name buf[off, off + len), adding it if new.
+     */
+    int intern(char[] buf, int off, int len) {
+        int h = 0;
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + buf[off + i];
+        }
+        h = spread(h);
+
+        int mask = slots.length - 1;
+        for (int i = h & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == 0) {
+                return add(new String(buf, off, len), h, i);
+            }
+
+            int id = slot - 1;
+            if (hashes[id] == h && sameChars(names[id], buf, off, len)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * ID of name, adding it if new.
+     */
+    int intern(String name) {
+        int h = spread(name.hashCode());
+
+        int mask = slots.length - 1;
+        for (int i = h & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == 0) {
+                return add(name, h, i);
+            }
+
+            int id = slot - 1;
+            if (hashes[id] == h && names[id].equals(name)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * The interned name of id; the same String instance every time.
+     */
+    String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * Number of distinct names; IDs run from 0 to size() - 1.
+     */
+    int size() {
+        return size;
+    }
+
+    private int add(String name, int h, int slot) {
+        int id = size++;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+            hashes = Arrays.copyOf(hashes, id * 2);
+        }
+        names[id] = name;
+        hashes[id] = h;
+        slots[slot] = id + 1;
+
+        // Keep the load factor at or below 1/2
+        if (size * 2 > slots.length) rehash();
+        return id;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+
+        for (int id = 0; id < size; id++) {
+            int i = hashes[id] & mask;
+            while (slots[i] != 0) i = (i + 1) & mask;
+            slots[i] = id + 1;
+        }
+    }
+
+    /** Same hash as String.hashCode, with the high bits folded in */
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean sameChars(String name, char[] buf, int off, int len) {
+        if (name.length() != len) return false;
+        for (int i = 0; i < len; i++) {
+            if (name.charAt(i) != buf[off + i]) return false;
+        }
+        return true;
+    }
+}
@@ -10,21 +10,35 @@ package parser;
  */
 
 public class Tag {
+    /** Symbol table ID of name; only comparable within one parser */
+    final int id;
     final String name;
-    final String originalText;
     final int lineNumber;
 
-    Tag(String name, String originalText, int lineNumber) {
+    /** Where the tag text starts in the file, in the units of the parser's TagTextSource */
+    final long offset;
+    final int length;
+
+    /** Read back from the file only for tags that are reported */
+    String originalText;
+
+    Tag(int id, String name, int lineNumber, long offset, int length) {
+        this.id = id;
         this.name = name;
-        this.originalText = originalText;
         this.lineNumber = lineNumber;
+        this.offset = offset;
+        this.length = length;
     }
     
     @Override
 	public boolean equals(Object target) {
 		Tag container = (Tag) target;
-    	return this.name.equals(container.name);
+    	return this.id == container.id;
     }
-}
 
+    @Override
+    public int hashCode() {
+        return id;
+    }
+}
 
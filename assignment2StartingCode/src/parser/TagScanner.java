@@ -0,0 +1,149 @@
+package parser;
+
+/**
+ * FILE: TagScanner.java
+ *
+ * Hand-written replacement for TAG_PATTERN + handleRawTag. A single pass over
+ * the characters of a line recognises exactly the tags the regex would match
+ * and reports them as offsets into the buffer, so no substring, trim or split
+ * is needed per tag.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+class TagScanner {
+
+    /**
+     * Receives every open or end tag that is not self-closing.
+     * Tag text is buf[start, end), the name is buf[nameStart, nameEnd).
+     */
+    interface TagHandler {
+        void tag(char[] buf, int start, int end, int nameStart, int nameEnd,
+                 boolean isEnd, int lineNumber);
+    }
+
+    // Scanner states
+    private static final int TEXT = 0;        // outside any tag
+    private static final int OPEN = 1;        // just read '<'
+    private static final int END_OPEN = 2;    // just read "</"
+    private static final int NAME = 3;        // inside the tag name
+    private static final int ATTRS = 4;       // after name + whitespace, until '>'
+    private static final int NAME_SLASH = 5;  // "<name/" waiting for '>'
+
+    private final TagHandler handler;
+    private char[] lineBuf = new char[256];
+
+    TagScanner(TagHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Scan one line as returned by BufferedReader.readLine.
+     */
+    void scanLine(String line, int lineNumber) {
+        int len = line.length();
+        if (len > lineBuf.length) {
+            lineBuf = new char[Math.max(len, lineBuf.length * 2)];
+        }
+        line.getChars(0, len, lineBuf, 0);
+        scan(lineBuf, 0, len, lineNumber);
+    }
+
+    /**
+     * Scan buf[from, to), which must not contain a line break.
+     */
+    void scan(char[] buf, int from, int to, int lineNumber) {
+        int state = TEXT;
+        int start = 0;
+        int nameStart = 0;
+        int nameEnd = 0;
+        boolean isEnd = false;
+        char last = 0;   // last char above ' ' in ATTRS, mirrors String.trim()
+
+        for (int i = from; i < to; i++) {
+            char c = buf[i];
+
+            // A '<' can only ever restart a tag, whatever state we are in
+            if (c == '<') {
+                state = OPEN;
+                start = i;
+                isEnd = false;
+                continue;
+            }
+
+            switch (state) {
+                case OPEN:
+                    if (c == '/') {
+                        state = END_OPEN;
+                        isEnd = true;
+                    } else if (isNameStart(c)) {
+                        state = NAME;
+                        nameStart = i;
+                    } else {
+                        state = TEXT;
+                    }
+                    break;
+
+                case END_OPEN:
+                    if (isNameStart(c)) {
+                        state = NAME;
+                        nameStart = i;
+                    } else {
+                        state = TEXT;
+                    }
+                    break;
+
+                case NAME:
+                    if (isNamePart(c)) {
+                        break;
+                    }
+                    nameEnd = i;
+                    if (c == '>') {
+                        handler.tag(buf, start, i + 1, nameStart, nameEnd, isEnd, lineNumber);
+                        state = TEXT;
+                    } else if (c == '/') {
+                        state = NAME_SLASH;
+                    } else if (isSpace(c)) {
+                        state = ATTRS;
+                        last = 0;
+                    } else {
+                        state = TEXT;
+                    }
+                    break;
+
+                case ATTRS:
+                    if (c == '>') {
+                        // "<name ... />" is self-closing → ignore
+                        if (last != '/') {
+                            handler.tag(buf, start, i + 1, nameStart, nameEnd, isEnd, lineNumber);
+                        }
+                        state = TEXT;
+                    } else if (c > ' ') {
+                        last = c;
+                    }
+                    break;
+
+                case NAME_SLASH:
+                    // "<name/>" is self-closing → ignore either way
+                    state = TEXT;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static boolean isNameStart(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '_';
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    /** Same set as the regex \s */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
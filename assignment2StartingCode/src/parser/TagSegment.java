@@ -0,0 +1,63 @@
+package parser;
+
+import java.util.Arrays;
+
+import implementations.MyArrayList;
+
+/**
+ * FILE: TagSegment.java
+ *
+ * The tags of one byte range of a file, reduced to the ones whose outcome
+ * depends on what came before the range.
+ *
+ * An end tag that matches the open tag on top of the local stack is popped
+ * by XMLParser no matter what the earlier segments left behind, and touches
+ * neither queue, so such pairs are dropped here. Any other end tag is kept,
+ * and since it may drain the stack it also stops later end tags from matching
+ * the opens kept before it. Replaying the kept tags in order therefore gives
+ * exactly the same stack, errorQ and extrasQ as the full sequence.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+class TagSegment {
+
+    private final MyArrayList<Tag> tags = new MyArrayList<>();
+    private boolean[] isEnd = new boolean[16];
+
+    /** Open tags at the end of the list that later end tags may still cancel */
+    private int openRun;
+
+    /** Line breaks inside this segment, set when scanning is done */
+    int lineBreaks;
+
+    void add(Tag tag, boolean end) {
+        int last = tags.size() - 1;
+
+        if (end && openRun > 0 && tags.get(last).id == tag.id) {
+            tags.remove(last);
+            openRun--;
+            return;
+        }
+
+        if (tags.size() == isEnd.length) {
+            isEnd = Arrays.copyOf(isEnd, isEnd.length * 2);
+        }
+        isEnd[tags.size()] = end;
+        tags.add(tag);
+        openRun = end ? 0 : openRun + 1;
+    }
+
+    /**
+     * Replay the kept tags into parser, shifting line numbers by lineBase.
+     */
+    void replay(XMLParser parser, int lineBase) {
+        for (int i = 0; i < tags.size(); i++) {
+            parser.acceptTag(parser.importTag(tags.get(i), lineBase), isEnd[i]);
+        }
+    }
+
+    int size() {
+        return tags.size();
+    }
+}
@@ -0,0 +1,260 @@
+package parser;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import implementations.LongArrayList;
+
+/**
+ * FILE: TagTextSource.java
+ *
+ * Tags only remember where they were found (Tag.offset, Tag.length). Their
+ * text is read back from the file once parsing is done, and only for the
+ * tags that ended up in an error queue. Each input mode measures positions
+ * in its own units, so each has its own source:
+ *
+ *   lines - offset is the column in the line returned by readLine
+ *   chars - offset is the index in the decoded character stream; the
+ *           reader records where its chunks start, so only the chunks
+ *           holding error tags are decoded again
+ *   bytes - offset is the byte position in the file
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+abstract class TagTextSource {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    final String path;
+    final Charset charset;
+
+    private TagTextSource(String path, Charset charset) {
+        this.path = path;
+        this.charset = charset;
+    }
+
+    static TagTextSource lines(String path) {
+        return new Lines(path);
+    }
+
+    static TagTextSource chars(String path, Charset charset) {
+        return new Chars(path, charset);
+    }
+
+    static TagTextSource bytes(String path, Charset charset) {
+        return new Bytes(path, charset);
+    }
+
+    /**
+     * Set originalText on the given tags. The array may be reordered. Tags
+     * that cannot be found (the file changed) are left without text.
+     */
+    abstract void resolve(Tag[] tags) throws IOException;
+
+    /**
+     * Called by the reader between chunks: the first charPos characters of
+     * the file were decoded from its first bytePos bytes. Ignored by
+     * sources that do not count characters.
+     */
+    void checkpoint(long charPos, long bytePos) {
+    }
+
+    /** Column within the line, re-read with the same reader as parseFile */
+    private static final class Lines extends TagTextSource {
+
+        Lines(String path) {
+            super(path, Charset.defaultCharset());
+        }
+
+        @Override
+        void resolve(Tag[] tags) throws IOException {
+            Arrays.sort(tags, Comparator.comparingInt((Tag t) -> t.lineNumber));
+
+            try (BufferedReader br = new BufferedReader(new FileReader(path))) {
+                String line;
+                int lineNum = 1;
+                int k = 0;
+
+                while (k < tags.length && (line = br.readLine()) != null) {
+                    while (k < tags.length && tags[k].lineNumber == lineNum) {
+                        Tag t = tags[k++];
+                        int from = (int) t.offset;
+                        if (from + t.length <= line.length()) {
+                            t.originalText = line.substring(from, from + t.length);
+                        }
+                    }
+                    lineNum++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Character index, found by decoding the file once more. Decoding starts
+     * again from the last checkpoint before each tag, or from the start of
+     * the file when there are none.
+     */
+    private static final class Chars extends TagTextSource {
+
+        private final StringBuilder text = new StringBuilder();
+        private Tag[] tags;
+        private int next;
+        private long position;
+
+        /** Checkpoints in ascending order; empty if the decoder keeps state between chunks */
+        private final LongArrayList checkpointChars = new LongArrayList();
+        private final LongArrayList checkpointBytes = new LongArrayList();
+        private final boolean seekable;
+
+        Chars(String path, Charset charset) {
+            super(path, charset);
+            // A fresh decoder can only start mid-file if it holds no state: UTF-8 or one byte per char
+            seekable = MappedTagReader.supports(charset);
+        }
+
+        @Override
+        void checkpoint(long charPos, long bytePos) {
+            if (seekable) {
+                checkpointChars.add(charPos);
+                checkpointBytes.add(bytePos);
+            }
+        }
+
+        @Override
+        void resolve(Tag[] tags) throws IOException {
+            Arrays.sort(tags, Comparator.comparingLong((Tag t) -> t.offset));
+            this.tags = tags;
+            next = 0;
+            position = 0;
+            text.setLength(0);
+
+            // Same charset and replacement behaviour as StreamingTagReader
+            CharsetDecoder decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+            CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+            try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+                boolean eof = false;
+
+                while (!eof && next < tags.length) {
+                    if (text.length() == 0 && seek(channel)) {
+                        // Skip the chunks before the next tag
+                        decoder.reset();
+                        bytes.clear();
+                    }
+
+                    eof = channel.read(bytes) == -1;
+                    bytes.flip();
+
+                    CoderResult result;
+                    do {
+                        result = decoder.decode(bytes, chars, eof);
+                        collect(chars);
+                    } while (result.isOverflow());
+
+                    bytes.compact();
+                }
+
+                if (eof) {
+                    while (decoder.flush(chars).isOverflow()) {
+                        collect(chars);
+                    }
+                    collect(chars);
+                }
+            }
+        }
+
+        /**
+         * Move the channel to the last checkpoint at or before the next tag,
+         * if that is further on than the text decoded so far.
+         */
+        private boolean seek(FileChannel channel) throws IOException {
+            long offset = tags[next].offset;
+            int lo = 0;
+            int hi = checkpointChars.size() - 1;
+            int found = -1;
+
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (checkpointChars.get(mid) <= offset) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+
+            if (found < 0 || checkpointChars.get(found) <= position) return false;
+
+            channel.position(checkpointBytes.get(found));
+            position = checkpointChars.get(found);
+            return true;
+        }
+
+        /**
+         * Copy the parts of pending tags that fall inside this chunk.
+         */
+        private void collect(CharBuffer chars) {
+            chars.flip();
+            char[] buf = chars.array();
+            int base = chars.arrayOffset() + chars.position();
+            long end = position + chars.remaining();
+
+            while (next < tags.length && tags[next].offset < end) {
+                Tag t = tags[next];
+                long from = Math.max(t.offset + text.length(), position);
+                long to = Math.min(t.offset + t.length, end);
+
+                text.append(buf, base + (int) (from - position), (int) (to - from));
+                if (to < t.offset + t.length) break;
+
+                t.originalText = text.toString();
+                text.setLength(0);
+                next++;
+            }
+
+            position = end;
+            chars.clear();
+        }
+    }
+
+    /** Byte position, read back with positional reads */
+    private static final class Bytes extends TagTextSource {
+
+        Bytes(String path, Charset charset) {
+            super(path, charset);
+        }
+
+        @Override
+        void resolve(Tag[] tags) throws IOException {
+            Arrays.sort(tags, Comparator.comparingLong((Tag t) -> t.offset));
+
+            try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+                for (Tag t : tags) {
+                    ByteBuffer buf = ByteBuffer.allocate(t.length);
+                    while (buf.hasRemaining() && channel.read(buf, t.offset + buf.position()) > 0) {
+                        // keep reading
+                    }
+                    if (!buf.hasRemaining()) {
+                        t.originalText = new String(buf.array(), 0, t.length, charset);
+                    }
+                }
+            }
+        }
+    }
+}
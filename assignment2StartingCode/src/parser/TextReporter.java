@@ -0,0 +1,73 @@
+package parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * FILE: TextReporter.java
+ *
+ * The original console format ("Error at line: N <tag> is not constructed
+ * correctly."), written through one large buffered writer.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class TextReporter implements ParseReporter {
+
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final BufferedWriter out;
+    private final boolean headers;
+
+    /**
+     * @param out     destination.
+     * @param headers print a "--- path ---" line before each file.
+     */
+    public TextReporter(Writer out, boolean headers) {
+        this.out = new BufferedWriter(out, BUFFER_SIZE);
+        this.headers = headers;
+    }
+
+    @Override
+    public void startFile(String path) throws IOException {
+        if (headers) {
+            out.write("--- ");
+            out.write(path);
+            out.write(" ---");
+            out.newLine();
+        }
+    }
+
+    @Override
+    public void wellFormed() throws IOException {
+        out.write("XML document is constructed correctly.");
+        out.newLine();
+    }
+
+    @Override
+    public void error(int lineNumber, String tagText) throws IOException {
+        out.write("Error at line: ");
+        out.write(Integer.toString(lineNumber));
+        out.write(' ');
+        out.write(tagText);
+        out.write(" is not constructed correctly.");
+        out.newLine();
+    }
+
+    @Override
+    public void unreadable(String path) throws IOException {
+        out.write("ERROR: Could not read file: ");
+        out.write(path);
+        out.newLine();
+    }
+
+    @Override
+    public void endFile() {
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,166 @@
+package parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * FILE: ValidationService.java
+ *
+ * Long-running validation mode. Reads one file path per line (from stdin or
+ * from clients of a loopback socket) and validates each on its own thread
+ * with a fresh XMLParser, so the JVM is started once instead of per file.
+ *
+ * Each result is written as one block (for text output a "--- path ---"
+ * header followed by the parser output). Blocks appear in completion order.
+ * A validation that fails is reported as an "ERROR:" block right away.
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class ValidationService {
+
+    private final ScanEngine engine;
+    private final InputMode mode;
+    private final ReportFormat format;
+    private final ExecutorService executor = newPerTaskExecutor();
+
+    /**
+     * @param engine scan engine used for every request.
+     * @param mode   how each file is read.
+     * @param format output format of each response.
+     */
+    public ValidationService(ScanEngine engine, InputMode mode, ReportFormat format) {
+        this.engine = engine;
+        this.mode = mode;
+        this.format = format;
+    }
+
+    /**
+     * Serve requests from in until it is closed, then wait for the
+     * outstanding validations.
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        PrintStream printer = new PrintStream(out, false);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        // A count rather than the futures, which would pile up for as long as in stays open
+        InFlight inFlight = new InFlight();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String path = line.trim();
+            if (path.isEmpty()) continue;
+
+            inFlight.begin();
+            try {
+                executor.execute(() -> {
+                    try {
+                        respond(path, printer);
+                    } finally {
+                        inFlight.end();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.end();
+                throw e;
+            }
+        }
+
+        try {
+            inFlight.awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Accept clients on the loopback interface forever; each connection is
+     * served like stdin and closed once its input ends.
+     */
+    public void listen(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            while (true) {
+                Socket client = server.accept();
+                executor.execute(() -> {
+                    try (Socket s = client) {
+                        serve(s.getInputStream(), s.getOutputStream());
+                    } catch (IOException ignored) {}
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Stop accepting work; running validations are allowed to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void respond(String path, PrintStream printer) {
+        String result;
+        try {
+            result = BatchValidator.validateToString(path, engine, mode, format);
+        } catch (RuntimeException e) {
+            result = "ERROR: Could not validate " + path + ": " + e + System.lineSeparator();
+        }
+
+        // One block per file, never interleaved with another response
+        synchronized (printer) {
+            printer.print(result);
+            printer.flush();
+        }
+    }
+
+    /**
+     * Number of requests from one client that are still being validated.
+     */
+    private static class InFlight {
+
+        private int count;
+
+        synchronized void begin() {
+            count++;
+        }
+
+        synchronized void end() {
+            if (--count == 0) notifyAll();
+        }
+
+        synchronized void awaitIdle() throws InterruptedException {
+            while (count > 0) {
+                wait();
+            }
+        }
+    }
+
+    /**
+     * One virtual thread per task when the JVM has them (Java 21+), otherwise
+     * a cached platform thread pool. Looked up reflectively so the project
+     * still builds for older targets.
+     */
+    static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "xml-validator");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+}
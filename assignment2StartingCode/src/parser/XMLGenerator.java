@@ -0,0 +1,311 @@
+package parser;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import implementations.MyStack;
+
+/**
+ * FILE: XMLGenerator.java
+ *
+ * Deterministic synthetic XML for benchmarks and soak tests. The same seed
+ * and settings always produce the same document. Besides plain nesting it
+ * can mix in attributes, inline tags (i, b, u) and three kinds of injected
+ * errors: unclosed tags, extra end tags and crossed inline tags.
+ *
+ * Usage: java -cp Parser.jar parser.XMLGenerator [options] <output.xml>
+ *
+ * GROUP 9: Jasmine Cheema, Monica Leung, Precious Robert-Ezenta, Mitali Vaid
+ * DATE: 2025/11/24
+ */
+public class XMLGenerator {
+
+    private static final String[] NAMES = {
+        "Submission", "Category", "Driver", "Language", "Package", "Item", "Entry", "Record"
+    };
+
+    private static final String[] INLINE = { "i", "b", "u" };
+
+    private static final String[] WORDS = {
+        "lorem", "ipsum", "driver", "package", "folder", "version", "language", "location"
+    };
+
+    private final long seed;
+    private int elements = 1000;
+    private int maxDepth = 8;
+    private double attributesPerElement = 1.0;
+    private int lineLength = 120;
+    private double inlineRate = 0.1;
+    private double unclosedRate;
+    private double extraCloseRate;
+    private double crossedRate;
+
+    /** Injected error counts, filled in by write() */
+    private int unclosed;
+    private int extraCloses;
+    private int crossed;
+
+    private Random random;
+    private Writer out;
+    private StringBuilder line;
+    private int depth;
+
+    /**
+     * @param seed seed for the random choices.
+     */
+    public XMLGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /** Number of elements (open tags, including self-closing) to write. */
+    public XMLGenerator elements(int elements) {
+        this.elements = elements;
+        return this;
+    }
+
+    /** Maximum nesting depth below the root. */
+    public XMLGenerator maxDepth(int maxDepth) {
+        if (maxDepth < 1) throw new IllegalArgumentException("maxDepth must be at least 1");
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /** Average number of attributes per element. */
+    public XMLGenerator attributesPerElement(double attributesPerElement) {
+        this.attributesPerElement = attributesPerElement;
+        return this;
+    }
+
+    /** A line is broken once it reaches this many characters; 0 puts everything on one line. */
+    public XMLGenerator lineLength(int lineLength) {
+        this.lineLength = lineLength;
+        return this;
+    }
+
+    /** Chance that an element's text contains an inline i/b/u tag. */
+    public XMLGenerator inlineRate(double inlineRate) {
+        this.inlineRate = inlineRate;
+        return this;
+    }
+
+    /** Chance per element that its end tag is left out. */
+    public XMLGenerator unclosedRate(double unclosedRate) {
+        this.unclosedRate = unclosedRate;
+        return this;
+    }
+
+    /** Chance per element that an end tag with no matching open tag follows it. */
+    public XMLGenerator extraCloseRate(double extraCloseRate) {
+        this.extraCloseRate = extraCloseRate;
+        return this;
+    }
+
+    /** Chance per inline tag that it is crossed with another: &lt;b&gt;&lt;i&gt;&lt;/b&gt;&lt;/i&gt;. */
+    public XMLGenerator crossedRate(double crossedRate) {
+        this.crossedRate = crossedRate;
+        return this;
+    }
+
+    public int getUnclosed() {
+        return unclosed;
+    }
+
+    public int getExtraCloses() {
+        return extraCloses;
+    }
+
+    public int getCrossed() {
+        return crossed;
+    }
+
+    /**
+     * Write the document as UTF-8 to path.
+     */
+    public void write(String path) throws IOException {
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(path), StandardCharsets.UTF_8), 1 << 16)) {
+            write(w);
+        }
+    }
+
+    /**
+     * Write the document to out. Can be called again for an identical copy.
+     */
+    public void write(Writer out) throws IOException {
+        this.random = new Random(seed);
+        this.out = out;
+        this.line = new StringBuilder();
+        this.depth = 0;
+        unclosed = 0;
+        extraCloses = 0;
+        crossed = 0;
+
+        out.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+        emit("<XMLDATA>");
+        depth++;
+
+        MyStack<String> open = new MyStack<>();
+        int written = 0;
+
+        while (written < elements) {
+            boolean canOpen = open.size() < maxDepth;
+            boolean goDeeper = canOpen && (open.isEmpty() || random.nextDouble() < 0.55);
+
+            if (!goDeeper) {
+                closeTop(open);
+                continue;
+            }
+
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String attributes = attributes();
+            written++;
+
+            if (random.nextDouble() < 0.15) {
+                emit("<" + name + attributes + "/>");
+            } else if (random.nextDouble() < unclosedRate) {
+                // Never pushed, so never closed
+                emit("<" + name + attributes + ">");
+                text();
+                unclosed++;
+            } else {
+                emit("<" + name + attributes + ">");
+                depth++;
+                open.push(name);
+                text();
+            }
+
+            if (random.nextDouble() < extraCloseRate) {
+                emit("</Stray" + NAMES[random.nextInt(NAMES.length)] + ">");
+                extraCloses++;
+            }
+        }
+
+        while (!open.isEmpty()) {
+            closeTop(open);
+        }
+
+        depth--;
+        emit("</XMLDATA>");
+        out.write(line.toString());
+        out.write('\n');
+        out.flush();
+    }
+
+    private void closeTop(MyStack<String> open) throws IOException {
+        depth--;
+        emit("</" + open.pop() + ">");
+    }
+
+    private String attributes() {
+        StringBuilder sb = new StringBuilder();
+        // Geometric-ish count with the requested mean
+        double p = attributesPerElement / (1 + attributesPerElement);
+        int n = 0;
+        while (random.nextDouble() < p) {
+            sb.append(' ').append(n == 0 ? "id" : "attr" + n)
+              .append("=\"").append(WORDS[random.nextInt(WORDS.length)])
+              .append(random.nextInt(10000)).append('"');
+            n++;
+        }
+        return sb.toString();
+    }
+
+    private void text() throws IOException {
+        emit(WORDS[random.nextInt(WORDS.length)]);
+
+        if (random.nextDouble() < inlineRate) {
+            String a = INLINE[random.nextInt(INLINE.length)];
+
+            if (random.nextDouble() < crossedRate) {
+                String b = INLINE[(indexOf(a) + 1) % INLINE.length];
+                emit("<" + a + ">" + word() + " <" + b + ">" + word() + "</" + a + "> " + word() + "</" + b + ">");
+                crossed++;
+            } else {
+                emit("<" + a + ">" + word() + "</" + a + ">");
+            }
+        }
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static int indexOf(String inline) {
+        for (int i = 0; i < INLINE.length; i++) {
+            if (INLINE[i].equals(inline)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Append a token to the current line, breaking first if it is full.
+     */
+    private void emit(String token) throws IOException {
+        if (lineLength > 0 && line.length() > 0 && line.length() + token.length() > lineLength) {
+            line.append('\n');
+            out.write(line.toString());
+            line.setLength(0);
+        }
+
+        if (line.length() == 0) {
+            for (int i = 0; i < Math.min(depth, 16); i++) line.append('\t');
+        } else {
+            line.append(' ');
+        }
+        line.append(token);
+    }
+
+    public static void main(String[] args) throws IOException {
+        long seed = 1;
+        String output = null;
+        List<String[]> options = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                String[] kv = arg.substring(2).split("=", 2);
+                if (kv[0].equals("seed")) {
+                    seed = Long.parseLong(kv[1]);
+                } else {
+                    options.add(kv);
+                }
+            } else {
+                output = arg;
+            }
+        }
+
+        if (output == null) {
+            System.out.println("Usage: java -cp Parser.jar parser.XMLGenerator [--seed=N] [--elements=N] "
+                    + "[--depth=N] [--attributes=X] [--line-length=N] [--inline=P] "
+                    + "[--unclosed=P] [--extra=P] [--crossed=P] <output.xml>");
+            return;
+        }
+
+        XMLGenerator gen = new XMLGenerator(seed);
+        for (String[] kv : options) {
+            switch (kv[0]) {
+                case "elements":    gen.elements(Integer.parseInt(kv[1])); break;
+                case "depth":       gen.maxDepth(Integer.parseInt(kv[1])); break;
+                case "attributes":  gen.attributesPerElement(Double.parseDouble(kv[1])); break;
+                case "line-length": gen.lineLength(Integer.parseInt(kv[1])); break;
+                case "inline":      gen.inlineRate(Double.parseDouble(kv[1])); break;
+                case "unclosed":    gen.unclosedRate(Double.parseDouble(kv[1])); break;
+                case "extra":       gen.extraCloseRate(Double.parseDouble(kv[1])); break;
+                case "crossed":     gen.crossedRate(Double.parseDouble(kv[1])); break;
+                default:
+                    System.out.println("Unknown option: --" + kv[0]);
+                    return;
+            }
+        }
+
+        gen.write(output);
+        System.out.println("Wrote " + output + ": " + gen.unclosed + " unclosed, "
+                + gen.extraCloses + " extra end tags, " + gen.crossed + " crossed inline tags");
+    }
+}
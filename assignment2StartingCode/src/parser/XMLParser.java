@@ -1,16 +1,22 @@
 package parser;
 
-import implementations.MyStack;
-import utilities.StackADT;
-import implementations.MyQueue;
+import implementations.MyArrayDeque;
+import implementations.IntStack;
 import exceptions.EmptyQueueException;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.Arrays;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * FILE: XMLParser.java
@@ -27,7 +33,7 @@ public class XMLParser {
      * <tag>, </tag>, <tag ...>, <tag .../>, <tag/>
      * DOES NOT match <>> or stray < or >.
      */
-    private static final Pattern TAG_PATTERN = Pattern.compile("</?[A-Za-z_][A-Za-z0-9_\\-]*(\\s+[^<>]*)?/?>");
+    static final Pattern TAG_PATTERN = Pattern.compile("</?[A-Za-z_][A-Za-z0-9_\\-]*(\\s+[^<>]*)?/?>");
 
     /** Inline tags should not drain the whole stack on mismatch */
     private static final Set<String> INLINE_TAGS = new java.util.HashSet<>();
@@ -38,13 +44,134 @@ public class XMLParser {
     }
 
 
-    private final MyStack<Tag> stack = new MyStack<>();
-    private final MyQueue<Tag> errorQ = new MyQueue<>();
-    private final MyQueue<Tag> extrasQ = new MyQueue<>();
+    /** Open tags when idStack is off; errorQ and extrasQ use the same deque class */
+    private final MyArrayDeque<Tag> stack = new MyArrayDeque<>();
 
-    
+    /**
+     * Open tags as IDs, used instead of stack when idStack is set. The
+     * rest of each open tag sits in arrays indexed by stack depth, and a
+     * Tag is only built when an open tag becomes an error.
+     */
+    private boolean idStack = true;
+    private final IntStack openIds = new IntStack();
+    private int[] openLines = new int[64];
+    private long[] openOffsets = new long[64];
+    private int[] openLengths = new int[64];
+    private final MyArrayDeque<Tag> errorQ = new MyArrayDeque<>();
+    private final MyArrayDeque<Tag> extrasQ = new MyArrayDeque<>();
+
+    /** Tag names as int IDs; Tag.id indexes openCounts */
+    private final SymbolTable symbols = new SymbolTable();
+
+    /** How many times each tag ID is currently on the stack */
+    private int[] openCounts = new int[64];
+
+    private final ScanEngine engine;
+    private final TagScanner scanner = new TagScanner(this::handleTag);
+    private final ParseReporter reporter;
+
+    /** Non-null only in a ParallelTagReader worker: tags are collected, not checked */
+    private TagSegment segment;
+
+    /** Pipeline scanner only: receives the segment every SEGMENT_BATCH kept tags */
+    private final Consumer<TagSegment> segmentSink;
+
+    static final int SEGMENT_BATCH = 4096;
+
+    /** Where the text of reported tags is read back from; set per file */
+    private TagTextSource source;
+
+    /** Position and source length of the current candidate; -1 in line mode */
+    private long candidatePosition = -1;
+    private int candidateLength;
+
+    /**
+     * Parser using the original regex engine.
+     */
+    public XMLParser() {
+        this(ScanEngine.REGEX);
+    }
+
+    /**
+     * @param engine how tags are found and classified; both engines
+     *               produce identical output.
+     */
+    public XMLParser(ScanEngine engine) {
+        this(engine, System.out);
+    }
+
+    /**
+     * @param engine how tags are found and classified.
+     * @param out    where results are printed, in the original text format.
+     */
+    public XMLParser(ScanEngine engine, PrintStream out) {
+        this(engine, new TextReporter(new OutputStreamWriter(out), false));
+    }
+
+    /**
+     * @param engine   how tags are found and classified.
+     * @param reporter receives the results (one parser per thread); flushed
+     *                 after every file.
+     */
+    public XMLParser(ScanEngine engine, ParseReporter reporter) {
+        this(engine, reporter, null, null);
+    }
+
+    /**
+     * Worker parser that only classifies tags into the given segment.
+     */
+    XMLParser(ScanEngine engine, TagSegment segment) {
+        this(engine, null, segment, null);
+    }
+
+    /**
+     * Worker parser that hands its segment to sink whenever it reaches
+     * SEGMENT_BATCH tags, then starts a new one. Call flushSegment at EOF.
+     */
+    XMLParser(ScanEngine engine, Consumer<TagSegment> sink) {
+        this(engine, null, new TagSegment(), sink);
+    }
+
+    private XMLParser(ScanEngine engine, ParseReporter reporter, TagSegment segment,
+                      Consumer<TagSegment> segmentSink) {
+        this.engine = engine;
+        this.reporter = reporter;
+        this.segment = segment;
+        this.segmentSink = segmentSink;
+    }
+
+    /**
+     * Choose how open tags are kept: as interned IDs in parallel arrays
+     * (the default, no allocation per open tag) or as Tag objects on a
+     * MyArrayDeque. Output is the same either way. Set between files only.
+     */
+    public void setIdStack(boolean idStack) {
+        this.idStack = idStack;
+    }
+
+    /**
+     * Validate a file using the given input mode.
+     */
+    public void parse(String path, InputMode mode) {
+        switch (mode) {
+            case STREAMING:
+                parseFileStreaming(path);
+                break;
+            case MAPPED:
+                parseFileMapped(path);
+                break;
+            case PARALLEL:
+                parseFileParallel(path, Runtime.getRuntime().availableProcessors());
+                break;
+            default:
+                parseFile(path);
+                break;
+        }
+    }
 
     public void parseFile(String path) {
+        source = TagTextSource.lines(path);
+
         try (BufferedReader br = new BufferedReader(new FileReader(path))) {
 
             String line;
@@ -55,17 +182,167 @@ public class XMLParser {
                 lineNum++;
             }
 
-            // At EOF, remaining stack contents are errors
-            while (!stack.isEmpty()) {
-                try {
-                    errorQ.enqueue(stack.pop());
-                } catch (Exception ignored) {}
-            }
+            finish();
+
+        } catch (IOException e) {
+            reportUnreadable(path);
+        }
+    }
+
+    /**
+     * Streaming input mode: reads the file through a FileChannel in fixed-size
+     * chunks instead of materializing every line, so memory stays flat even
+     * for huge single-line documents. Output is identical to parseFile.
+     */
+    public void parseFileStreaming(String path) {
+        parseFileStreaming(path, StreamingTagReader.CHUNK_SIZE, StreamingTagReader.MAX_CANDIDATE);
+    }
+
+    /**
+     * Streaming input mode with the reader's buffer sizes given, so tests
+     * can put chunk borders inside tags.
+     */
+    void parseFileStreaming(String path, int chunkSize, int maxCandidate) {
+        source = TagTextSource.chars(path, Charset.defaultCharset());
+
+        try {
+            new StreamingTagReader(this, source, chunkSize, maxCandidate).read(path);
+            finish();
+        } catch (IOException e) {
+            reportUnreadable(path);
+        }
+    }
+
+    /**
+     * Memory-mapped input mode: scans the file in place through FileChannel.map,
+     * one window at a time, avoiding the kernel buffer → char[] → String copies
+     * of the line reader. Falls back to the streaming mode when the platform
+     * charset is not ASCII-compatible. Output is identical to parseFile.
+     */
+    public void parseFileMapped(String path) {
+        parseFileMapped(path, Charset.defaultCharset(), MappedTagReader.WINDOW_SIZE);
+    }
+
+    /**
+     * Memory-mapped input mode with the charset and window size given, so
+     * tests can reach the fallback and put window borders inside tags.
+     */
+    void parseFileMapped(String path, Charset charset, long windowSize) {
+        if (!MappedTagReader.supports(charset)) {
+            parseFileStreaming(path);
+            return;
+        }
+
+        source = TagTextSource.bytes(path, charset);
+
+        try {
+            new MappedTagReader(this, charset, windowSize).read(path);
+            finish();
+        } catch (IOException e) {
+            reportUnreadable(path);
+        }
+    }
+
+    /**
+     * Parallel input mode for very large single files: byte ranges are mapped
+     * and scanned on separate threads, each reduced to its unmatched tags, and
+     * the reduced segments are replayed in order. The result is exactly that
+     * of the sequential parse. Falls back to the streaming mode when the
+     * platform charset is not ASCII-compatible.
+     *
+     * @param parallelism most segments the file is split into.
+     */
+    public void parseFileParallel(String path, int parallelism) {
+        parseFileParallel(path, parallelism, ParallelTagReader.MIN_SEGMENT_SIZE);
+    }
+
+    /**
+     * Parallel input mode with the smallest segment given, so tests can
+     * split small files.
+     */
+    void parseFileParallel(String path, int parallelism, long minSegmentSize) {
+        Charset charset = Charset.defaultCharset();
+        if (!MappedTagReader.supports(charset)) {
+            parseFileStreaming(path);
+            return;
+        }
+
+        source = TagTextSource.bytes(path, charset);
+
+        try {
+            new ParallelTagReader(this, engine, charset, parallelism, minSegmentSize).read(path);
+            finish();
+        } catch (IOException e) {
+            reportUnreadable(path);
+        }
+    }
+
+    /**
+     * At EOF, remaining stack contents are errors.
+     */
+    private void finish() {
+        while (hasOpenTags()) {
+            try {
+                errorQ.enqueue(popOpen());
+            } catch (Exception ignored) {}
+        }
+
+        resolveText();
 
+        try {
             printResults();
+            reporter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read back the text of every queued tag; only these can be reported.
+     * If the file cannot be read again the "<name>" fallback is printed.
+     */
+    private void resolveText() {
+        if (source == null || !reporter.needsText() || (errorQ.isEmpty() && extrasQ.isEmpty())) return;
 
+        Tag[] errors = errorQ.toArray(new Tag[errorQ.size()]);
+        Tag[] extras = extrasQ.toArray(new Tag[extrasQ.size()]);
+        Tag[] tags = Arrays.copyOf(errors, errors.length + extras.length);
+        System.arraycopy(extras, 0, tags, errors.length, extras.length);
+
+        try {
+            source.resolve(tags);
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * Pipeline validator side: the file's tags arrive as replayed segments
+     * from a scanner parser, positions in the streaming reader's units.
+     *
+     * @param source the chars source the scanner's reader recorded its
+     *               checkpoints in.
+     */
+    void beginSegments(TagTextSource source) {
+        this.source = source;
+    }
+
+    void endSegments() {
+        finish();
+    }
+
+    /**
+     * Pipeline scanner side: hand over the last, partly filled segment.
+     */
+    void flushSegment() {
+        segmentSink.accept(segment);
+        segment = new TagSegment();
+    }
+
+    void reportUnreadable(String path) {
+        try {
+            reporter.unreadable(path);
+            reporter.flush();
         } catch (IOException e) {
-            System.out.println("ERROR: Could not read file: " + path);
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -73,21 +350,53 @@ public class XMLParser {
      * Extract real XML tags from line.
      */
     private void processLine(String line, int lineNumber) {
+        // Line offsets are the tags' own; drop any left by a chunked reader
+        candidatePosition = -1;
+
+        if (engine == ScanEngine.STATE_MACHINE) {
+            scanner.scanLine(line, lineNumber);
+            return;
+        }
+
         Matcher m = TAG_PATTERN.matcher(line);
 
         while (m.find()) {
-            String full = m.group();          // full tag "<...>"
-            String inside = full.substring(1, full.length() - 1).trim();
+            // full tag "<...>" is line[m.start(), m.end()); only its position is kept
+            String inside = line.substring(m.start() + 1, m.end() - 1).trim();
 //            System.out.println(inside);
             
-            handleRawTag(inside, full, lineNumber);
+            handleRawTag(inside, lineNumber, m.start(), m.end() - m.start());
+        }
+    }
+
+    /**
+     * Check a single "<...>" candidate (no '<', '>' or line break inside)
+     * against TAG_PATTERN. Used by the chunked readers.
+     *
+     * @param position     where the candidate starts in the reader's units.
+     * @param sourceLength length of the candidate in the same units.
+     */
+    void processCandidate(char[] buf, int offset, int length, int lineNumber,
+                          long position, int sourceLength) {
+        candidatePosition = position;
+        candidateLength = sourceLength;
+
+        if (engine == ScanEngine.STATE_MACHINE) {
+            scanner.scan(buf, offset, offset + length, lineNumber);
+            return;
         }
+
+        if (!TAG_PATTERN.matcher(CharBuffer.wrap(buf, offset, length)).matches())
+            return;
+
+        String inside = new String(buf, offset + 1, length - 2).trim();
+        handleRawTag(inside, lineNumber, position, sourceLength);
     }
 
     /**
      * Interpret and classify tags.
      */
-    private void handleRawTag(String content, String original, int line) {
+    private void handleRawTag(String content, int line, long offset, int length) {
 
         // ignore comments, declarations
         if (content.startsWith("?") || content.startsWith("!"))
@@ -105,54 +414,175 @@ public class XMLParser {
                 : content.split("\\s+")[0];
 //        System.out.println(name);    
 
-        if (isEnd) {
-            processEndTag(new Tag(name, original, line));
+        accept(symbols.intern(name), line, offset, length, isEnd);
+    }
+
+    /**
+     * TagScanner callback: same outcome as handleRawTag, built from offsets.
+     */
+    private void handleTag(char[] buf, int start, int end, int nameStart, int nameEnd,
+                           boolean isEnd, int line) {
+        int id = symbols.intern(buf, nameStart, nameEnd - nameStart);
+
+        // A candidate holds exactly one tag, starting at its '<'
+        if (candidatePosition >= 0) {
+            accept(id, line, candidatePosition, candidateLength, isEnd);
+        } else {
+            accept(id, line, start, end - start, isEnd);
+        }
+    }
+
+    /**
+     * Classified tag from either engine. The common cases, an end tag that
+     * closes the top of the stack and (with idStack) any open tag, are
+     * handled here without building a Tag.
+     */
+    private void accept(int id, int line, long offset, int length, boolean isEnd) {
+        if (segment == null) {
+            if (isEnd && hasOpenTags() && topId() == id) {
+                dropOpen();
+                return;
+            }
+            if (!isEnd && idStack) {
+                pushOpen(id, line, offset, length);
+                return;
+            }
+        }
+
+        acceptTag(new Tag(id, symbols.name(id), line, offset, length), isEnd);
+    }
+
+    /**
+     * Copy a tag from another parser (a parallel worker) into this parser's
+     * symbol table, shifting its line number. Byte offsets are already
+     * file positions.
+     */
+    Tag importTag(Tag tag, int lineShift) {
+        int id = symbols.intern(tag.name);
+        return new Tag(id, symbols.name(id), tag.lineNumber + lineShift, tag.offset, tag.length);
+    }
+
+    /**
+     * Feed one classified tag into the stack/queue logic, or into the
+     * segment when this parser is a parallel worker.
+     */
+    void acceptTag(Tag tag, boolean isEnd) {
+        if (segment != null) {
+            segment.add(tag, isEnd);
+            if (segmentSink != null && segment.size() >= SEGMENT_BATCH) flushSegment();
+        } else if (isEnd) {
+            processEndTag(tag);
         } else {
-            stack.push(new Tag(name, original, line));
+            pushOpen(tag);
         }
     }
 
+    /**
+     * Push an open tag and count its name.
+     */
+    private void pushOpen(Tag tag) {
+        if (idStack) {
+            pushOpen(tag.id, tag.lineNumber, tag.offset, tag.length);
+            return;
+        }
+
+        stack.push(tag);
+        countOpen(tag.id);
+    }
+
+    private void pushOpen(int id, int line, long offset, int length) {
+        int depth = openIds.size();
+        if (depth == openLines.length) {
+            openLines = Arrays.copyOf(openLines, depth * 2);
+            openOffsets = Arrays.copyOf(openOffsets, depth * 2);
+            openLengths = Arrays.copyOf(openLengths, depth * 2);
+        }
+        openLines[depth] = line;
+        openOffsets[depth] = offset;
+        openLengths[depth] = length;
+
+        openIds.push(id);
+        countOpen(id);
+    }
+
+    private void countOpen(int id) {
+        if (id >= openCounts.length) {
+            openCounts = Arrays.copyOf(openCounts, Math.max(id + 1, openCounts.length * 2));
+        }
+        openCounts[id]++;
+    }
+
+    private boolean hasOpenTags() {
+        return idStack ? !openIds.isEmpty() : !stack.isEmpty();
+    }
+
+    /**
+     * ID of the top open tag.
+     */
+    private int topId() {
+        return idStack ? openIds.peek() : stack.peek().id;
+    }
+
+    /**
+     * Pop the top open tag and uncount its name.
+     */
+    private Tag popOpen() {
+        if (!idStack) {
+            Tag tag = stack.pop();
+            openCounts[tag.id]--;
+            return tag;
+        }
+
+        int depth = openIds.size() - 1;
+        int id = openIds.pop();
+        openCounts[id]--;
+        return new Tag(id, symbols.name(id), openLines[depth], openOffsets[depth], openLengths[depth]);
+    }
+
+    /**
+     * Pop the top open tag without building a Tag for it.
+     */
+    private void dropOpen() {
+        int id = idStack ? openIds.pop() : stack.pop().id;
+        openCounts[id]--;
+    }
+
     /**
      * End-tag processing with corrected inline-tag rule.
      */
     private void processEndTag(Tag endTag) {
 
         // top of stack matches → pop
-        if (!stack.isEmpty() && stack.peek().name.equals(endTag.name)) {
-            stack.pop();
+        if (hasOpenTags() && topId() == endTag.id) {
+            dropOpen();
             return;
         }
 
         // if head of errorQ matches → cancel
-        try {
-            if (!errorQ.isEmpty() && errorQ.peek().name.equals(endTag.name)) {
-//                errorQ.dequeue();
-                return;
-            }
-        } catch (EmptyQueueException ignored) {}
+        if (!errorQ.isEmpty() && errorQ.peek().id == endTag.id) {
+//            errorQ.dequeue();
+            return;
+        }
 
         // stack empty → extra closing tag
-        if (stack.isEmpty()) {
+        if (!hasOpenTags()) {
             try { errorQ.enqueue(endTag); } catch (Exception ignored) {}
             return;
         }
 
-        // Mismatch → walk stack looking for match
-        boolean found = stack.search(endTag) != -1;
-        MyStack<Tag> temp = new MyStack<>();
-
-        ;
+        // Mismatch → is the name open anywhere? O(1) via openCounts
+        boolean found = endTag.id < openCounts.length && openCounts[endTag.id] > 0;
         
         if(found) 
         {
-        	while (!stack.isEmpty()) 
+        	while (hasOpenTags()) 
         	{
-        		 Tag popped = stack.pop();
-        		 if (popped.name.equals(endTag.name)) {
+        		 if (topId() == endTag.id) {
+        			 dropOpen();
         			 break;
         		 }
         		 
-        		 try { errorQ.enqueue(popped); } catch (Exception ignored) {}
+        		 try { errorQ.enqueue(popOpen()); } catch (Exception ignored) {}
         		 
 //        		 printErrorLine(popped);
         	}
@@ -189,10 +619,10 @@ public class XMLParser {
 //        }
     }
 
-    private void printResults() {
+    private void printResults() throws IOException {
         // clean case: both empty
         if (errorQ.isEmpty() && extrasQ.isEmpty()) {
-            System.out.println("XML document is constructed correctly.");
+            reporter.wellFormed();
             return;
         }
 
@@ -227,7 +657,7 @@ public class XMLParser {
                 Tag error = errorQ.peek();
                 Tag extra = extrasQ.peek();
 
-                if (!error.name.equals(extra.name)) {
+                if (error.id != extra.id) {
                     printErrorLine(errorQ.dequeue());
                 } else {
                     errorQ.dequeue();
@@ -241,13 +671,12 @@ public class XMLParser {
         } catch (EmptyQueueException ignored) {}
     }
 
-    private void printErrorLine(Tag t) {
+    private void printErrorLine(Tag t) throws IOException {
         String txt = (t.originalText == null || t.originalText.isEmpty())
                 ? "<" + t.name + ">"
                 : t.originalText;
 
-        System.out.println("Error at line: " + t.lineNumber + " " + txt +
-                " is not constructed correctly.");
+        reporter.error(t.lineNumber, txt);
     }
 
 
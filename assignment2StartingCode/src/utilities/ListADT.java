@@ -76,6 +76,67 @@ public interface ListADT<E>
 	 */
 	public boolean addAll( ListADT<? extends E> toAdd ) throws NullPointerException;
 
+	/**
+	 * Inserts all of the elements in the specified list into this list at the
+	 * specified position, in the order that they are returned by the specified
+	 * list's <code>toArray()</code>. Shifts the element currently at that
+	 * position (if any) and any subsequent elements to the right. The specified
+	 * list may be this list.
+	 *
+	 * The default implementation inserts the elements one at a time;
+	 * implementations override it with a bulk copy.
+	 *
+	 * @param index The index at which to insert the first element.
+	 * @param toAdd The list whose elements are to be inserted.
+	 * @return <code>true</code> if this list changed as a result of the call.
+	 * @throws NullPointerException      If the specified list is
+	 *                                   <code>null</code>.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index > size()</code>).
+	 */
+	@SuppressWarnings( "unchecked" )
+	public default boolean addAll( int index, ListADT<? extends E> toAdd )
+			throws NullPointerException, IndexOutOfBoundsException
+	{
+		if ( toAdd == null )
+			throw new NullPointerException( "Cannot add null collection" );
+		if ( index < 0 || index > size() )
+			throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + size() );
+
+		// Copy first so adding a list to itself is safe
+		Object[] elements = toAdd.toArray();
+		for ( int i = 0; i < elements.length; i++ )
+		{
+			add( index + i, (E) elements[i] );
+		}
+		return elements.length > 0;
+	}
+
+	/**
+	 * Removes from this list all of the elements whose index is between
+	 * <code>fromIndex</code>, inclusive, and <code>toIndex</code>, exclusive.
+	 * Shifts any subsequent elements to the left. If
+	 * <code>fromIndex == toIndex</code> the list is unchanged.
+	 *
+	 * The default implementation removes the elements one at a time;
+	 * implementations override it with a bulk copy.
+	 *
+	 * @param fromIndex Index of the first element to be removed.
+	 * @param toIndex   Index after the last element to be removed.
+	 * @throws IndexOutOfBoundsException If the range is out of bounds: i.e.
+	 *                                   (<code>fromIndex < 0 || toIndex > size() || fromIndex > toIndex</code>).
+	 */
+	public default void removeRange( int fromIndex, int toIndex ) throws IndexOutOfBoundsException
+	{
+		if ( fromIndex < 0 || toIndex > size() || fromIndex > toIndex )
+			throw new IndexOutOfBoundsException( "From: " + fromIndex + ", To: " + toIndex + ", Size: " + size() );
+
+		for ( int i = fromIndex; i < toIndex; i++ )
+		{
+			remove( fromIndex );
+		}
+	}
+
 	/**
 	 * Returns the element at the specified position in this list.
 	 * 
@@ -181,4 +242,18 @@ public interface ListADT<E>
 	 *         <code>java.util.Iterator</code>.
 	 */
 	public Iterator<E> iterator();
+
+	/**
+	 * Returns an iterator over a copy of the elements in this list, in the
+	 * same sequence as <code>iterator()</code>. The iterator of a
+	 * non-concurrent list fails with <code>ConcurrentModificationException</code>
+	 * once the list is changed; this one keeps returning the elements as they
+	 * were when it was created.
+	 * 
+	 * @return An iterator over a snapshot of this list.
+	 */
+	public default Iterator<E> snapshotIterator()
+	{
+		return new SnapshotIterator<>( toArray() );
+	}
 }
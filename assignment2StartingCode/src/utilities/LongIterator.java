@@ -0,0 +1,27 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The <code>long</code> counterpart of {@link Iterator}, used by the
+ * primitive collections so that elements are returned without boxing.
+ */
+public interface LongIterator
+{
+	/**
+	 * Returns <code>true</code> if the iteration has more elements. (In other
+	 * words, returns <code>true</code> if <code>next()</code> would return an
+	 * element rather than throwing an exception.)
+	 * 
+	 * @return <code>true</code> if the iterator has more elements.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * Returns the next element in the iteration.
+	 * 
+	 * @return The next element in the iteration.
+	 * @throws NoSuchElementException If the iteration has no more elements.
+	 */
+	public long next() throws NoSuchElementException;
+}
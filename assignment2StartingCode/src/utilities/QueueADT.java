@@ -86,6 +86,20 @@ public interface QueueADT<E>
 	 */
 	public Iterator<E> iterator();
 
+	/**
+	 * Returns an iterator over a copy of the elements in this queue, in the
+	 * same sequence as <code>iterator()</code>. The iterator of a
+	 * non-concurrent queue fails with <code>ConcurrentModificationException</code>
+	 * once the queue is changed; this one keeps returning the elements as they
+	 * were when it was created.
+	 * 
+	 * @return An iterator over a snapshot of this queue.
+	 */
+	public default Iterator<E> snapshotIterator()
+	{
+		return new SnapshotIterator<>( toArray() );
+	}
+
 	/**
 	 * Used to compare two Queue ADT's. To be equal two queues must contain equal
 	 * items appearing in the same order.
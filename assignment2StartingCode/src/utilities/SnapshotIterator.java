@@ -0,0 +1,42 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An <code>Iterator</code> over a copy of a data structure's elements,
+ * taken with <code>toArray()</code> when the iterator is created. Changes
+ * made to the data structure afterwards are not seen and do not make the
+ * iteration fail; the cost is one array copy up front.
+ *
+ * @param <E> The type of element this iterator returns.
+ */
+public class SnapshotIterator<E> implements Iterator<E>
+{
+	private final Object[] elements;
+	private int index;
+
+	/**
+	 * @param elements The copy to iterate over, in order. It is not copied
+	 *                 again, so it should not be shared.
+	 */
+	public SnapshotIterator( Object[] elements )
+	{
+		this.elements = elements;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		return index < elements.length;
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public E next() throws NoSuchElementException
+	{
+		if ( !hasNext() )
+			throw new NoSuchElementException( "No more elements" );
+
+		return (E) elements[index++];
+	}
+}
@@ -107,6 +107,20 @@ public interface StackADT<E>
 	 */
 	public Iterator<E> iterator();
 
+	/**
+	 * Returns an iterator over a copy of the elements in this stack, in the
+	 * same sequence as <code>iterator()</code>. The iterator of a
+	 * non-concurrent stack fails with <code>ConcurrentModificationException</code>
+	 * once the stack is changed; this one keeps returning the elements as they
+	 * were when it was created.
+	 * 
+	 * @return An iterator over a snapshot of this stack.
+	 */
+	public default Iterator<E> snapshotIterator()
+	{
+		return new SnapshotIterator<>( toArray() );
+	}
+
 	/**
 	 * Used to compare two Stack ADT's. To be equal two stacks must contain equal
 	 * items appearing in the same order.
@@ -0,0 +1,97 @@
+package implementations;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for the shape of MyTreeList's treap. The random priorities should
+ * keep the depth logarithmic whatever order elements arrive in; appends
+ * alone would make an unbalanced binary tree a list.
+ */
+
+public class TreeListBalanceTest
+{
+	/**
+	 * Asserts that list is no deeper than three times log2 of its size,
+	 * comfortably above a treap's expected depth.
+	 */
+	private static void assertBalanced( String message, MyTreeList<Integer> list )
+	{
+		int log = 32 - Integer.numberOfLeadingZeros( list.size() );
+		assertTrue( message + ": height " + list.height() + " for " + list.size(), list.height() <= 3 * log );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#add(java.lang.Object)}
+	 * with sequential appends.
+	 */
+	@Test
+	public void testAdd_sequential()
+	{
+		MyTreeList<Integer> list = new MyTreeList<Integer>();
+		for ( int i = 0; i < 100000; i++ )
+		{
+			list.add( i );
+		}
+
+		assertBalanced( "Failed to stay balanced under appends", list );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#add(int, java.lang.Object)}
+	 * always at the front.
+	 */
+	@Test
+	public void testAddIndex_front()
+	{
+		MyTreeList<Integer> list = new MyTreeList<Integer>();
+		for ( int i = 0; i < 100000; i++ )
+		{
+			list.add( 0, i );
+		}
+
+		assertBalanced( "Failed to stay balanced under front inserts", list );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#addAll(int, utilities.ListADT)}:
+	 * the treap built from the source is balanced, and so is the list after
+	 * joining it in at the ends and in the middle.
+	 */
+	@Test
+	public void testAddAllIndex_built()
+	{
+		MyArrayList<Integer> source = new MyArrayList<Integer>();
+		for ( int i = 0; i < 50000; i++ )
+		{
+			source.add( i );
+		}
+		MyTreeList<Integer> list = new MyTreeList<Integer>();
+
+		list.addAll( source );
+		assertBalanced( "Failed to build a balanced treap", list );
+
+		list.addAll( 0, source );
+		list.addAll( list.size(), source );
+		list.addAll( list.size() / 2, source );
+		assertBalanced( "Failed to stay balanced after joining", list );
+
+		list.removeRange( 1000, list.size() - 1000 );
+		assertBalanced( "Failed to stay balanced after removeRange", list );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#height()} on an
+	 * empty list and a single element.
+	 */
+	@Test
+	public void testHeight_small()
+	{
+		MyTreeList<Integer> list = new MyTreeList<Integer>();
+		assertEquals( "Failed to measure an empty tree", 0, list.height() );
+		list.add( 1 );
+		assertEquals( "Failed to measure one node", 1, list.height() );
+	}
+}
@@ -0,0 +1,124 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for BatchValidator. The batch output must be each file's own report,
+ * header first, in the order the files were given, whatever order the
+ * threads finish in and however many files are left waiting for the window.
+ */
+
+public class BatchValidatorTest
+{
+	private List<String> files;
+	private StringBuilder expected;
+
+	/**
+	 * Writes a mix of well-formed, malformed, large and missing files, and
+	 * builds the expected output from the single-file reports.
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		files = new ArrayList<>();
+		for ( int i = 0; i < 12; i++ )
+		{
+			StringBuilder doc = new StringBuilder( "<root>\n" );
+			// Sizes vary so the files finish out of order
+			for ( int j = 0; j < ( i % 4 ) * 3000; j++ )
+			{
+				doc.append( "<item>" ).append( j ).append( "</item>\n" );
+			}
+			if ( i % 3 == 0 )
+			{
+				doc.append( "<open" ).append( i ).append( ">\n" );
+			}
+			doc.append( "</root>\n" );
+			files.add( ParserFixture.write( doc.toString() ).getPath() );
+		}
+		files.add( 5, new File( "no-such-dir", "missing.xml" ).getPath() );
+
+		expected = new StringBuilder();
+		for ( String file : files )
+		{
+			expected.append( BatchValidator.validateToString( file, ScanEngine.REGEX, InputMode.LINES, ReportFormat.TEXT ) );
+		}
+	}
+
+	/**
+	 * Runs a batch and returns everything it printed.
+	 */
+	private String run( InputMode mode, int parallelism ) throws UnsupportedEncodingException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream( bytes, true, "UTF-8" );
+		new BatchValidator( ScanEngine.REGEX, mode, ReportFormat.TEXT, parallelism ).validate( files, out );
+		return bytes.toString( "UTF-8" );
+	}
+
+	/**
+	 * Test method for {@link parser.BatchValidator#validate(List, PrintStream)}
+	 * with one thread and with more threads than files.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_inOrder() throws Exception
+	{
+		assertEquals( "Failed to print in order with one thread", expected.toString(), run( InputMode.LINES, 1 ) );
+		assertEquals( "Failed to print in order with two threads", expected.toString(), run( InputMode.LINES, 2 ) );
+		assertEquals( "Failed to print in order with more threads than files", expected.toString(),
+				run( InputMode.LINES, 32 ) );
+	}
+
+	/**
+	 * Test method for {@link parser.BatchValidator#validate(List, PrintStream)}
+	 * checking the report of individual files.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_content() throws Exception
+	{
+		String output = run( InputMode.LINES, 3 );
+
+		assertTrue( "Failed to start with the first header", output.startsWith( "--- " + files.get( 0 ) + " ---" ) );
+		assertTrue( "Failed to report the missing file",
+				output.contains( "ERROR: Could not read file: " + files.get( 5 ) ) );
+		assertTrue( "Failed to report the unclosed tag", output.contains( "<open9> is not constructed correctly." ) );
+		assertTrue( "Failed to report a well-formed file", output.contains( "XML document is constructed correctly." ) );
+	}
+
+	/**
+	 * Test method for {@link parser.BatchValidator#validate(List, PrintStream)}
+	 * in the other input modes, PARALLEL being read per file as MAPPED.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_modes() throws Exception
+	{
+		assertEquals( "Failed to match in STREAMING mode", expected.toString(), run( InputMode.STREAMING, 2 ) );
+		assertEquals( "Failed to match in MAPPED mode", expected.toString(), run( InputMode.MAPPED, 2 ) );
+		assertEquals( "Failed to match in PARALLEL mode", expected.toString(), run( InputMode.PARALLEL, 2 ) );
+	}
+
+	/**
+	 * Test method for {@link parser.BatchValidator#BatchValidator(ScanEngine, InputMode, ReportFormat, int)}
+	 * with no threads.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_noThreads()
+	{
+		new BatchValidator( ScanEngine.REGEX, InputMode.LINES, ReportFormat.TEXT, 0 );
+	}
+}
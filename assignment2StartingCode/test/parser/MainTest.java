@@ -0,0 +1,119 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for the command line, Main.run. A bad flag or flag value must print
+ * the usage text and return a non-zero status instead of throwing.
+ */
+
+public class MainTest
+{
+	private static final String NL = System.lineSeparator();
+
+	private String output;
+
+	/**
+	 * Runs the command line, keeps what it printed in output and returns
+	 * the exit status.
+	 */
+	private int run( String... args ) throws UnsupportedEncodingException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream( bytes, true, "UTF-8" );
+		int status = Main.run( args, out );
+		output = bytes.toString( "UTF-8" );
+		return status;
+	}
+
+	/**
+	 * Asserts that the arguments are rejected because of badArg.
+	 */
+	private void assertRejected( String badArg, String... args ) throws UnsupportedEncodingException
+	{
+		assertEquals( "Failed to return the usage status for " + badArg, Main.USAGE_ERROR, run( args ) );
+		assertEquals( "Failed to print the usage text for " + badArg,
+				"Invalid option: " + badArg + NL + Main.USAGE + NL, output );
+	}
+
+	/**
+	 * Test method for {@link parser.Main#run(String[], PrintStream)} with an
+	 * unknown format and an unknown flag.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_unknown() throws Exception
+	{
+		assertRejected( "--format=xml", "--format=xml", "a.xml" );
+		assertRejected( "--format=", "--format=", "a.xml" );
+		assertRejected( "--engine=fast", "--engine=fast", "a.xml" );
+		assertRejected( "--verbose", "a.xml", "--verbose" );
+	}
+
+	/**
+	 * Test method for {@link parser.Main#run(String[], PrintStream)} with
+	 * thread, queue and port values that are not numbers or out of range.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_badNumbers() throws Exception
+	{
+		assertRejected( "--threads=four", "--batch", "--threads=four", "a.xml" );
+		assertRejected( "--threads=0", "--batch", "--threads=0", "a.xml" );
+		assertRejected( "--queue=-3", "--pipeline", "--queue=-3", "a.xml" );
+		assertRejected( "--queue=99999999999", "--pipeline", "--queue=99999999999", "a.xml" );
+		assertRejected( "--port=http", "--serve", "--port=http" );
+		assertRejected( "--port=65536", "--serve", "--port=65536" );
+	}
+
+	/**
+	 * Test method for {@link parser.Main#run(String[], PrintStream)} with no
+	 * file to validate.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_noFiles() throws Exception
+	{
+		assertEquals( "Failed to return the usage status", Main.USAGE_ERROR, run( "--format=json" ) );
+		assertEquals( "Failed to print the usage text", Main.USAGE + NL, output );
+	}
+
+	/**
+	 * Test method for {@link parser.Main#run(String[], PrintStream)} with
+	 * more than one file outside the batch modes.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_extraFiles() throws Exception
+	{
+		assertEquals( "Failed to return the usage status", Main.USAGE_ERROR,
+				run( "--stream", "a.xml", "b.xml", "c.xml" ) );
+		assertEquals( "Failed to name the extra file", "Extra file: b.xml" + NL + Main.USAGE + NL, output );
+	}
+
+	/**
+	 * Test method for {@link parser.Main#run(String[], PrintStream)} with
+	 * valid values, in any letter case for the format.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_valid() throws Exception
+	{
+		File file = ParserFixture.write( "<a>\n<b>\n</a>\n" );
+
+		assertEquals( "Failed to validate a file", 0, run( "--format=Count", "--engine=state", file.getPath() ) );
+		assertEquals( "Failed to print the count", file.getPath() + ": 1 error" + NL, output );
+		assertEquals( "Failed to run a batch", 0, run( "--batch", "--threads=1", file.getPath() ) );
+		assertTrue( "Failed to print the batch header", output.startsWith( "--- " + file.getPath() + " ---" ) );
+		assertEquals( "Failed to run a pipeline", 0, run( "--pipeline", "--queue=1", file.getPath() ) );
+		assertTrue( "Failed to report the unclosed tag", output.contains( "<b> is not constructed correctly." ) );
+	}
+}
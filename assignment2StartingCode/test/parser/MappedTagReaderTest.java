@@ -0,0 +1,165 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Class Description:
+ * Test for the memory-mapped input mode, MappedTagReader. Fixtures are
+ * parsed with windows of a few bytes, so window borders fall inside tags,
+ * line breaks and multi-byte characters, and the reports must match LINES
+ * mode. Also covers which charsets the mode supports and the fallback to
+ * streaming for the others. Runs once per scan engine, always against the
+ * regex engine's LINES report.
+ */
+
+@RunWith( Parameterized.class )
+public class MappedTagReaderTest
+{
+	/** Engine under test; its reports must equal the regex engine's LINES report */
+	@Parameter
+	public ScanEngine engine;
+
+	/**
+	 * @return Every scan engine.
+	 */
+	@Parameters( name = "{0}" )
+	public static Object[] engines()
+	{
+		return ScanEngine.values();
+	}
+
+	// Unclosed and stray tags with attributes, CRLF and non-ASCII text
+	private static final String MIXED =
+			"<?xml version=\"1.0\"?>\r\n"
+			+ "<root>\r\n"
+			+ "\t<Item id=\"a1\" kind=\"long attribute value\"><b>bold</b></Item>\n"
+			+ "\t<Open title=\"日本 é\">héllo <i>it</b> more</i>\r"
+			+ "\t</Stray><Self/><Self attr=\"1\" /> < no end\n"
+			+ "<Last>😀\n";
+
+	/**
+	 * Parses file in MAPPED mode with the default charset and the given
+	 * window size.
+	 */
+	private String mapped( File file, long windowSize )
+	{
+		return ParserFixture.report( engine,
+				parser -> parser.parseFileMapped( file.getPath(), Charset.defaultCharset(), windowSize ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileMapped(String)}
+	 * with every window size from 1 to 48 bytes.
+	 * @throws Exception
+	 */
+	@Test
+	public void testWindowBorders() throws Exception
+	{
+		File file = ParserFixture.write( MIXED );
+		String expected = ParserFixture.report( file, InputMode.LINES );
+		assertEquals( "Failed to match the regex engine in LINES mode", expected,
+				ParserFixture.report( engine, file, InputMode.LINES ) );
+
+		for ( int window = 1; window <= 48; window++ )
+		{
+			assertEquals( "Failed to match LINES with window size " + window, expected, mapped( file, window ) );
+		}
+		assertEquals( "Failed to match LINES with the default window", expected,
+				ParserFixture.report( engine, file, InputMode.MAPPED ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileMapped(String)}:
+	 * a tag split by a window border is reported with its full text.
+	 * @throws Exception
+	 */
+	@Test
+	public void testTagAcrossWindow() throws Exception
+	{
+		// The second window starts inside the attribute
+		File file = ParserFixture.write( "<a>\n<Open attr=\"value\">\n" );
+
+		assertEquals( "Failed to join the tag across the border",
+				"Error at line: 2 <Open attr=\"value\"> is not constructed correctly." + System.lineSeparator()
+						+ "Error at line: 1 <a> is not constructed correctly." + System.lineSeparator(),
+				mapped( file, 12 ) );
+	}
+
+	/**
+	 * Test method for {@link parser.MappedTagReader#supports(Charset)}.
+	 */
+	@Test
+	public void testSupports()
+	{
+		assertTrue( "Failed to support UTF-8", MappedTagReader.supports( StandardCharsets.UTF_8 ) );
+		assertTrue( "Failed to support US-ASCII", MappedTagReader.supports( StandardCharsets.US_ASCII ) );
+		assertTrue( "Failed to support ISO-8859-1", MappedTagReader.supports( StandardCharsets.ISO_8859_1 ) );
+		assertFalse( "Failed to reject UTF-16", MappedTagReader.supports( StandardCharsets.UTF_16 ) );
+		assertFalse( "Failed to reject UTF-16LE", MappedTagReader.supports( StandardCharsets.UTF_16LE ) );
+		if ( Charset.isSupported( "IBM037" ) )
+		{
+			// Single-byte, but '<' is not the ASCII byte
+			assertFalse( "Failed to reject EBCDIC", MappedTagReader.supports( Charset.forName( "IBM037" ) ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileMapped(String)}
+	 * with a charset it does not support: the file is streamed instead.
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnsupportedCharset_fallsBack() throws Exception
+	{
+		File file = ParserFixture.write( MIXED );
+		String fallback = ParserFixture.report( engine,
+				parser -> parser.parseFileMapped( file.getPath(), StandardCharsets.UTF_16, 4 ) );
+
+		assertEquals( "Failed to fall back to STREAMING", ParserFixture.report( engine, file, InputMode.STREAMING ),
+				fallback );
+	}
+
+	/**
+	 * Test method for {@link parser.MappedTagReader#read(String)}: a carried
+	 * candidate longer than MAX_CANDIDATE is dropped, and its '>' hands
+	 * nothing to the parser.
+	 * @throws Exception
+	 */
+	@Test
+	public void testCandidateCap_nothingHandedOver() throws Exception
+	{
+		StringBuilder doc = new StringBuilder( "<a>\n<Long " );
+		while ( doc.length() <= StreamingTagReader.MAX_CANDIDATE )
+		{
+			doc.append( "a=\"1\" " );
+		}
+		doc.append( ">\n<b>\n" );
+		File file = ParserFixture.write( doc.toString() );
+
+		List<String> candidates = new ArrayList<>();
+		XMLParser parser = new XMLParser( engine, new TextReporter( new StringWriter(), false ) )
+		{
+			@Override
+			void processCandidate( char[] buf, int offset, int length, int lineNumber, long position, int sourceLength )
+			{
+				candidates.add( new String( buf, offset, length ) );
+			}
+		};
+		new MappedTagReader( parser, StandardCharsets.UTF_8, 4096 ).read( file.getPath() );
+
+		assertEquals( "Failed to hand over only the short candidates", "[<a>, <b>]", candidates.toString() );
+	}
+}
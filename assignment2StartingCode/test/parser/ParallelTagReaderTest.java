@@ -0,0 +1,106 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for the parallel input mode, ParallelTagReader and TagSegment. Small
+ * fixtures are split into 1, 3 and many segments (down to one line each), so
+ * open tags are matched across segments and end tags start segments, and the
+ * reports must match LINES mode with both scan engines.
+ */
+
+public class ParallelTagReaderTest
+{
+	/**
+	 * Parses file in PARALLEL mode split into at most parts segments of
+	 * any size.
+	 */
+	private static String parallel( File file, ScanEngine engine, int parts )
+	{
+		return ParserFixture.report( engine, parser -> parser.parseFileParallel( file.getPath(), parts, 1 ) );
+	}
+
+	/**
+	 * Asserts that 1, 3 and many segments give the LINES report.
+	 */
+	private static void assertSameAsLines( File file )
+	{
+		for ( ScanEngine engine : ScanEngine.values() )
+		{
+			String expected = ParserFixture.report( engine, parser -> parser.parse( file.getPath(), InputMode.LINES ) );
+
+			assertEquals( "Failed to match LINES with one segment", expected, parallel( file, engine, 1 ) );
+			assertEquals( "Failed to match LINES with three segments", expected, parallel( file, engine, 3 ) );
+			assertEquals( "Failed to match LINES with a segment per line", expected, parallel( file, engine, 1000 ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileParallel(String, int)}
+	 * with elements opened in one segment and closed in a later one.
+	 * @throws Exception
+	 */
+	@Test
+	public void testNestingAcrossSegments() throws Exception
+	{
+		File file = ParserFixture.write( "<?xml version=\"1.0\"?>\n"
+				+ "<root>\n"
+				+ "<a>\n"
+				+ "<b x=\"1\">\n"
+				+ "<c/>\n"
+				+ "text <i>inline</i>\n"
+				+ "</b>\n"
+				+ "</a>\n"
+				+ "</root>\n" );
+
+		assertSameAsLines( file );
+		assertEquals( "Failed to find the document well-formed",
+				"XML document is constructed correctly." + System.lineSeparator(), parallel( file, ScanEngine.REGEX, 1000 ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileParallel(String, int)}
+	 * with end tags that match nothing in their own segment: stray ones,
+	 * crossed ones, and ones closing elements left open several segments
+	 * back.
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnmatchedEndTags() throws Exception
+	{
+		File file = ParserFixture.write( "</stray>\n"
+				+ "<root>\n"
+				+ "<a><b>\n"
+				+ "</a></b>\n"
+				+ "<open>\n"
+				+ "<c>\n"
+				+ "</c></x>\n"
+				+ "</root>\n"
+				+ "</root>\n"
+				+ "<tail>\n" );
+
+		assertSameAsLines( file );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileParallel(String, int)}
+	 * with a generated document with unclosed, extra and crossed tags.
+	 * @throws Exception
+	 */
+	@Test
+	public void testGenerated() throws Exception
+	{
+		StringWriter doc = new StringWriter();
+		new XMLGenerator( 42 ).elements( 400 ).unclosedRate( 0.05 ).extraCloseRate( 0.05 ).crossedRate( 0.05 )
+				.write( doc );
+		File file = ParserFixture.write( doc.toString() );
+
+		assertSameAsLines( file );
+	}
+}
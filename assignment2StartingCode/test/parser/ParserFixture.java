@@ -0,0 +1,78 @@
+package parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+/**
+ * Class Description:
+ * Helpers shared by the parser tests: writes small documents to temporary
+ * files and runs an XMLParser over them, returning what it reported in the
+ * original text format.
+ */
+
+final class ParserFixture
+{
+	private ParserFixture()
+	{
+	}
+
+	/**
+	 * Writes content as UTF-8 to a new temporary file, deleted on exit.
+	 */
+	static File write( String content ) throws IOException
+	{
+		return write( content.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	/**
+	 * Writes bytes to a new temporary file, deleted on exit.
+	 */
+	static File write( byte[] content ) throws IOException
+	{
+		File file = File.createTempFile( "fixture", ".xml" );
+		file.deleteOnExit();
+		Files.write( file.toPath(), content );
+		return file;
+	}
+
+	/**
+	 * Runs parse on a fresh parser with the given engine and returns the
+	 * text report.
+	 */
+	static String report( ScanEngine engine, Consumer<XMLParser> parse )
+	{
+		StringWriter out = new StringWriter();
+		TextReporter reporter = new TextReporter( out, false );
+		parse.accept( new XMLParser( engine, reporter ) );
+		try
+		{
+			reporter.flush();
+		}
+		catch ( IOException e )
+		{
+			throw new UncheckedIOException( e );
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Parses file in the given mode with the regex engine.
+	 */
+	static String report( File file, InputMode mode )
+	{
+		return report( ScanEngine.REGEX, file, mode );
+	}
+
+	/**
+	 * Parses file in the given mode with the given engine.
+	 */
+	static String report( ScanEngine engine, File file, InputMode mode )
+	{
+		return report( engine, parser -> parser.parse( file.getPath(), mode ) );
+	}
+}
@@ -0,0 +1,166 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Class Description:
+ * Test for PipelineValidator. Whatever the queue capacity, its output must be
+ * byte for byte what BatchValidator prints for the same files in streaming
+ * mode, in every report format, including files sent in several segments
+ * and files that cannot be read.
+ */
+
+@RunWith( Parameterized.class )
+public class PipelineValidatorTest
+{
+	// Attributes
+	@Parameter
+	public ReportFormat format;
+
+	private List<String> files;
+
+	/**
+	 * @return Every report format.
+	 */
+	@Parameters( name = "{0}" )
+	public static Object[] formats()
+	{
+		return ReportFormat.values();
+	}
+
+	/**
+	 * Writes well-formed, malformed, missing and multi-segment files.
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		files = new ArrayList<>();
+		files.add( ParserFixture.write( "<root>\n<a>1</a>\n</root>\n" ).getPath() );
+		files.add( new File( "no-such-dir", "missing.xml" ).getPath() );
+		files.add( ParserFixture.write( "<root>\n<a>\n<b>\n</a>\n</root>\n" ).getPath() );
+
+		// Opens matched only after the batch fills are all kept: three segments
+		StringBuilder nested = new StringBuilder( "<root>\n" );
+		for ( int i = 0; i < 3 * XMLParser.SEGMENT_BATCH; i++ )
+		{
+			nested.append( "<n" ).append( i % 50 ).append( ">\n" );
+		}
+		for ( int i = 3 * XMLParser.SEGMENT_BATCH - 1; i >= 0; i-- )
+		{
+			nested.append( "</n" ).append( i % 50 ).append( ">\n" );
+		}
+		nested.append( "</root>\n" );
+		files.add( ParserFixture.write( nested.toString() ).getPath() );
+
+		// Stray end tags and unclosed opens are kept and reported
+		StringBuilder broken = new StringBuilder( "<root>\n" );
+		for ( int i = 0; i < XMLParser.SEGMENT_BATCH + 500; i++ )
+		{
+			broken.append( i % 2 == 0 ? "</stray>\n" : "<open>\n" );
+		}
+		broken.append( "</root>\n" );
+		files.add( ParserFixture.write( broken.toString() ).getPath() );
+
+		files.add( new File( "no-such-dir", "last.xml" ).getPath() );
+	}
+
+	/**
+	 * @return Everything BatchValidator prints for the files in streaming mode.
+	 */
+	private String batch() throws UnsupportedEncodingException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream( bytes, true, "UTF-8" );
+		new BatchValidator( ScanEngine.REGEX, InputMode.STREAMING, format, 2 ).validate( files, out );
+		return bytes.toString( "UTF-8" );
+	}
+
+	/**
+	 * @return Everything PipelineValidator prints for the files.
+	 */
+	private String pipeline( ScanEngine engine, int capacity ) throws UnsupportedEncodingException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream( bytes, true, "UTF-8" );
+		new PipelineValidator( engine, format, capacity ).validate( files, out );
+		return bytes.toString( "UTF-8" );
+	}
+
+	/**
+	 * Test method for {@link parser.PipelineValidator#validate(List, PrintStream)}
+	 * with room in the queues.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_sameAsBatch() throws Exception
+	{
+		String expected = batch();
+		assertFalse( "Failed to print the batch", expected.isEmpty() );
+
+		for ( ScanEngine engine : ScanEngine.values() )
+		{
+			assertEquals( "Failed to match the batch with " + engine, expected, pipeline( engine, 16 ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.PipelineValidator#validate(List, PrintStream)}
+	 * with queues of one, so every stage waits on the next.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_backpressure() throws Exception
+	{
+		String expected = batch();
+
+		for ( ScanEngine engine : ScanEngine.values() )
+		{
+			assertEquals( "Failed to match the batch with full queues and " + engine, expected, pipeline( engine, 1 ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.PipelineValidator#validate(List, PrintStream)}
+	 * checking the reports of the missing and multi-segment files.
+	 * @throws Exception
+	 */
+	@Test
+	public void testValidate_content() throws Exception
+	{
+		String output = pipeline( ScanEngine.REGEX, 1 );
+
+		assertTrue( "Failed to report the missing file", output.contains( files.get( 1 ) ) );
+		assertTrue( "Failed to report the last missing file", output.contains( files.get( 5 ) ) );
+		assertTrue( "Failed to report the file after the segments", output.contains( files.get( 4 ) ) );
+		if ( format == ReportFormat.COUNT )
+		{
+			assertTrue( "Failed to count the nested file as well-formed",
+					output.contains( files.get( 3 ) + ": 0 errors" ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.PipelineValidator#PipelineValidator(ScanEngine, ReportFormat, int)}
+	 * with no room in the queues.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_noCapacity()
+	{
+		new PipelineValidator( ScanEngine.REGEX, format, 0 );
+	}
+}
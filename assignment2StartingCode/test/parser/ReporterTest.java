@@ -0,0 +1,215 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for the three report formats, TextReporter, JsonLinesReporter and
+ * CountingReporter, created through ReportFormat, and for the parser
+ * leaving tag text unread for reporters that do not need it.
+ */
+
+public class ReporterTest
+{
+	private static final String NL = System.lineSeparator();
+
+	/**
+	 * Reports two files through format: one with two errors, one
+	 * unreadable, then a well-formed one.
+	 */
+	private static String report( ReportFormat format, boolean headers ) throws IOException
+	{
+		StringWriter out = new StringWriter();
+		ParseReporter reporter = format.create( out, headers );
+
+		reporter.startFile( "a.xml" );
+		reporter.error( 3, "<b x=\"1\">" );
+		reporter.error( 7, "</c>" );
+		reporter.endFile();
+		reporter.startFile( "missing.xml" );
+		reporter.unreadable( "missing.xml" );
+		reporter.endFile();
+		reporter.startFile( "ok.xml" );
+		reporter.wellFormed();
+		reporter.endFile();
+		reporter.flush();
+
+		return out.toString();
+	}
+
+	/**
+	 * Test method for {@link parser.TextReporter} with and without headers.
+	 * @throws IOException
+	 */
+	@Test
+	public void testText() throws IOException
+	{
+		String body = "Error at line: 3 <b x=\"1\"> is not constructed correctly." + NL
+				+ "Error at line: 7 </c> is not constructed correctly." + NL;
+
+		assertEquals( "Failed to write the original messages",
+				body + "ERROR: Could not read file: missing.xml" + NL + "XML document is constructed correctly." + NL,
+				report( ReportFormat.TEXT, false ) );
+		assertEquals( "Failed to write a header per file",
+				"--- a.xml ---" + NL + body
+						+ "--- missing.xml ---" + NL + "ERROR: Could not read file: missing.xml" + NL
+						+ "--- ok.xml ---" + NL + "XML document is constructed correctly." + NL,
+				report( ReportFormat.TEXT, true ) );
+	}
+
+	/**
+	 * Test method for {@link parser.JsonLinesReporter}.
+	 * @throws IOException
+	 */
+	@Test
+	public void testJson() throws IOException
+	{
+		assertEquals( "Failed to write one object per result",
+				"{\"file\":\"a.xml\",\"status\":\"error\",\"line\":3,\"tag\":\"<b x=\\\"1\\\">\"}" + NL
+						+ "{\"file\":\"a.xml\",\"status\":\"error\",\"line\":7,\"tag\":\"</c>\"}" + NL
+						+ "{\"file\":\"missing.xml\",\"status\":\"unreadable\"}" + NL
+						+ "{\"file\":\"ok.xml\",\"status\":\"ok\"}" + NL,
+				report( ReportFormat.JSON, true ) );
+	}
+
+	/**
+	 * Test method for {@link parser.JsonLinesReporter} with characters
+	 * that must be escaped.
+	 * @throws IOException
+	 */
+	@Test
+	public void testJson_escaping() throws IOException
+	{
+		StringWriter out = new StringWriter();
+		ParseReporter reporter = ReportFormat.JSON.create( out, false );
+
+		reporter.startFile( "dir\\\"q\".xml" );
+		reporter.error( 1, "<a t=\"x\ty\r\n\u0001é\">" );
+		reporter.flush();
+
+		assertEquals( "Failed to escape the file name and tag",
+				"{\"file\":\"dir\\\\\\\"q\\\".xml\",\"status\":\"error\",\"line\":1,"
+						+ "\"tag\":\"<a t=\\\"x\\ty\\r\\n\\u0001é\\\">\"}" + NL,
+				out.toString() );
+	}
+
+	/**
+	 * Test method for {@link parser.JsonLinesReporter#unreadable(String)}
+	 * from a parser used directly, without startFile: the record names the
+	 * path that could not be read.
+	 */
+	@Test
+	public void testJson_unreadableWithoutStart()
+	{
+		StringWriter out = new StringWriter();
+		XMLParser parser = new XMLParser( ScanEngine.REGEX, ReportFormat.JSON.create( out, false ) );
+		String first = new File( "no-such-dir", "first.xml" ).getPath();
+		String second = new File( "no-such-dir", "second.xml" ).getPath();
+
+		parser.parseFile( first );
+		parser.parseFileStreaming( second );
+
+		assertEquals( "Failed to name the unreadable file",
+				"{\"file\":\"" + first.replace( "\\", "\\\\" ) + "\",\"status\":\"unreadable\"}" + NL
+						+ "{\"file\":\"" + second.replace( "\\", "\\\\" ) + "\",\"status\":\"unreadable\"}" + NL,
+				out.toString() );
+	}
+
+	/**
+	 * Test method for {@link parser.CountingReporter}.
+	 * @throws IOException
+	 */
+	@Test
+	public void testCount() throws IOException
+	{
+		StringWriter out = new StringWriter();
+		ParseReporter reporter = ReportFormat.COUNT.create( out, true );
+		reporter.startFile( "one.xml" );
+		reporter.error( 1, "<a>" );
+		reporter.endFile();
+		reporter.flush();
+
+		assertEquals( "Failed to write one line per file",
+				"a.xml: 2 errors" + NL + "missing.xml: unreadable" + NL + "ok.xml: 0 errors" + NL,
+				report( ReportFormat.COUNT, true ) );
+		assertEquals( "Failed to write a single error", "one.xml: 1 error" + NL, out.toString() );
+		assertFalse( "Failed to skip tag text", reporter.needsText() );
+		assertTrue( "Failed to need tag text for TEXT", ReportFormat.TEXT.create( out, false ).needsText() );
+		assertTrue( "Failed to need tag text for JSON", ReportFormat.JSON.create( out, false ).needsText() );
+	}
+
+	/**
+	 * Test method for {@link parser.ParseReporter#needsText()}: the parser
+	 * reads the tag text back only for reporters that use it.
+	 * @throws IOException
+	 */
+	@Test
+	public void testNeedsText() throws IOException
+	{
+		File file = ParserFixture.write( "<root>\n<a x=\"1\">\n</root>\n" );
+
+		for ( InputMode mode : InputMode.values() )
+		{
+			assertEquals( "Failed to read back the text in " + mode, "<a x=\"1\">", firstTag( file, mode, true ) );
+			assertEquals( "Failed to skip the text in " + mode, "<a>", firstTag( file, mode, false ) );
+		}
+	}
+
+	/**
+	 * Parses file and returns the text of the first reported tag.
+	 */
+	private static String firstTag( File file, InputMode mode, boolean needsText )
+	{
+		List<String> tags = new ArrayList<>();
+		ParseReporter reporter = new ParseReporter()
+		{
+			@Override
+			public boolean needsText()
+			{
+				return needsText;
+			}
+
+			@Override
+			public void error( int lineNumber, String tagText )
+			{
+				tags.add( tagText );
+			}
+
+			@Override
+			public void startFile( String path )
+			{
+			}
+
+			@Override
+			public void wellFormed()
+			{
+			}
+
+			@Override
+			public void unreadable( String path )
+			{
+			}
+
+			@Override
+			public void endFile()
+			{
+			}
+
+			@Override
+			public void flush()
+			{
+			}
+		};
+		new XMLParser( ScanEngine.REGEX, reporter ).parse( file.getPath(), mode );
+
+		return tags.get( 0 );
+	}
+}
@@ -0,0 +1,204 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Class Description:
+ * Test for the streaming input mode, StreamingTagReader. Each fixture is
+ * parsed in LINES mode and in STREAMING mode with chunk sizes small enough
+ * to split tags, line breaks and multi-byte characters, and the reports
+ * must be identical. Runs once per scan engine, always against the regex
+ * engine's LINES report.
+ */
+
+@RunWith( Parameterized.class )
+public class StreamingTagReaderTest
+{
+	/** Engine under test; its reports must equal the regex engine's LINES report */
+	@Parameter
+	public ScanEngine engine;
+
+	/**
+	 * @return Every scan engine.
+	 */
+	@Parameters( name = "{0}" )
+	public static Object[] engines()
+	{
+		return ScanEngine.values();
+	}
+
+	// Unclosed and stray tags on every line, so most tags are reported with their text
+	private static final String MIXED =
+			"<?xml version=\"1.0\"?>\n"
+			+ "<root>\n"
+			+ "\t<Item id=\"a1\" kind=\"long attribute value\"><b>bold</b></Item>\n"
+			+ "\t<Open attr=\"x\">text <i>it</b> more</i>\n"
+			+ "\t</Stray><Self/><Self attr=\"1\" />\n"
+			+ "</root>\n";
+
+	/**
+	 * Parses file in STREAMING mode with the given chunk size and the
+	 * default candidate cap.
+	 */
+	private String streaming( File file, int chunkSize )
+	{
+		return ParserFixture.report( engine, parser -> parser.parseFileStreaming( file.getPath(),
+				chunkSize, StreamingTagReader.MAX_CANDIDATE ) );
+	}
+
+	/**
+	 * Asserts that the engine's LINES report, every chunk size from 8 to 40
+	 * and the default chunk size give the regex engine's LINES report.
+	 */
+	private void assertSameAsLines( File file )
+	{
+		String expected = ParserFixture.report( file, InputMode.LINES );
+		assertEquals( "Failed to match the regex engine in LINES mode", expected,
+				ParserFixture.report( engine, file, InputMode.LINES ) );
+		for ( int chunk = StreamingTagReader.MIN_CHUNK_SIZE; chunk <= 40; chunk++ )
+		{
+			assertEquals( "Failed to match LINES with chunk size " + chunk, expected, streaming( file, chunk ) );
+		}
+		assertEquals( "Failed to match LINES with the default chunk size", expected,
+				ParserFixture.report( engine, file, InputMode.STREAMING ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileStreaming(String)}
+	 * with tags straddling chunk borders.
+	 * @throws Exception
+	 */
+	@Test
+	public void testStraddlingTags() throws Exception
+	{
+		File file = ParserFixture.write( MIXED );
+
+		assertSameAsLines( file );
+		assertTrue( "Failed to report the open tag with its attributes",
+				streaming( file, 8 ).contains( "Error at line: 4 <Open attr=\"x\"> is not constructed correctly." ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileStreaming(String)}
+	 * with CR, LF and CRLF line endings, including a CRLF split by a chunk
+	 * border and an empty CR line.
+	 * @throws Exception
+	 */
+	@Test
+	public void testLineEndings() throws Exception
+	{
+		File file = ParserFixture.write( "<a>\r<b>\n</c>\r\n<d x=\"1\">\r\r</b>\n\n<e>\r\n" );
+
+		assertSameAsLines( file );
+		assertEquals( "Failed to count lines across line endings",
+				"Error at line: 4 <d x=\"1\"> is not constructed correctly.\n"
+						+ "Error at line: 8 <e> is not constructed correctly.\n"
+						+ "Error at line: 1 <a> is not constructed correctly.\n"
+						+ "Error at line: 3 </c> is not constructed correctly.\n",
+				streaming( file, 9 ).replace( System.lineSeparator(), "\n" ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileStreaming(String)}
+	 * with multi-byte characters in text, in attributes of reported tags and
+	 * in a candidate that is not a tag.
+	 * @throws Exception
+	 */
+	@Test
+	public void testNonAscii() throws Exception
+	{
+		File file = ParserFixture.write( "<r>héllo 日本語</r>\n"
+				+ "<ü>\n"
+				+ "<b title=\"日本 é\">😀</i>\n" );
+
+		assertSameAsLines( file );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileStreaming(String)}
+	 * with a '<' that has no closing '>' on its line.
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnclosedBracket() throws Exception
+	{
+		StringBuilder doc = new StringBuilder( "<a>\ntext < more" );
+		for ( int i = 0; i < 2000; i++ )
+		{
+			doc.append( " word" );
+		}
+		doc.append( "\n<b>\n</a>\n" );
+		File file = ParserFixture.write( doc.toString() );
+
+		assertSameAsLines( file );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFileStreaming(String, int, int)}:
+	 * a candidate carried past the cap is dropped instead of buffered, and
+	 * the tags after it are still found.
+	 * @throws Exception
+	 */
+	@Test
+	public void testCandidateCap() throws Exception
+	{
+		StringBuilder doc = new StringBuilder( "<Long" );
+		for ( int i = 0; i < 100; i++ )
+		{
+			doc.append( " a=\"1\"" );
+		}
+		doc.append( ">\n<Short>\n" );
+		File file = ParserFixture.write( doc.toString() );
+
+		String capped = ParserFixture.report( engine,
+				parser -> parser.parseFileStreaming( file.getPath(), 16, 64 ) );
+
+		assertEquals( "Failed to drop the long candidate and keep the short tag",
+				"Error at line: 2 <Short> is not constructed correctly." + System.lineSeparator(), capped );
+		assertTrue( "Failed to find the long tag within the default cap",
+				streaming( file, 16 ).contains( "<Long a=" ) );
+	}
+
+	/**
+	 * Test method for {@link parser.StreamingTagReader#read(String)}: once a
+	 * carried candidate passes the cap, its '>' hands nothing to the parser.
+	 * @throws Exception
+	 */
+	@Test
+	public void testCandidateCap_nothingHandedOver() throws Exception
+	{
+		// 72 characters: 60 are carried, then the chunk holding the '>' passes the cap of 64
+		StringBuilder doc = new StringBuilder( "<a>\n<Long" );
+		for ( int i = 0; i < 11; i++ )
+		{
+			doc.append( " a=\"1\"" );
+		}
+		doc.append( ">\n<b>\n" );
+		File file = ParserFixture.write( doc.toString() );
+
+		List<String> candidates = new ArrayList<>();
+		XMLParser parser = new XMLParser( engine, new TextReporter( new StringWriter(), false ) )
+		{
+			@Override
+			void processCandidate( char[] buf, int offset, int length, int lineNumber, long position, int sourceLength )
+			{
+				candidates.add( new String( buf, offset, length ) );
+			}
+		};
+		new StreamingTagReader( parser, TagTextSource.chars( file.getPath(), Charset.defaultCharset() ), 16, 64 ).read( file.getPath() );
+
+		assertEquals( "Failed to hand over only the short candidates", "[<a>, <b>]", candidates.toString() );
+	}
+}
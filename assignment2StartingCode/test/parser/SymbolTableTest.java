@@ -0,0 +1,137 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for SymbolTable, the open-addressing table that interns tag names
+ * into int IDs, from Strings and from slices of a char buffer.
+ */
+
+public class SymbolTableTest
+{
+	private SymbolTable symbols;
+
+	/**
+	 * Creates an empty table before each test.
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		symbols = new SymbolTable();
+	}
+
+	/**
+	 * Test method for {@link parser.SymbolTable#intern(char[], int, int)} and
+	 * {@link parser.SymbolTable#intern(String)}: equal names get one ID,
+	 * whichever form interns them first.
+	 */
+	@Test
+	public void testIntern_sameIdBothForms()
+	{
+		int item = symbols.intern( "item".toCharArray(), 0, 4 );
+		assertEquals( "Failed to return the chars' ID for the String", item, symbols.intern( "item" ) );
+
+		int root = symbols.intern( "root" );
+		assertEquals( "Failed to return the String's ID for the chars", root,
+				symbols.intern( "root".toCharArray(), 0, 4 ) );
+
+		assertNotEquals( "Failed to give different names different IDs", item, root );
+		assertEquals( "Failed to count the names", 2, symbols.size() );
+	}
+
+	/**
+	 * Test method for {@link parser.SymbolTable#name(int)}: the name of an ID
+	 * is what was interned, and the same instance every time.
+	 */
+	@Test
+	public void testName()
+	{
+		int id = symbols.intern( "<a title>".toCharArray(), 1, 1 );
+		int empty = symbols.intern( "" );
+
+		assertEquals( "Failed to return the interned name", "a", symbols.name( id ) );
+		assertEquals( "Failed to intern the empty name", "", symbols.name( empty ) );
+		assertSame( "Failed to return the same instance", symbols.name( id ), symbols.name( symbols.intern( "a" ) ) );
+	}
+
+	/**
+	 * Test method for {@link parser.SymbolTable#intern(String)}: IDs are
+	 * handed out in order and stay the same across several rehashes.
+	 */
+	@Test
+	public void testIntern_stableAcrossRehash()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to hand out the next ID", i, symbols.intern( "tag" + i ) );
+		}
+		assertEquals( "Failed to count the names", 1000, symbols.size() );
+
+		for ( int i = 0; i < 1000; i++ )
+		{
+			char[] name = ( "tag" + i ).toCharArray();
+			assertEquals( "Failed to find the String after rehashing", i, symbols.intern( "tag" + i ) );
+			assertEquals( "Failed to find the chars after rehashing", i, symbols.intern( name, 0, name.length ) );
+			assertEquals( "Failed to keep the name", "tag" + i, symbols.name( i ) );
+		}
+		assertEquals( "Failed to add nothing on lookup", 1000, symbols.size() );
+	}
+
+	/**
+	 * Test method for {@link parser.SymbolTable#intern(String)} with names
+	 * whose hash codes are all equal ("Aa" and "BB" hash alike).
+	 */
+	@Test
+	public void testIntern_collidingHashes()
+	{
+		String[] names = new String[64];
+		for ( int i = 0; i < names.length; i++ )
+		{
+			StringBuilder name = new StringBuilder();
+			for ( int bit = 0; bit < 6; bit++ )
+			{
+				name.append( ( i >> bit & 1 ) == 0 ? "Aa" : "BB" );
+			}
+			names[i] = name.toString();
+		}
+		assertEquals( "Failed to build colliding names", names[0].hashCode(), names[63].hashCode() );
+
+		for ( int i = 0; i < names.length; i++ )
+		{
+			assertEquals( "Failed to give a colliding name its own ID", i, symbols.intern( names[i] ) );
+		}
+		for ( int i = 0; i < names.length; i++ )
+		{
+			char[] chars = names[i].toCharArray();
+			assertEquals( "Failed to find a colliding name", i, symbols.intern( chars, 0, chars.length ) );
+			assertEquals( "Failed to keep a colliding name", names[i], symbols.name( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.SymbolTable#intern(char[], int, int)} with
+	 * names sliced out of a larger buffer, including prefixes of one another.
+	 */
+	@Test
+	public void testIntern_slices()
+	{
+		char[] buf = "<item id=\"1\"><items></item>".toCharArray();
+
+		int item = symbols.intern( buf, 1, 4 );
+		int items = symbols.intern( buf, 14, 5 );
+		int end = symbols.intern( buf, 22, 4 );
+		int it = symbols.intern( buf, 1, 2 );
+
+		assertEquals( "Failed to match the same name at another offset", item, end );
+		assertNotEquals( "Failed to tell a longer name apart", item, items );
+		assertNotEquals( "Failed to tell a prefix apart", item, it );
+		assertEquals( "Failed to slice the name", "items", symbols.name( items ) );
+		assertEquals( "Failed to slice the prefix", "it", symbols.name( it ) );
+		assertEquals( "Failed to match the String form", items, symbols.intern( "items" ) );
+	}
+}
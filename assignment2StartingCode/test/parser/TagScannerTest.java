@@ -0,0 +1,161 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for the state-machine engine, TagScanner. For a table of lines the
+ * scanner must report the same tags, at the same positions, as the regex
+ * engine: XMLParser.TAG_PATTERN followed by the comment, end-tag and
+ * self-closing rules of handleRawTag.
+ */
+
+public class TagScannerTest
+{
+	// Each line is scanned on its own; none contains a line break
+	private static final String[] LINES = {
+			"",
+			"plain text",
+			"<a>",
+			"</a>",
+			"<a>text</a>",
+			"<Item id=\"1\" kind=\"x\">",
+			"<a_b-c9 x>",
+			"<_x>",
+			"<9a>",
+			"<-a>",
+			"<a/>",
+			"<a />",
+			"<a x=\"1\"/>",
+			"<a x=\"1\" / >",
+			"<a/ >",
+			"<a/x>",
+			"</a/>",
+			"</a x>",
+			"<<a>>",
+			"<<<a><b>>",
+			"< a>",
+			"</ a>",
+			"<>",
+			"</>",
+			"<>>",
+			"<!-- <a> -->",
+			"<!DOCTYPE a>",
+			"<?xml version=\"1.0\"?>",
+			"<a href=\"x>y\">",
+			"<a title='<b>'>",
+			"<a\tx=\"1\">",
+			"<a\u000Bx>",
+			"<a\u0001>",
+			"<a \u0001>",
+			"<a \u0001/>",
+			"<a x=\"\u0007\">",
+			"<a x>",
+			"<é>",
+			"<a é=\"1\">",
+			"<a> <b> </b> <c/> </a> < <d",
+			"<a",
+			"<a x=\"1\"",
+	};
+
+	/**
+	 * Tags found by TagScanner, as "name@start-end" with a '/' before end tags.
+	 */
+	private static List<String> scanned( String line )
+	{
+		List<String> tags = new ArrayList<>();
+		TagScanner scanner = new TagScanner( ( buf, start, end, nameStart, nameEnd, isEnd, lineNumber ) ->
+				tags.add( ( isEnd ? "/" : "" ) + new String( buf, nameStart, nameEnd - nameStart ) + "@" + start + "-" + end ) );
+		scanner.scanLine( line, 1 );
+		return tags;
+	}
+
+	/**
+	 * Tags found by the regex engine, in the same form.
+	 */
+	private static List<String> matched( String line )
+	{
+		List<String> tags = new ArrayList<>();
+		Matcher m = XMLParser.TAG_PATTERN.matcher( line );
+		while ( m.find() )
+		{
+			String inside = line.substring( m.start() + 1, m.end() - 1 ).trim();
+			if ( inside.startsWith( "?" ) || inside.startsWith( "!" ) || inside.endsWith( "/" ) )
+			{
+				continue;
+			}
+			boolean isEnd = inside.startsWith( "/" );
+			String name = ( isEnd ? inside.substring( 1 ) : inside ).split( "\\s+" )[0];
+			tags.add( ( isEnd ? "/" : "" ) + name + "@" + m.start() + "-" + m.end() );
+		}
+		return tags;
+	}
+
+	/**
+	 * Test method for {@link parser.TagScanner#scanLine(String, int)}
+	 * against the regex engine for every line of the table.
+	 */
+	@Test
+	public void testSameAsRegex()
+	{
+		for ( String line : LINES )
+		{
+			assertEquals( "Failed to match the regex engine on \"" + line + "\"", matched( line ), scanned( line ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.TagScanner#scanLine(String, int)}
+	 * with every line of the table joined into one.
+	 */
+	@Test
+	public void testSameAsRegex_joined()
+	{
+		String line = String.join( " ", LINES );
+
+		assertEquals( "Failed to match the regex engine on the joined table", matched( line ), scanned( line ) );
+	}
+
+	/**
+	 * Test method for {@link parser.TagScanner#scanLine(String, int)}:
+	 * the expected tags of the tricky lines, so a change to both engines
+	 * together is noticed too.
+	 */
+	@Test
+	public void testExpectedTags()
+	{
+		assertEquals( "Failed to skip self-closing tags", "[]", scanned( "<a/><a /><a x=\"1\"/>" ).toString() );
+		assertEquals( "Failed to restart at the last '<'", "[a@1-4]", scanned( "<<a>>" ).toString() );
+		assertEquals( "Failed to reject a space before the name", "[]", scanned( "< a></ a>" ).toString() );
+		assertEquals( "Failed to skip comments and declarations", "[a@5-8]", scanned( "<!-- <a> -->" ).toString() );
+		assertEquals( "Failed to skip processing instructions", "[]", scanned( "<?xml version=\"1.0\"?>" ).toString() );
+		assertEquals( "Failed to end the tag at the first '>'", "[a@0-11]", scanned( "<a href=\"x>y\">" ).toString() );
+		assertEquals( "Failed to read an end tag with attributes", "[/a@0-6]", scanned( "</a x>" ).toString() );
+		assertEquals( "Failed to ignore control characters after the name", "[a@0-5]", scanned( "<a \u0001>" ).toString() );
+		assertEquals( "Failed to reject a control character in the name", "[]", scanned( "<a\u0001>" ).toString() );
+	}
+
+	/**
+	 * Test method for {@link parser.TagScanner#scan(char[], int, int, int)}
+	 * on a slice of a larger buffer: positions are buffer indices.
+	 */
+	@Test
+	public void testScan_slice()
+	{
+		char[] buf = "xx<a></b>yy".toCharArray();
+		List<String> tags = new ArrayList<>();
+		TagScanner scanner = new TagScanner( ( b, start, end, nameStart, nameEnd, isEnd, lineNumber ) ->
+				tags.add( ( isEnd ? "/" : "" ) + new String( b, nameStart, nameEnd - nameStart ) + "@" + start + "-" + end
+						+ ":" + lineNumber ) );
+
+		scanner.scan( buf, 2, 9, 7 );
+
+		assertEquals( "Failed to report buffer positions and the line number", "[a@2-5:7, /b@5-9:7]", tags.toString() );
+	}
+}
@@ -0,0 +1,196 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for reading tag text back after parsing, TagTextSource, with the
+ * chars source in particular: it must find text through the checkpoints
+ * the streaming reader leaves, and when the file is gone the parser must
+ * still report the tags by name.
+ */
+
+public class TagTextSourceTest
+{
+	private static final String NL = System.lineSeparator();
+
+	/**
+	 * A long document with error tags near its start, middle and end,
+	 * multi-byte text between them, and one tag cut by every chunk size.
+	 */
+	private static String document()
+	{
+		StringBuilder doc = new StringBuilder( "<root>\n<early a=\"é\">\n" );
+		for ( int i = 0; i < 300; i++ )
+		{
+			doc.append( "<p>日本語 text é " ).append( i ).append( "</p>\n" );
+			if ( i == 150 )
+			{
+				doc.append( "<middle b=\"😀 x\"></stray>\n" );
+			}
+		}
+		doc.append( "<late c=\"ü\">\n</root>\n" );
+		return doc.toString();
+	}
+
+	/**
+	 * Test method for {@link parser.TagTextSource#resolve(Tag[])} through
+	 * the streaming mode: late tags are read back correctly over many
+	 * chunks.
+	 * @throws Exception
+	 */
+	@Test
+	public void testChars_lateTags() throws Exception
+	{
+		File file = ParserFixture.write( document() );
+		String expected = ParserFixture.report( file, InputMode.LINES );
+
+		assertTrue( "Failed to report the late tag with its text",
+				expected.contains( "<late c=\"ü\"> is not constructed correctly." ) );
+		for ( int chunk : new int[] { StreamingTagReader.MIN_CHUNK_SIZE, 13, 64, 1000 } )
+		{
+			assertEquals( "Failed to read back the text with chunk size " + chunk, expected,
+					ParserFixture.report( ScanEngine.REGEX,
+							parser -> parser.parseFileStreaming( file.getPath(), chunk, StreamingTagReader.MAX_CANDIDATE ) ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.TagTextSource#resolve(Tag[])} on a
+	 * chars source: decoding starts at the checkpoint before the tag, not
+	 * at the start of the file.
+	 * @throws IOException
+	 */
+	@Test
+	public void testChars_seeksToCheckpoint() throws IOException
+	{
+		// "é" is two bytes, so character 8, the first line break, is byte 9
+		File file = ParserFixture.write( "<a>é</a>\n<b x>\n" );
+		TagTextSource source = TagTextSource.chars( file.getPath(), StandardCharsets.UTF_8 );
+		source.checkpoint( 8, 9 );
+		Tag tag = new Tag( 0, "b", 2, 9, 5 );
+
+		source.resolve( new Tag[] { tag } );
+		assertEquals( "Failed to read the tag from the checkpoint", "<b x>", tag.originalText );
+
+		// A checkpoint that lies shows it is used: decoding restarts at byte 0
+		TagTextSource lying = TagTextSource.chars( file.getPath(), StandardCharsets.UTF_8 );
+		lying.checkpoint( 8, 0 );
+		Tag moved = new Tag( 0, "b", 2, 8, 3 );
+		lying.resolve( new Tag[] { moved } );
+		assertEquals( "Failed to start decoding at the checkpoint's byte", "<a>", moved.originalText );
+	}
+
+	/**
+	 * Test method for {@link parser.TagTextSource#checkpoint(long, long)}
+	 * with a charset whose decoder keeps state: checkpoints are ignored.
+	 * @throws IOException
+	 */
+	@Test
+	public void testChars_statefulCharset() throws IOException
+	{
+		File file = ParserFixture.write( "<a>\n<b x>\n".getBytes( StandardCharsets.UTF_16 ) );
+		TagTextSource source = TagTextSource.chars( file.getPath(), StandardCharsets.UTF_16 );
+		source.checkpoint( 4, 10 );
+		Tag tag = new Tag( 0, "b", 2, 4, 5 );
+
+		source.resolve( new Tag[] { tag } );
+		assertEquals( "Failed to decode from the start", "<b x>", tag.originalText );
+	}
+
+	/**
+	 * Test method for {@link parser.TagTextSource#resolve(Tag[])} when the
+	 * file is gone.
+	 * @throws IOException
+	 */
+	@Test( expected = NoSuchFileException.class )
+	public void testChars_missingFile() throws IOException
+	{
+		TagTextSource source = TagTextSource.chars( new File( "no-such-dir", "gone.xml" ).getPath(),
+				StandardCharsets.UTF_8 );
+		source.resolve( new Tag[] { new Tag( 0, "a", 1, 0, 3 ) } );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#endSegments()}: tags
+	 * replayed from a scanner whose file cannot be read back are reported
+	 * as "&lt;name&gt;".
+	 * @throws IOException
+	 */
+	@Test
+	public void testSegments_unreadableFallback() throws IOException
+	{
+		File file = ParserFixture.write( "<root>\n<a x=\"1\">\n</root>\n</b>\n" );
+
+		assertEquals( "Failed to read back the text",
+				"Error at line: 2 <a x=\"1\"> is not constructed correctly." + NL
+						+ "Error at line: 4 </b> is not constructed correctly." + NL,
+				replay( file, file.getPath() ) );
+		assertEquals( "Failed to fall back to the tag name",
+				"Error at line: 2 <a> is not constructed correctly." + NL
+						+ "Error at line: 4 <b> is not constructed correctly." + NL,
+				replay( file, new File( "no-such-dir", "gone.xml" ).getPath() ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFile(String)} on a parser
+	 * already used by a chunked reader: every input mode must read the tag
+	 * text back from its own offsets, not those the previous mode left.
+	 * @throws IOException
+	 */
+	@Test
+	public void testReusedParser_acrossModes() throws IOException
+	{
+		File file = ParserFixture.write( "<root>\n<a attr=\"1\">\n</root>\n" );
+		String once = "Error at line: 2 <a attr=\"1\"> is not constructed correctly." + NL;
+
+		for ( ScanEngine engine : ScanEngine.values() )
+		{
+			for ( InputMode first : InputMode.values() )
+			{
+				StringBuilder expected = new StringBuilder();
+				for ( int i = 0; i < InputMode.values().length + 1; i++ )
+				{
+					expected.append( once );
+				}
+
+				assertEquals( "Failed to reuse a " + engine + " parser after " + first, expected.toString(),
+						ParserFixture.report( engine, parser -> {
+							parser.parse( file.getPath(), first );
+							for ( InputMode mode : InputMode.values() )
+							{
+								parser.parse( file.getPath(), mode );
+							}
+						} ) );
+			}
+		}
+	}
+
+	/**
+	 * Scans file into a segment, as the pipeline scanner does, and replays
+	 * it into a parser that reads tag text back from textPath.
+	 */
+	private static String replay( File file, String textPath ) throws IOException
+	{
+		TagSegment segment = new TagSegment();
+		new StreamingTagReader( new XMLParser( ScanEngine.REGEX, segment ),
+				TagTextSource.chars( file.getPath(), StandardCharsets.UTF_8 ) ).read( file.getPath() );
+
+		StringWriter out = new StringWriter();
+		TextReporter reporter = new TextReporter( out, false );
+		XMLParser parser = new XMLParser( ScanEngine.REGEX, reporter );
+		parser.beginSegments( TagTextSource.chars( textPath, StandardCharsets.UTF_8 ) );
+		segment.replay( parser, 0 );
+		parser.endSegments();
+
+		return out.toString();
+	}
+}
@@ -0,0 +1,120 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for ValidationService. Requests are fed through an in-memory stream;
+ * every path must get its own block, and a validation that throws must be
+ * reported while the input is still open rather than when it ends.
+ */
+
+public class ValidationServiceTest
+{
+	private static final String NL = System.lineSeparator();
+
+	private ValidationService service;
+
+	/**
+	 * Creates a streaming service, in which a path that is not a valid file
+	 * name makes validation throw.
+	 */
+	@Before
+	public void setUp()
+	{
+		service = new ValidationService( ScanEngine.REGEX, InputMode.STREAMING, ReportFormat.TEXT );
+	}
+
+	/**
+	 * Stops the service's threads.
+	 */
+	@After
+	public void tearDown()
+	{
+		service.shutdown();
+	}
+
+	/**
+	 * Test method for {@link parser.ValidationService#serve(java.io.InputStream, java.io.OutputStream)}
+	 * with good, malformed, missing and blank requests.
+	 * @throws Exception
+	 */
+	@Test
+	public void testServe_blocks() throws Exception
+	{
+		String good = ParserFixture.write( "<a>\n<b/>\n</a>\n" ).getPath();
+		String bad = ParserFixture.write( "<a>\n<b>\n</a>\n" ).getPath();
+		String missing = new File( "no-such-dir", "missing.xml" ).getPath();
+		String input = good + "\n\n  " + bad + "  \n" + missing + "\n";
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.serve( new ByteArrayInputStream( input.getBytes( StandardCharsets.UTF_8 ) ), out );
+
+		// Blocks come in completion order, so compare them as a set
+		Set<String> blocks = new HashSet<>( Arrays.asList( out.toString( "UTF-8" ).split( "(?=--- )" ) ) );
+		Set<String> expected = new HashSet<>();
+		for ( String path : new String[] { good, bad, missing } )
+		{
+			expected.add( BatchValidator.validateToString( path, ScanEngine.REGEX, InputMode.STREAMING, ReportFormat.TEXT ) );
+		}
+
+		assertEquals( "Failed to answer every request with its own block", expected, blocks );
+	}
+
+	/**
+	 * Test method for {@link parser.ValidationService#serve(java.io.InputStream, java.io.OutputStream)}
+	 * with a request that throws: the error is printed before the input
+	 * ends, and later requests are still served.
+	 * @throws Exception
+	 */
+	@Test( timeout = 10000 )
+	public void testServe_errorReportedImmediately() throws Exception
+	{
+		PipedOutputStream requests = new PipedOutputStream();
+		PipedInputStream in = new PipedInputStream( requests );
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Thread server = new Thread( () ->
+		{
+			try
+			{
+				service.serve( in, out );
+			}
+			catch ( Exception e )
+			{
+				throw new IllegalStateException( e );
+			}
+		} );
+		server.start();
+
+		requests.write( "bad\u0000path\n".getBytes( StandardCharsets.UTF_8 ) );
+		requests.flush();
+		while ( !out.toString( "UTF-8" ).contains( "ERROR: Could not validate bad\u0000path: " ) )
+		{
+			Thread.sleep( 10 );
+		}
+
+		String good = ParserFixture.write( "<a/>\n" ).getPath();
+		requests.write( ( good + "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+		requests.close();
+		server.join();
+
+		String output = out.toString( "UTF-8" );
+		assertTrue( "Failed to serve the request after the error",
+				output.contains( "--- " + good + " ---" + NL + "XML document is constructed correctly." + NL ) );
+		assertEquals( "Failed to report the error once", output.indexOf( "ERROR:" ), output.lastIndexOf( "ERROR:" ) );
+	}
+}
@@ -0,0 +1,100 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for XMLGenerator. Benchmarks rely on a seed always producing the
+ * same document and the same injected error counts.
+ */
+
+public class XMLGeneratorTest
+{
+	/**
+	 * A generator with errors of every kind injected.
+	 */
+	private static XMLGenerator generator( long seed )
+	{
+		return new XMLGenerator( seed ).elements( 500 ).inlineRate( 0.3 ).unclosedRate( 0.05 ).extraCloseRate( 0.05 )
+				.crossedRate( 0.1 );
+	}
+
+	/**
+	 * Returns the document generator writes.
+	 */
+	private static String generate( XMLGenerator generator ) throws IOException
+	{
+		StringWriter out = new StringWriter();
+		generator.write( out );
+		return out.toString();
+	}
+
+	/**
+	 * Test method for {@link parser.XMLGenerator#write(java.io.Writer)}
+	 * with two generators given the same seed.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWrite_sameSeed() throws IOException
+	{
+		XMLGenerator first = generator( 7 );
+		XMLGenerator second = generator( 7 );
+
+		assertEquals( "Failed to write the same document for the same seed", generate( first ), generate( second ) );
+		assertEquals( "Failed to inject the same unclosed tags", first.getUnclosed(), second.getUnclosed() );
+		assertEquals( "Failed to inject the same extra end tags", first.getExtraCloses(), second.getExtraCloses() );
+		assertEquals( "Failed to inject the same crossed tags", first.getCrossed(), second.getCrossed() );
+		assertTrue( "Failed to inject any errors", first.getUnclosed() > 0 && first.getExtraCloses() > 0 );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLGenerator#write(java.io.Writer)}
+	 * called twice on one generator.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWrite_repeated() throws IOException
+	{
+		XMLGenerator generator = generator( 7 );
+		String first = generate( generator );
+		int unclosed = generator.getUnclosed();
+
+		assertEquals( "Failed to write the same document again", first, generate( generator ) );
+		assertEquals( "Failed to count the same unclosed tags again", unclosed, generator.getUnclosed() );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLGenerator#write(String)}: the file
+	 * holds the same document as the writer.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWrite_file() throws IOException
+	{
+		File file = ParserFixture.write( "" );
+		generator( 7 ).write( file.getPath() );
+
+		assertEquals( "Failed to write the same document to a file", generate( generator( 7 ) ),
+				new String( Files.readAllBytes( file.toPath() ), StandardCharsets.UTF_8 ) );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLGenerator#XMLGenerator(long)} with
+	 * different seeds and the same size.
+	 * @throws IOException
+	 */
+	@Test
+	public void testWrite_differentSeed() throws IOException
+	{
+		assertNotEquals( "Failed to vary the document with the seed", generate( generator( 7 ) ),
+				generate( generator( 8 ) ) );
+	}
+}
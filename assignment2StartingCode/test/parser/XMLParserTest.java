@@ -0,0 +1,153 @@
+package parser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Class Description:
+ * Test for the stack and queue logic of XMLParser. The expected reports are
+ * those of the original parser, which searched the whole stack for every
+ * mismatched end tag; the open-name counts must give the same reports on
+ * every path that pops the stack, with open tags kept as IDs or as Tags.
+ */
+
+public class XMLParserTest
+{
+	// An end tag matching n-1 levels down
+	private static final String DEEP = "<root>\n<a>\n<b>\n<c>\n<d>\n</root>\n";
+
+	// </b> arrives after b was popped as an error
+	private static final String DRAINED = "<root>\n<a>\n<b>\n<c>\n</a>\n</b>\n</root>\n";
+
+	// </a> arrives after a was opened and closed
+	private static final String STRAY = "<root>\n<a>\n</a>\n<b>\n</a>\n</b>\n</root>\n";
+
+	// One name nested three times, then mismatched
+	private static final String NESTED = "<x>\n<x>\n<x>\n<y>\n</x>\n</x>\n</x>\n</x>\n";
+	private static final String NESTED_IN_ROOT = "<root>\n<x>\n<x>\n<x>\n<y>\n</x>\n</x>\n</x>\n</x>\n</root>\n</x>\n";
+
+	// Open tags left after mismatches, drained at the end of the file
+	private static final String DRAIN = "<root>\n<a>\n<b>\n</a>\n<c>\n<d>\n</c>\n<e>\n</f>\n<g>\n";
+
+	/**
+	 * Asserts that doc is reported as the given error lines, in order, with
+	 * both scan engines.
+	 */
+	private static void assertReport( String doc, String... errors ) throws Exception
+	{
+		File file = ParserFixture.write( doc );
+		StringBuilder expected = new StringBuilder();
+		for ( String error : errors )
+		{
+			expected.append( "Error at line: " ).append( error ).append( " is not constructed correctly." )
+					.append( System.lineSeparator() );
+		}
+
+		for ( ScanEngine engine : ScanEngine.values() )
+		{
+			assertEquals( "Failed to report the original errors with " + engine, expected.toString(),
+					ParserFixture.report( engine, file, InputMode.LINES ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFile(String)} with an end
+	 * tag that matches n-1 levels down: every tag above it is reported, and
+	 * is no longer counted as open.
+	 * @throws Exception
+	 */
+	@Test
+	public void testDeepMismatch() throws Exception
+	{
+		assertReport( DEEP, "5 <d>", "4 <c>", "3 <b>", "2 <a>" );
+		// </b> must not drain root
+		assertReport( DRAINED, "4 <c>" );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFile(String)} with a stray
+	 * end tag whose name was opened and closed earlier, so it is no longer
+	 * open anywhere and nothing is popped.
+	 * @throws Exception
+	 */
+	@Test
+	public void testStrayAfterClosed() throws Exception
+	{
+		assertReport( STRAY, "5 </a>" );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFile(String)} with one name
+	 * nested three times and then mismatched: the mismatch closes only the
+	 * innermost, the other two still match, and a fourth end tag is stray.
+	 * @throws Exception
+	 */
+	@Test
+	public void testNestedSameName() throws Exception
+	{
+		assertReport( NESTED, "4 <y>", "8 </x>" );
+		// The stray </x> inside root is cancelled by the one after it
+		assertReport( NESTED_IN_ROOT, "5 <y>" );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#parseFile(String)} with tags
+	 * left open after earlier mismatches, drained at the end of the file.
+	 * @throws Exception
+	 */
+	@Test
+	public void testDrainAfterMismatches() throws Exception
+	{
+		assertReport( DRAIN, "3 <b>", "6 <d>", "10 <g>", "8 <e>", "1 <root>", "9 </f>" );
+	}
+
+	/**
+	 * Test method for {@link parser.XMLParser#setIdStack(boolean)}: every
+	 * fixture gives the same report with open tags kept as IDs and as Tags
+	 * on a MyArrayDeque, in every input mode and with both engines.
+	 * @throws Exception
+	 */
+	@Test
+	public void testIdStack_sameReports() throws Exception
+	{
+		List<File> files = new ArrayList<>();
+		files.add( new File( "res/sample1.xml" ) );
+		files.add( new File( "res/sample2.xml" ) );
+		for ( String doc : new String[] { DEEP, DRAINED, STRAY, NESTED, NESTED_IN_ROOT, DRAIN } )
+		{
+			files.add( ParserFixture.write( doc ) );
+		}
+		StringWriter generated = new StringWriter();
+		new XMLGenerator( 7 ).elements( 3000 ).unclosedRate( 0.02 ).extraCloseRate( 0.02 ).crossedRate( 0.02 )
+				.write( generated );
+		files.add( ParserFixture.write( generated.toString() ) );
+
+		for ( File file : files )
+		{
+			for ( ScanEngine engine : ScanEngine.values() )
+			{
+				for ( InputMode mode : InputMode.values() )
+				{
+					String ids = ParserFixture.report( engine, parser -> {
+						parser.setIdStack( true );
+						parser.parse( file.getPath(), mode );
+					} );
+					String tags = ParserFixture.report( engine, parser -> {
+						parser.setIdStack( false );
+						parser.parse( file.getPath(), mode );
+					} );
+
+					assertEquals( "Failed to match the Tag stack for " + file + " with " + engine + " in " + mode,
+							ids, tags );
+					assertFalse( "Failed to report " + file, ids.isEmpty() );
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,374 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import utilities.QueueADT;
+import utilities.StackADT;
+import implementations.MyArrayDeque;
+import implementations.MyQueue;
+import implementations.MyStack;
+
+/**
+ * Class Description:
+ * Test for the circular-array deque, MyArrayDeque, used through both
+ * the StackADT and the QueueADT.
+ */
+
+public class ArrayDequeTest
+{
+	// Attributes
+	private MyArrayDeque<Integer> deque;
+
+	/**
+	 * Initializes a MyArrayDeque with capacity 4 before each test, so
+	 * the tests wrap and grow the array.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		deque = new MyArrayDeque<Integer>( 4 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		deque = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#push(java.lang.Object)}
+	 * and {@link implementations.MyArrayDeque#pop()} in LIFO order, past
+	 * several resizes.
+	 */
+	@Test
+	public void testPushPop_lifo()
+	{
+		StackADT<Integer> stack = deque;
+		for ( int i = 0; i < 100; i++ )
+		{
+			stack.push( i );
+		}
+
+		assertEquals( "Failed to return correct size", 100, stack.size() );
+		for ( int i = 99; i >= 0; i-- )
+		{
+			assertEquals( "Failed to pop in LIFO order", Integer.valueOf( i ), stack.pop() );
+		}
+		assertTrue( "Failed to empty", stack.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#enqueue(java.lang.Object)}
+	 * and {@link implementations.MyArrayDeque#dequeue()} in FIFO order,
+	 * wrapping around the array.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueueDequeue_fifo() throws EmptyQueueException
+	{
+		QueueADT<Integer> queue = deque;
+		for ( int round = 0; round < 50; round++ )
+		{
+			queue.enqueue( 2 * round );
+			queue.enqueue( 2 * round + 1 );
+			assertEquals( "Failed to dequeue in FIFO order", Integer.valueOf( round ), queue.dequeue() );
+		}
+
+		assertEquals( "Failed to return correct size", 50, queue.size() );
+		for ( int i = 50; i < 100; i++ )
+		{
+			assertEquals( "Failed to dequeue in FIFO order", Integer.valueOf( i ), queue.dequeue() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#addFirst(java.lang.Object)},
+	 * {@link implementations.MyArrayDeque#addLast(java.lang.Object)},
+	 * {@link implementations.MyArrayDeque#pollFirst()} and
+	 * {@link implementations.MyArrayDeque#pollLast()}.
+	 */
+	@Test
+	public void testBothEnds()
+	{
+		deque.addLast( 2 );
+		deque.addFirst( 1 );
+		deque.addLast( 3 );
+		deque.addFirst( 0 );
+		deque.addLast( 4 );
+
+		assertEquals( "Failed to peek first", Integer.valueOf( 0 ), deque.peekFirst() );
+		assertEquals( "Failed to peek last", Integer.valueOf( 4 ), deque.peekLast() );
+		assertArrayEquals( "Failed to keep order", new Object[] { 0, 1, 2, 3, 4 }, deque.toArray() );
+		assertEquals( "Failed to poll last", Integer.valueOf( 4 ), deque.pollLast() );
+		assertEquals( "Failed to poll first", Integer.valueOf( 0 ), deque.pollFirst() );
+
+		deque.clear();
+		assertNull( "Failed to return null when empty", deque.pollFirst() );
+		assertNull( "Failed to return null when empty", deque.pollLast() );
+		assertNull( "Failed to return null when empty", deque.peekLast() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#pop()}
+	 * on an empty deque.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPop_empty()
+	{
+		deque.pop();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#dequeue()}
+	 * on an empty deque.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_empty() throws EmptyQueueException
+	{
+		deque.enqueue( 1 );
+		deque.dequeue();
+		deque.dequeue();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#peek()}
+	 * on an empty deque used as a queue, which throws EmptyStackException.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPeek_emptyQueue() throws EmptyQueueException
+	{
+		QueueADT<Integer> queue = deque;
+		queue.peek();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#push(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testPush_null()
+	{
+		deque.push( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#search(java.lang.Object)}
+	 * with null, rejected as contains rejects it.
+	 */
+	@Test
+	public void testSearch_null()
+	{
+		deque.push( 1 );
+		try
+		{
+			deque.search( null );
+			fail( "Failed to reject null" );
+		}
+		catch ( NullPointerException e )
+		{
+			assertEquals( "Failed to explain the null", "Cannot search for null element", e.getMessage() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#search(java.lang.Object)},
+	 * {@link implementations.MyArrayDeque#contains(java.lang.Object)} and
+	 * {@link implementations.MyArrayDeque#peek()} matching MyStack.
+	 */
+	@Test
+	public void testSearch_matchesStack()
+	{
+		MyStack<Integer> stack = new MyStack<Integer>();
+		for ( int i = 0; i < 6; i++ )
+		{
+			deque.push( i );
+			stack.push( i );
+		}
+
+		assertEquals( "Failed to match stack position", stack.search( 4 ), deque.search( 4 ) );
+		assertEquals( "Failed to peek top", stack.peek(), deque.peek() );
+		assertTrue( "Failed to find element", deque.contains( 0 ) );
+		assertEquals( "Failed to return -1", -1, deque.search( 9 ) );
+		assertTrue( "Failed to compare with MyStack", deque.equals( stack ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#search(java.lang.Object)}
+	 * and {@link implementations.MyArrayDeque#equals(utilities.QueueADT)}
+	 * matching MyQueue.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearch_matchesQueue() throws EmptyQueueException
+	{
+		MyQueue<Integer> queue = new MyQueue<Integer>();
+		for ( int i = 0; i < 6; i++ )
+		{
+			deque.enqueue( i );
+			queue.enqueue( i );
+		}
+
+		assertEquals( "Failed to match queue position", queue.search( 4 ), deque.search( 4 ) );
+		assertTrue( "Failed to compare with MyQueue", deque.equals( queue ) );
+
+		MyArrayDeque<Integer> other = new MyArrayDeque<Integer>();
+		for ( int i = 5; i >= 0; i-- )
+		{
+			other.push( i );
+		}
+		assertTrue( "Failed to compare with another deque", deque.equals( (StackADT<Integer>) other ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#iterator()}
+	 * and {@link implementations.MyArrayDeque#toArray(Object[])} across
+	 * the wrap.
+	 */
+	@Test
+	public void testIteratorToArray()
+	{
+		deque.addLast( 2 );
+		deque.addLast( 3 );
+		deque.addFirst( 1 );
+
+		Iterator<Integer> it = deque.iterator();
+		for ( int i = 1; i <= 3; i++ )
+		{
+			assertEquals( "Failed to iterate first to last", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end", it.hasNext() );
+
+		Integer[] holder = deque.toArray( new Integer[4] );
+		assertArrayEquals( "Failed to copy elements", new Integer[] { 1, 2, 3, null }, holder );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		deque.iterator().next();
+	}
+
+	/**
+	 * Fills the deque with 1, 2, 3 across the end of its array.
+	 */
+	private void fillWrapped()
+	{
+		deque.addLast( 2 );
+		deque.addLast( 3 );
+		deque.addFirst( 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#iterator()} when an
+	 * element is added at the front during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_addFirstDuringIteration()
+	{
+		fillWrapped();
+		Iterator<Integer> it = deque.iterator();
+		it.next();
+		deque.addFirst( 0 );
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#iterator()} when the
+	 * last element is polled during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_pollLastDuringIteration()
+	{
+		fillWrapped();
+		Iterator<Integer> it = deque.iterator();
+		it.next();
+		deque.pollLast();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#iterator()} when the
+	 * deque is cleared during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_clearDuringIteration()
+	{
+		fillWrapped();
+		Iterator<Integer> it = deque.iterator();
+		it.next();
+		deque.clear();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#iterator()}:
+	 * peeking at both ends changes nothing and is not counted.
+	 */
+	@Test
+	public void testIterator_peekNotCounted()
+	{
+		fillWrapped();
+		Iterator<Integer> it = deque.iterator();
+		assertEquals( "Failed to return first", Integer.valueOf( 1 ), it.next() );
+		assertEquals( "Failed to peek first", Integer.valueOf( 1 ), deque.peekFirst() );
+		assertEquals( "Failed to peek last", Integer.valueOf( 3 ), deque.peekLast() );
+		assertEquals( "Failed to return second", Integer.valueOf( 2 ), it.next() );
+		assertEquals( "Failed to return third", Integer.valueOf( 3 ), it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#snapshotIterator()}:
+	 * a snapshot of a wrapped deque keeps its elements after both ends are
+	 * polled and the array grows.
+	 */
+	@Test
+	public void testSnapshotIterator()
+	{
+		fillWrapped();
+		Iterator<Integer> it = deque.snapshotIterator();
+		deque.pollFirst();
+		deque.pollLast();
+		for ( int i = 4; i < 10; i++ )
+		{
+			deque.addFirst( i );
+		}
+		for ( int i = 1; i <= 3; i++ )
+		{
+			assertEquals( "Failed to iterate the snapshot", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end the snapshot", it.hasNext() );
+		assertEquals( "Failed to change the deque", 7, deque.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayDeque#MyArrayDeque(int)}
+	 * with a negative capacity.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_negative()
+	{
+		new MyArrayDeque<Integer>( -1 );
+	}
+}
@@ -8,6 +8,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import implementations.GrowthPolicy;
 import implementations.MyArrayList;
 import implementations.MyDLL;
 import utilities.Iterator;
@@ -1299,4 +1300,275 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert a DLL into the middle of the list.
+	 */
+	@Test
+	public void testAddAllIndex_DLL()
+	{
+		MyDLL<Integer> intList = new MyDLL<>();
+		intList.add( two );
+		intList.add( three );
+		intList.add( four );
+
+		myList.add( one );
+		myList.add( five );
+
+		assertTrue( "Failed to return true.", myList.addAll( 1, intList ) );
+		assertEquals( "Failed to update size.", 5, myList.size() );
+		for( int i = 0; i < myList.size(); i++ )
+		{
+			int actualValue = myList.get( i );
+			assertEquals( "Failed to add to the correct position.", i + 1, actualValue );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert the list into itself.
+	 */
+	@Test
+	public void testAddAllIndex_self()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		myList.addAll( 1, myList );
+
+		Object[] expected = { 1, 1, 2, 3, 2, 3 };
+		assertArrayEquals( "Failed to copy list into itself.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * with an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddAllIndex_outOfBounds()
+	{
+		myList.addAll( 1, new MyDLL<Integer>() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeRange(int, int)}
+	 * to remove a range from the middle of the list.
+	 */
+	@Test
+	public void testRemoveRange()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		myList.removeRange( 2, 7 );
+
+		Object[] expected = { 0, 1, 7, 8, 9 };
+		assertArrayEquals( "Failed to remove range.", expected, myList.toArray() );
+		myList.removeRange( 0, 5 );
+		assertTrue( "Failed to remove whole list.", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeRange(int, int)}
+	 * with the bounds reversed.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testRemoveRange_reversed()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.removeRange( 2, 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#ensureCapacity(int)} and
+	 * {@link implementations.MyArrayList#trimToSize()}; the list keeps
+	 * working after being trimmed to nothing.
+	 */
+	@Test
+	public void testEnsureCapacityTrimToSize()
+	{
+		myList.ensureCapacity( 1000 );
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		myList.clear();
+		myList.trimToSize();
+
+		myList.add( one );
+		myList.add( two );
+		assertEquals( "Failed to add after trimming.", 2, myList.size() );
+		assertEquals( "Failed to add after trimming.", two, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * with a capacity of zero, which still grows on add.
+	 */
+	@Test
+	public void testConstructor_zeroCapacity()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>( 0 );
+		assertEquals( "Failed to use initial capacity.", 0, list.capacity() );
+
+		for( int i = 0; i < 100; i++ )
+		{
+			list.add( i );
+		}
+		assertEquals( "Failed to grow from zero.", 100, list.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * with a negative capacity.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_negativeCapacity()
+	{
+		new MyArrayList<Integer>( -1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int, GrowthPolicy)}
+	 * with each growth policy.
+	 */
+	@Test
+	public void testGrowthPolicies()
+	{
+		MyArrayList<Integer> doubling = new MyArrayList<>( 8, GrowthPolicy.DOUBLING );
+		MyArrayList<Integer> oneAndHalf = new MyArrayList<>( 8, GrowthPolicy.ONE_AND_HALF );
+		MyArrayList<Integer> increment = new MyArrayList<>( 8, GrowthPolicy.increment( 100 ) );
+
+		for( int i = 0; i < 9; i++ )
+		{
+			doubling.add( i );
+			oneAndHalf.add( i );
+			increment.add( i );
+		}
+
+		assertEquals( "Failed to double.", 16, doubling.capacity() );
+		assertEquals( "Failed to grow by half.", 12, oneAndHalf.capacity() );
+		assertEquals( "Failed to grow by a fixed step.", 108, increment.capacity() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GrowthPolicy#grownCapacity(int, int)}
+	 * near Integer.MAX_VALUE, where the policies overflow.
+	 */
+	@Test
+	public void testGrowthPolicy_grownCapacity()
+	{
+		assertEquals( "Failed to double.", 20, GrowthPolicy.DOUBLING.grownCapacity( 10, 11 ) );
+		assertEquals( "Failed to raise to the capacity needed.", 100,
+				GrowthPolicy.increment( 1 ).grownCapacity( 10, 100 ) );
+		assertEquals( "Failed to grow from zero.", 1, GrowthPolicy.DOUBLING.grownCapacity( 0, 1 ) );
+		assertEquals( "Failed to cap an overflowing policy.", GrowthPolicy.MAX_ARRAY_SIZE,
+				GrowthPolicy.DOUBLING.grownCapacity( Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2 ) );
+		assertEquals( "Failed to cap a policy past the limit.", GrowthPolicy.MAX_ARRAY_SIZE,
+				GrowthPolicy.ONE_AND_HALF.grownCapacity( GrowthPolicy.MAX_ARRAY_SIZE - 10, GrowthPolicy.MAX_ARRAY_SIZE - 9 ) );
+		assertEquals( "Failed to go past the limit when needed.", Integer.MAX_VALUE,
+				GrowthPolicy.DOUBLING.grownCapacity( GrowthPolicy.MAX_ARRAY_SIZE, Integer.MAX_VALUE ) );
+		try
+		{
+			GrowthPolicy.DOUBLING.grownCapacity( Integer.MAX_VALUE, Integer.MAX_VALUE + 1 );
+			fail( "Failed to reject an overflowed size." );
+		}
+		catch ( OutOfMemoryError e )
+		{
+			// Expected
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * with a growth policy that falls short of the space needed.
+	 */
+	@Test
+	public void testGrowthPolicy_tooSmall()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>( 2, ( oldCapacity, minCapacity ) -> oldCapacity + 1 );
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		list.addAll( myList );
+		assertEquals( "Failed to grow to the space needed.", 10, list.capacity() );
+		assertEquals( "Failed to copy elements.", Integer.valueOf( 9 ), list.get( 9 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.GrowthPolicy#increment(int)}
+	 * with a step of zero.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testGrowthPolicy_zeroIncrement()
+	{
+		GrowthPolicy.increment( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#setShrinkThreshold(int)}
+	 * with {@link implementations.MyArrayList#clear()}.
+	 */
+	@Test
+	public void testShrinkThreshold_clear()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		myList.clear();
+		assertTrue( "Failed to keep capacity by default.", myList.capacity() >= 1000 );
+
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		myList.setShrinkThreshold( 100 );
+		myList.clear();
+		assertEquals( "Failed to return to initial capacity.", 10, myList.capacity() );
+		assertTrue( "Failed to empty.", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#setShrinkThreshold(int)}
+	 * with {@link implementations.MyArrayList#remove(int)} draining the
+	 * list from the end, as a stack does.
+	 */
+	@Test
+	public void testShrinkThreshold_drain()
+	{
+		myList.setShrinkThreshold( 64 );
+		for( int i = 0; i < 10000; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 9999; i >= 10; i-- )
+		{
+			assertEquals( "Failed to keep elements while shrinking.", Integer.valueOf( i ), myList.remove( i ) );
+		}
+
+		assertTrue( "Failed to shrink while draining.", myList.capacity() <= 64 );
+		assertEquals( "Failed to keep remaining elements.", Integer.valueOf( 9 ), myList.get( 9 ) );
+	}
 }
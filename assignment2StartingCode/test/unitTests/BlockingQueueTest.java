@@ -0,0 +1,253 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyBlockingQueue;
+
+/**
+ * Class Description:
+ * Test for the bounded blocking implementation of the QueueADT,
+ * MyBlockingQueue, with a capacity of 2.
+ */
+
+public class BlockingQueueTest
+{
+	// Attributes
+	private MyBlockingQueue<Integer> queue;
+
+	/**
+	 * Initializes a MyBlockingQueue with capacity 2 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyBlockingQueue<Integer>( 2 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#put(java.lang.Object)}
+	 * and {@link implementations.MyBlockingQueue#take()} without waiting.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testPutTake() throws InterruptedException
+	{
+		queue.put( 1 );
+		queue.put( 2 );
+
+		assertTrue( "Failed to report full", queue.isFull() );
+		assertEquals( "Failed to take in FIFO order", Integer.valueOf( 1 ), queue.take() );
+		assertEquals( "Failed to take in FIFO order", Integer.valueOf( 2 ), queue.take() );
+		assertTrue( "Failed to empty", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#offer(java.lang.Object, long, TimeUnit)}
+	 * on a full queue.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testOffer_timesOut() throws InterruptedException
+	{
+		assertTrue( "Failed to offer into free space", queue.offer( 1, 10, TimeUnit.MILLISECONDS ) );
+		queue.put( 2 );
+
+		assertFalse( "Failed to time out", queue.offer( 3, 10, TimeUnit.MILLISECONDS ) );
+		assertEquals( "Failed to leave queue unchanged", 2, queue.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#poll(long, TimeUnit)}
+	 * on an empty queue.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testPoll_timesOut() throws InterruptedException
+	{
+		assertNull( "Failed to time out", queue.poll( 10, TimeUnit.MILLISECONDS ) );
+		queue.put( 1 );
+		assertEquals( "Failed to poll element", Integer.valueOf( 1 ), queue.poll( 10, TimeUnit.MILLISECONDS ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#put(java.lang.Object)}
+	 * waiting on a full queue until a consumer takes an element.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 5000 )
+	public void testPut_waitsForSpace() throws InterruptedException
+	{
+		queue.put( 1 );
+		queue.put( 2 );
+
+		Thread consumer = new Thread( () -> {
+			try
+			{
+				Thread.sleep( 50 );
+				queue.take();
+			}
+			catch ( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		consumer.start();
+
+		queue.put( 3 );
+		consumer.join();
+
+		assertArrayEquals( "Failed to keep order", new Object[] { 2, 3 }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for one producer and one consumer passing many elements
+	 * through the small queue.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 10000 )
+	public void testProducerConsumer() throws InterruptedException
+	{
+		final int count = 10000;
+		final long[] sum = new long[1];
+
+		Thread consumer = new Thread( () -> {
+			try
+			{
+				for ( int i = 0; i < count; i++ )
+				{
+					sum[0] += queue.take();
+				}
+			}
+			catch ( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		consumer.start();
+
+		for ( int i = 0; i < count; i++ )
+		{
+			queue.put( i );
+		}
+		consumer.join();
+
+		assertEquals( "Failed to pass every element", (long) count * ( count - 1 ) / 2, sum[0] );
+		assertTrue( "Failed to empty", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#take()}
+	 * when the waiting thread is interrupted.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 5000 )
+	public void testTake_interrupted() throws InterruptedException
+	{
+		final boolean[] interrupted = new boolean[1];
+
+		Thread consumer = new Thread( () -> {
+			try
+			{
+				queue.take();
+			}
+			catch ( InterruptedException e )
+			{
+				interrupted[0] = true;
+			}
+		} );
+		consumer.start();
+		consumer.interrupt();
+		consumer.join();
+
+		assertTrue( "Failed to throw InterruptedException", interrupted[0] );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#enqueue(java.lang.Object)},
+	 * which does not wait on a full queue.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testEnqueue_full()
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+		queue.enqueue( 3 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#dequeue()},
+	 * which does not wait on an empty queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_empty() throws EmptyQueueException
+	{
+		queue.dequeue();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#put(java.lang.Object)}
+	 * with null.
+	 * @throws InterruptedException
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testPut_null() throws InterruptedException
+	{
+		queue.put( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#iterator()},
+	 * which walks a snapshot.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIterator_snapshot() throws EmptyQueueException
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+
+		Iterator<Integer> it = queue.iterator();
+		queue.dequeueAll();
+
+		assertEquals( "Failed to keep snapshot", Integer.valueOf( 1 ), it.next() );
+		assertEquals( "Failed to keep snapshot", Integer.valueOf( 2 ), it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBlockingQueue#search(java.lang.Object)},
+	 * {@link implementations.MyBlockingQueue#contains(java.lang.Object)} and
+	 * {@link implementations.MyBlockingQueue#peek()}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearchPeek() throws EmptyQueueException
+	{
+		queue.enqueue( 5 );
+		queue.enqueue( 6 );
+
+		assertEquals( "Failed to return position", 2, queue.search( 6 ) );
+		assertTrue( "Failed to find element", queue.contains( 5 ) );
+		assertEquals( "Failed to peek", Integer.valueOf( 5 ), queue.peek() );
+	}
+}
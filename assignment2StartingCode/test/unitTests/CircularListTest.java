@@ -0,0 +1,536 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyCircularList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the circular-array implementation of the ListADT,
+ * MyCircularList, including edits across the wrap.
+ */
+
+public class CircularListTest
+{
+	// Attributes
+	private MyCircularList<Integer> myList;
+
+	/**
+	 * Initializes a new MyCircularList before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyCircularList<Integer>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#add(java.lang.Object)}
+	 * and {@link implementations.MyCircularList#get(int)} past several resizes.
+	 */
+	@Test
+	public void testAddGet_many()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return correct size", 1000, myList.size() );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to get element " + i, Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#add(int, java.lang.Object)}
+	 * repeatedly at one position in the middle.
+	 */
+	@Test
+	public void testAddIndex_middle()
+	{
+		for ( int i = 0; i < 200; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int i = 0; i < 200; i++ )
+		{
+			myList.add( 100, -i );
+		}
+
+		assertEquals( "Failed to return correct size", 400, myList.size() );
+		assertEquals( "Failed to keep prefix", Integer.valueOf( 99 ), myList.get( 99 ) );
+		assertEquals( "Failed to insert at index", Integer.valueOf( -199 ), myList.get( 100 ) );
+		assertEquals( "Failed to shift suffix", Integer.valueOf( 100 ), myList.get( 300 ) );
+		assertEquals( "Failed to keep last", Integer.valueOf( 199 ), myList.get( 399 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#add(int, java.lang.Object)}
+	 * with an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIndex_outOfBounds()
+	{
+		myList.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#add(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_null()
+	{
+		myList.add( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#remove(int)}
+	 * draining from the front.
+	 */
+	@Test
+	public void testRemoveIndex_drainFront()
+	{
+		for ( int i = 0; i < 500; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int i = 0; i < 500; i++ )
+		{
+			assertEquals( "Failed to remove in order", Integer.valueOf( i ), myList.remove( 0 ) );
+		}
+
+		assertTrue( "Failed to empty", myList.isEmpty() );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse empty list", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#get(int)}
+	 * on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_empty()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#remove(java.lang.Object)},
+	 * {@link implementations.MyCircularList#contains(java.lang.Object)} and
+	 * {@link implementations.MyCircularList#set(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testRemoveElementContainsSet()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return removed element", Integer.valueOf( 70 ), myList.remove( Integer.valueOf( 70 ) ) );
+		assertNull( "Failed to return null for missing element", myList.remove( Integer.valueOf( 70 ) ) );
+		assertFalse( "Failed to forget removed element", myList.contains( 70 ) );
+		assertEquals( "Failed to return old element", Integer.valueOf( 71 ), myList.set( 70, 700 ) );
+		assertTrue( "Failed to find set element", myList.contains( 700 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#addAll(utilities.ListADT)}
+	 * from a MyDLL and from the list itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyDLL<Integer> source = new MyDLL<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			source.add( i );
+		}
+
+		assertTrue( "Failed to add elements", myList.addAll( source ) );
+		assertTrue( "Failed to add itself", myList.addAll( myList ) );
+		assertEquals( "Failed to return correct size", 200, myList.size() );
+		assertEquals( "Failed to copy itself", Integer.valueOf( 99 ), myList.get( 199 ) );
+		assertFalse( "Failed to report empty source", myList.addAll( new MyDLL<Integer>() ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#iterator()}
+	 * and {@link implementations.MyCircularList#toArray(Object[])}.
+	 */
+	@Test
+	public void testIteratorToArray()
+	{
+		for ( int i = 0; i < 150; i++ )
+		{
+			myList.add( i );
+		}
+
+		Iterator<Integer> it = myList.iterator();
+		for ( int i = 0; i < 150; i++ )
+		{
+			assertEquals( "Failed to iterate in order", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end", it.hasNext() );
+
+		Integer[] holder = myList.toArray( new Integer[151] );
+		assertEquals( "Failed to copy last", Integer.valueOf( 149 ), holder[149] );
+		assertNull( "Failed to terminate with null", holder[150] );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		myList.iterator().next();
+	}
+
+	/**
+	 * Test method for random inserts, removes and sets, checked against
+	 * MyArrayList after every step.
+	 */
+	@Test
+	public void testRandomOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		Random random = new Random( 42 );
+
+		for ( int step = 0; step < 20000; step++ )
+		{
+			int choice = random.nextInt( 10 );
+			if ( choice < 5 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else if ( choice < 9 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same element", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to set same element", expected.set( index, -step ), myList.set( index, -step ) );
+			}
+			assertEquals( "Failed to keep size", expected.size(), myList.size() );
+		}
+
+		assertArrayEquals( "Failed to keep same elements", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#addAll(int, utilities.ListADT)}
+	 * and {@link implementations.MyCircularList#removeRange(int, int)} at random
+	 * positions, checked against MyArrayList after every step.
+	 */
+	@Test
+	public void testBulkOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		MyArrayList<Integer> chunk = new MyArrayList<Integer>();
+		Random random = new Random( 7 );
+
+		for ( int step = 0; step < 2000; step++ )
+		{
+			if ( random.nextBoolean() || expected.isEmpty() )
+			{
+				chunk.clear();
+				int length = random.nextInt( 150 );
+				for ( int i = 0; i < length; i++ )
+				{
+					chunk.add( step * 1000 + i );
+				}
+				int index = random.nextInt( expected.size() + 1 );
+				expected.addAll( index, chunk );
+				myList.addAll( index, chunk );
+			}
+			else
+			{
+				int from = random.nextInt( expected.size() );
+				int to = from + random.nextInt( Math.min( 150, expected.size() - from ) + 1 );
+				expected.removeRange( from, to );
+				myList.removeRange( from, to );
+			}
+			assertEquals( "Failed to keep size", expected.size(), myList.size() );
+		}
+
+		assertArrayEquals( "Failed to keep same elements", expected.toArray(), myList.toArray() );
+		myList.addAll( 0, myList );
+		assertEquals( "Failed to add itself", expected.size() * 2, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#add(int, java.lang.Object)}
+	 * and {@link implementations.MyCircularList#remove(int)} at both ends,
+	 * used as a deque so the elements wrap around the array.
+	 */
+	@Test
+	public void testBothEnds_wrap()
+	{
+		for ( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int round = 0; round < 100; round++ )
+		{
+			myList.add( 0, -round );
+			myList.add( round );
+			myList.remove( myList.size() - 1 );
+			assertEquals( "Failed to remove from the front", Integer.valueOf( -round ), myList.remove( 0 ) );
+		}
+
+		assertArrayEquals( "Failed to keep elements", new Object[] { 0, 1, 2, 3, 4 }, myList.toArray() );
+		myList.add( 2, 9 );
+		myList.add( 4, 8 );
+		assertArrayEquals( "Failed to insert across the wrap", new Object[] { 0, 1, 9, 2, 8, 3, 4 }, myList.toArray() );
+	}
+
+	// Array length of a new list; the placed lists below never grow past it
+	private static final int CAPACITY = 10;
+
+	/**
+	 * Returns a list holding 0 to size - 1 whose first element is in array
+	 * slot head (for sizes above one). Removing the first of two elements
+	 * moves the front, not the back, so a placeholder is walked one slot at
+	 * a time to just before head and removed once the elements follow it.
+	 */
+	private static MyCircularList<Integer> placed( int head, int size )
+	{
+		MyCircularList<Integer> list = new MyCircularList<Integer>();
+		list.add( -1 );
+		for ( int i = 0; i < ( head + CAPACITY - 1 ) % CAPACITY; i++ )
+		{
+			list.add( -1 );
+			list.remove( 0 );
+		}
+		for ( int i = 0; i < size - 1; i++ )
+		{
+			list.add( i );
+		}
+		list.remove( 0 );
+		// The last element goes in after the placeholder is gone, so a full list still fits
+		if ( size > 0 )
+		{
+			list.add( size - 1 );
+		}
+		return list;
+	}
+
+	/**
+	 * Returns 0 to size - 1 in a MyArrayList.
+	 */
+	private static MyArrayList<Integer> expected( int size )
+	{
+		MyArrayList<Integer> list = new MyArrayList<Integer>();
+		for ( int i = 0; i < size; i++ )
+		{
+			list.add( i );
+		}
+		return list;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#add(int, java.lang.Object)}
+	 * at every index of every list that fits without growing, with the
+	 * first element in every slot, so both the front and the back side are
+	 * moved across the end of the array.
+	 */
+	@Test
+	public void testAddIndex_everyHead()
+	{
+		for ( int head = 0; head < CAPACITY; head++ )
+		{
+			for ( int size = 0; size < CAPACITY; size++ )
+			{
+				for ( int index = 0; index <= size; index++ )
+				{
+					MyCircularList<Integer> list = placed( head, size );
+					MyArrayList<Integer> expected = expected( size );
+					list.add( index, -1 );
+					expected.add( index, -1 );
+
+					assertArrayEquals( "Failed to insert at " + index + " with head " + head + " and size " + size,
+							expected.toArray(), list.toArray() );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#remove(int)}
+	 * at every index, with the first element in every slot.
+	 */
+	@Test
+	public void testRemoveIndex_everyHead()
+	{
+		for ( int head = 0; head < CAPACITY; head++ )
+		{
+			for ( int size = 1; size <= CAPACITY; size++ )
+			{
+				for ( int index = 0; index < size; index++ )
+				{
+					MyCircularList<Integer> list = placed( head, size );
+					MyArrayList<Integer> expected = expected( size );
+
+					assertEquals( "Failed to return the removed element", expected.remove( index ), list.remove( index ) );
+					assertArrayEquals( "Failed to remove at " + index + " with head " + head + " and size " + size,
+							expected.toArray(), list.toArray() );
+
+					// The freed slot is reused by the next insert
+					list.add( index, -1 );
+					expected.add( index, -1 );
+					assertArrayEquals( "Failed to refill at " + index + " with head " + head,
+							expected.toArray(), list.toArray() );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#addAll(int, utilities.ListADT)}
+	 * and {@link implementations.MyCircularList#removeRange(int, int)} of
+	 * every length at every position that fits without growing, with the
+	 * first element in every slot.
+	 */
+	@Test
+	public void testBulk_everyHead()
+	{
+		for ( int head = 0; head < CAPACITY; head++ )
+		{
+			for ( int size = 0; size <= CAPACITY; size++ )
+			{
+				for ( int from = 0; from <= size; from++ )
+				{
+					for ( int length = 0; from + length <= size; length++ )
+					{
+						MyCircularList<Integer> list = placed( head, size );
+						MyArrayList<Integer> expected = expected( size );
+						list.removeRange( from, from + length );
+						expected.removeRange( from, from + length );
+						assertArrayEquals( "Failed to remove [" + from + ", " + ( from + length ) + ") with head " + head,
+								expected.toArray(), list.toArray() );
+
+						// Put the same number back, as one bulk insert
+						MyArrayList<Integer> chunk = new MyArrayList<Integer>();
+						for ( int i = 0; i < length; i++ )
+						{
+							chunk.add( -i - 1 );
+						}
+						list.addAll( from, chunk );
+						expected.addAll( from, chunk );
+						assertArrayEquals( "Failed to add " + length + " at " + from + " with head " + head,
+								expected.toArray(), list.toArray() );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#iterator()} with
+	 * the elements in every slot of the array: set() on the slots on either
+	 * side of the wrap is not counted, and the pass returns the new values.
+	 */
+	@Test
+	public void testIterator_setEveryHead()
+	{
+		for ( int head = 0; head < CAPACITY; head++ )
+		{
+			MyCircularList<Integer> list = placed( head, CAPACITY );
+			Iterator<Integer> it = list.iterator();
+			for ( int i = 0; i < CAPACITY; i++ )
+			{
+				// Replace the element after this one, which may sit past the end of the array
+				if ( i + 1 < CAPACITY )
+				{
+					list.set( i + 1, -( i + 1 ) );
+				}
+				assertEquals( "Failed to iterate slot " + ( head + i ) % CAPACITY + " with head " + head,
+						Integer.valueOf( i == 0 ? 0 : -i ), it.next() );
+			}
+			assertFalse( "Failed to end with head " + head, it.hasNext() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularList#iterator()} when a
+	 * wrapped list is changed at the wrap during iteration, by each single
+	 * and bulk operation, for every head.
+	 */
+	@Test
+	public void testIterator_modifiedEveryHead()
+	{
+		MyArrayList<Integer> chunk = expected( 2 );
+		for ( int head = 0; head < CAPACITY; head++ )
+		{
+			// The index of the element in slot 0, where the list wraps
+			int wrap = ( CAPACITY - head ) % CAPACITY;
+			for ( int change = 0; change < 6; change++ )
+			{
+				MyCircularList<Integer> list = placed( head, CAPACITY - 2 );
+				Iterator<Integer> it = list.iterator();
+				it.next();
+				int at = Math.min( wrap, list.size() - 1 );
+				switch ( change )
+				{
+					case 0:
+						list.add( at, 9 );
+						break;
+					case 1:
+						list.remove( at );
+						break;
+					case 2:
+						list.addAll( at, chunk );
+						break;
+					case 3:
+						list.removeRange( Math.max( at - 1, 0 ), at + 1 );
+						break;
+					case 4:
+						list.add( 9 );
+						break;
+					default:
+						list.clear();
+				}
+				try
+				{
+					it.next();
+					fail( "Failed to detect change " + change + " at index " + at + " with head " + head );
+				}
+				catch ( ConcurrentModificationException e )
+				{
+					// Expected
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,421 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyCircularQueue;
+import implementations.MyQueue;
+
+/**
+ * Class Description:
+ * Test for the circular-array implementation of the QueueADT,
+ * MyCircularQueue, in both its growable and fixed-capacity forms.
+ */
+
+public class CircularQueueTest
+{
+	// Attributes
+	private MyCircularQueue<Integer> queue;
+	private MyCircularQueue<Integer> fixedQueue;
+
+	/**
+	 * Initializes a growable and a fixed-capacity (3) queue before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyCircularQueue<Integer>();
+		fixedQueue = new MyCircularQueue<Integer>( 3 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		fixedQueue = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#enqueue(java.lang.Object)}
+	 * and {@link implementations.MyCircularQueue#dequeue()} past the default
+	 * capacity, in FIFO order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueueDequeue_fifo() throws EmptyQueueException
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			queue.enqueue( i );
+		}
+
+		assertEquals( "Failed to return correct size", 100, queue.size() );
+		for ( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to dequeue in FIFO order", Integer.valueOf( i ), queue.dequeue() );
+		}
+		assertTrue( "Failed to empty", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for growing while the elements wrap around the end of
+	 * the array.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueue_growWhileWrapped() throws EmptyQueueException
+	{
+		int next = 0;
+		int expected = 0;
+
+		// Move the front forward so the rear wraps, then force growth
+		for ( int i = 0; i < 8; i++ )
+		{
+			queue.enqueue( next++ );
+		}
+		for ( int i = 0; i < 6; i++ )
+		{
+			assertEquals( "Failed to dequeue", Integer.valueOf( expected++ ), queue.dequeue() );
+		}
+		for ( int i = 0; i < 30; i++ )
+		{
+			queue.enqueue( next++ );
+		}
+
+		while ( !queue.isEmpty() )
+		{
+			assertEquals( "Failed to keep order", Integer.valueOf( expected++ ), queue.dequeue() );
+		}
+		assertEquals( "Failed to dequeue everything", next, expected );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#enqueue(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testEnqueue_null()
+	{
+		queue.enqueue( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#dequeue()}
+	 * on an empty queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_empty() throws EmptyQueueException
+	{
+		queue.dequeue();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#peek()}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testPeek() throws EmptyQueueException
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+
+		assertEquals( "Failed to return front", Integer.valueOf( 1 ), queue.peek() );
+		assertEquals( "Failed to leave queue unchanged", 2, queue.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#peek()}
+	 * on an empty queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testPeek_empty() throws EmptyQueueException
+	{
+		queue.peek();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#isFull()} on a
+	 * fixed-capacity queue, including after wrapping.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIsFull_fixed() throws EmptyQueueException
+	{
+		fixedQueue.enqueue( 1 );
+		fixedQueue.enqueue( 2 );
+		assertFalse( "Failed to report free space", fixedQueue.isFull() );
+
+		fixedQueue.enqueue( 3 );
+		assertTrue( "Failed to report full", fixedQueue.isFull() );
+
+		fixedQueue.dequeue();
+		fixedQueue.enqueue( 4 );
+		assertTrue( "Failed to report full after wrap", fixedQueue.isFull() );
+		assertArrayEquals( "Failed to keep order", new Object[] { 2, 3, 4 }, fixedQueue.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#enqueue(java.lang.Object)}
+	 * on a full fixed-capacity queue.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testEnqueue_full()
+	{
+		fixedQueue.enqueue( 1 );
+		fixedQueue.enqueue( 2 );
+		fixedQueue.enqueue( 3 );
+		fixedQueue.enqueue( 4 );
+	}
+
+	/**
+	 * Test method for the fixed-capacity constructor with a capacity of 0.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_badCapacity()
+	{
+		new MyCircularQueue<Integer>( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#isFull()} on a
+	 * growable queue.
+	 */
+	@Test
+	public void testIsFull_growable()
+	{
+		for ( int i = 0; i < 10; i++ )
+		{
+			queue.enqueue( i );
+		}
+
+		assertFalse( "Failed to report growable queue as not full", queue.isFull() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#dequeueAll()}.
+	 */
+	@Test
+	public void testDequeueAll()
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+		queue.dequeueAll();
+
+		assertTrue( "Failed to empty", queue.isEmpty() );
+		queue.enqueue( 3 );
+		assertEquals( "Failed to reuse queue", 1, queue.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#search(java.lang.Object)}
+	 * and {@link implementations.MyCircularQueue#contains(java.lang.Object)}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearch() throws EmptyQueueException
+	{
+		fixedQueue.enqueue( 1 );
+		fixedQueue.enqueue( 2 );
+		fixedQueue.dequeue();
+		fixedQueue.enqueue( 3 );
+		fixedQueue.enqueue( 4 );
+
+		assertEquals( "Failed to return position", 1, fixedQueue.search( 2 ) );
+		assertEquals( "Failed to return wrapped position", 3, fixedQueue.search( 4 ) );
+		assertEquals( "Failed to return -1", -1, fixedQueue.search( 1 ) );
+		assertTrue( "Failed to find element", fixedQueue.contains( 3 ) );
+		assertFalse( "Failed to miss element", fixedQueue.contains( 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#iterator()}
+	 * over wrapped elements.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIterator_wrapped() throws EmptyQueueException
+	{
+		fixedQueue.enqueue( 1 );
+		fixedQueue.enqueue( 2 );
+		fixedQueue.enqueue( 3 );
+		fixedQueue.dequeue();
+		fixedQueue.enqueue( 4 );
+
+		Iterator<Integer> it = fixedQueue.iterator();
+		assertEquals( "Failed to return first", Integer.valueOf( 2 ), it.next() );
+		assertEquals( "Failed to return second", Integer.valueOf( 3 ), it.next() );
+		assertEquals( "Failed to return third", Integer.valueOf( 4 ), it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		queue.iterator().next();
+	}
+
+	/**
+	 * Fills the fixed queue with 2, 3 and 4, with 4 wrapped into slot 0.
+	 * @throws EmptyQueueException
+	 */
+	private void fillWrapped() throws EmptyQueueException
+	{
+		fixedQueue.enqueue( 1 );
+		fixedQueue.enqueue( 2 );
+		fixedQueue.enqueue( 3 );
+		fixedQueue.dequeue();
+		fixedQueue.enqueue( 4 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#iterator()} when
+	 * an element is enqueued into a wrapped slot during iteration.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_enqueueDuringIteration() throws EmptyQueueException
+	{
+		fixedQueue.enqueue( 1 );
+		fixedQueue.enqueue( 2 );
+		fixedQueue.enqueue( 3 );
+		fixedQueue.dequeue();
+		Iterator<Integer> it = fixedQueue.iterator();
+		it.next();
+		fixedQueue.enqueue( 4 );
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#iterator()} when
+	 * the front is dequeued from a wrapped queue during iteration.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_dequeueDuringIteration() throws EmptyQueueException
+	{
+		fillWrapped();
+		Iterator<Integer> it = fixedQueue.iterator();
+		it.next();
+		fixedQueue.dequeue();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#iterator()} when
+	 * a wrapped queue is emptied with dequeueAll during iteration.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_dequeueAllDuringIteration() throws EmptyQueueException
+	{
+		fillWrapped();
+		Iterator<Integer> it = fixedQueue.iterator();
+		it.next();
+		fixedQueue.dequeueAll();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#iterator()}: a
+	 * rejected enqueue on a full queue and peek change nothing and are not
+	 * counted.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIterator_rejectedNotCounted() throws EmptyQueueException
+	{
+		fillWrapped();
+		Iterator<Integer> it = fixedQueue.iterator();
+		assertEquals( "Failed to return first", Integer.valueOf( 2 ), it.next() );
+		try
+		{
+			fixedQueue.enqueue( 5 );
+			fail( "Failed to reject an element when full" );
+		}
+		catch ( IllegalStateException e )
+		{
+			// Expected
+		}
+		assertEquals( "Failed to peek", Integer.valueOf( 2 ), fixedQueue.peek() );
+		assertEquals( "Failed to return second", Integer.valueOf( 3 ), it.next() );
+		assertEquals( "Failed to return third", Integer.valueOf( 4 ), it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#snapshotIterator()}:
+	 * a snapshot of a wrapped queue keeps its elements after the queue is
+	 * emptied and refilled over the same slots.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSnapshotIterator() throws EmptyQueueException
+	{
+		fillWrapped();
+		Iterator<Integer> it = fixedQueue.snapshotIterator();
+		fixedQueue.dequeueAll();
+		fixedQueue.enqueue( 7 );
+		fixedQueue.enqueue( 8 );
+		fixedQueue.enqueue( 9 );
+		for ( int i = 2; i <= 4; i++ )
+		{
+			assertEquals( "Failed to iterate the snapshot", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end the snapshot", it.hasNext() );
+		assertEquals( "Failed to refill the queue", Integer.valueOf( 7 ), fixedQueue.peek() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#toArray(Object[])}
+	 * with a larger array, which gets a null terminator.
+	 */
+	@Test
+	public void testToArrayE_larger()
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+
+		Integer[] holder = { 9, 9, 9, 9 };
+		Integer[] result = queue.toArray( holder );
+
+		assertSame( "Failed to use given array", holder, result );
+		assertEquals( "Failed to copy element", Integer.valueOf( 2 ), result[1] );
+		assertNull( "Failed to add null terminator", result[2] );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCircularQueue#equals(utilities.QueueADT)}
+	 * against a MyQueue with the same elements.
+	 */
+	@Test
+	public void testEquals_otherImplementation()
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+		other.enqueue( 1 );
+
+		assertFalse( "Failed to compare sizes", queue.equals( other ) );
+		other.enqueue( 2 );
+		assertTrue( "Failed to compare equal queues", queue.equals( other ) );
+	}
+}
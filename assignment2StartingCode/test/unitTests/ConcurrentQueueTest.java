@@ -0,0 +1,256 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyConcurrentQueue;
+import implementations.MyQueue;
+
+/**
+ * Class Description:
+ * Test for the lock-free implementation of the QueueADT,
+ * MyConcurrentQueue, on one thread and under contention.
+ */
+
+public class ConcurrentQueueTest
+{
+	// Attributes
+	private MyConcurrentQueue<Integer> queue;
+
+	/**
+	 * Initializes a MyConcurrentQueue before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyConcurrentQueue<Integer>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#enqueue(java.lang.Object)}
+	 * and {@link implementations.MyConcurrentQueue#dequeue()} in FIFO order.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueueDequeue_fifo() throws EmptyQueueException
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			queue.enqueue( i );
+		}
+
+		assertEquals( "Failed to return correct size", 100, queue.size() );
+		for ( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to dequeue in FIFO order", Integer.valueOf( i ), queue.dequeue() );
+		}
+		assertTrue( "Failed to empty", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#dequeue()}
+	 * on an empty queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testDequeue_empty() throws EmptyQueueException
+	{
+		queue.enqueue( 1 );
+		queue.dequeue();
+		queue.dequeue();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#peek()}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testPeek() throws EmptyQueueException
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+
+		assertEquals( "Failed to return front", Integer.valueOf( 1 ), queue.peek() );
+		assertEquals( "Failed to leave queue unchanged", 2, queue.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#peek()}
+	 * on an empty queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = EmptyQueueException.class )
+	public void testPeek_empty() throws EmptyQueueException
+	{
+		queue.peek();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#enqueue(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testEnqueue_null()
+	{
+		queue.enqueue( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#search(java.lang.Object)},
+	 * {@link implementations.MyConcurrentQueue#contains(java.lang.Object)} and
+	 * {@link implementations.MyConcurrentQueue#dequeueAll()}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearchDequeueAll() throws EmptyQueueException
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+		queue.enqueue( 3 );
+		queue.dequeue();
+
+		assertEquals( "Failed to return position", 2, queue.search( 3 ) );
+		assertFalse( "Failed to miss dequeued element", queue.contains( 1 ) );
+
+		queue.dequeueAll();
+		assertTrue( "Failed to empty", queue.isEmpty() );
+		assertEquals( "Failed to return -1", -1, queue.search( 3 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#iterator()},
+	 * {@link implementations.MyConcurrentQueue#toArray()} and
+	 * {@link implementations.MyConcurrentQueue#equals(utilities.QueueADT)}.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIteratorToArrayEquals() throws EmptyQueueException
+	{
+		MyQueue<Integer> other = new MyQueue<Integer>();
+		for ( int i = 0; i < 5; i++ )
+		{
+			queue.enqueue( i );
+			other.enqueue( i );
+		}
+		queue.dequeue();
+		other.dequeue();
+
+		Iterator<Integer> it = queue.iterator();
+		for ( int i = 1; i < 5; i++ )
+		{
+			assertEquals( "Failed to iterate in order", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end", it.hasNext() );
+
+		assertArrayEquals( "Failed to copy elements", new Object[] { 1, 2, 3, 4 }, queue.toArray() );
+		assertTrue( "Failed to compare with MyQueue", queue.equals( other ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentQueue#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		queue.iterator().next();
+	}
+
+	/**
+	 * Test method for several producers and consumers at once: every
+	 * element is dequeued exactly once and each producer's elements come
+	 * out in the order they went in.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 20000 )
+	public void testProducersConsumers() throws InterruptedException
+	{
+		final int producers = 4;
+		final int consumers = 4;
+		final int perProducer = 50000;
+		final int total = producers * perProducer;
+
+		final int[] seen = new int[total];
+		final int[][] lastSeen = new int[consumers][producers];
+		final boolean[] ordered = { true };
+		final java.util.concurrent.atomic.AtomicInteger taken = new java.util.concurrent.atomic.AtomicInteger();
+
+		Thread[] threads = new Thread[producers + consumers];
+		for ( int p = 0; p < producers; p++ )
+		{
+			final int base = p * perProducer;
+			threads[p] = new Thread( () -> {
+				for ( int i = 0; i < perProducer; i++ )
+				{
+					queue.enqueue( base + i );
+				}
+			} );
+		}
+		for ( int c = 0; c < consumers; c++ )
+		{
+			final int[] last = lastSeen[c];
+			java.util.Arrays.fill( last, -1 );
+			threads[producers + c] = new Thread( () -> {
+				while ( taken.get() < total )
+				{
+					Integer value;
+					try
+					{
+						value = queue.dequeue();
+					}
+					catch ( EmptyQueueException e )
+					{
+						continue;
+					}
+					taken.incrementAndGet();
+
+					synchronized ( seen )
+					{
+						seen[value]++;
+					}
+
+					int producer = value / perProducer;
+					if ( value <= last[producer] )
+					{
+						ordered[0] = false;
+					}
+					last[producer] = value;
+				}
+			} );
+		}
+
+		for ( Thread t : threads )
+		{
+			t.start();
+		}
+		for ( Thread t : threads )
+		{
+			t.join();
+		}
+
+		for ( int i = 0; i < total; i++ )
+		{
+			assertEquals( "Failed to dequeue element exactly once: " + i, 1, seen[i] );
+		}
+		assertTrue( "Failed to keep per-producer order", ordered[0] );
+		assertTrue( "Failed to empty", queue.isEmpty() );
+	}
+}
@@ -0,0 +1,276 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.Iterator;
+import implementations.MyConcurrentStack;
+import implementations.MyStack;
+
+/**
+ * Class Description:
+ * Test for the lock-free implementation of the StackADT,
+ * MyConcurrentStack, with and without elimination.
+ */
+
+public class ConcurrentStackTest
+{
+	// Attributes
+	private MyConcurrentStack<Integer> stack;
+
+	/**
+	 * Initializes a MyConcurrentStack without elimination before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new MyConcurrentStack<Integer>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#push(java.lang.Object)}
+	 * and {@link implementations.MyConcurrentStack#pop()} in LIFO order.
+	 */
+	@Test
+	public void testPushPop_lifo()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			stack.push( i );
+		}
+
+		assertEquals( "Failed to return correct size", 100, stack.size() );
+		for ( int i = 99; i >= 0; i-- )
+		{
+			assertEquals( "Failed to pop in LIFO order", Integer.valueOf( i ), stack.pop() );
+		}
+		assertTrue( "Failed to empty", stack.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#pop()}
+	 * on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPop_empty()
+	{
+		stack.push( 1 );
+		stack.pop();
+		stack.pop();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#peek()}.
+	 */
+	@Test
+	public void testPeek()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+
+		assertEquals( "Failed to return top", Integer.valueOf( 2 ), stack.peek() );
+		assertEquals( "Failed to leave stack unchanged", 2, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#peek()}
+	 * on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPeek_empty()
+	{
+		stack.peek();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#push(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testPush_null()
+	{
+		stack.push( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#MyConcurrentStack(int)}
+	 * with a negative number of slots.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_negative()
+	{
+		new MyConcurrentStack<Integer>( -1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#search(java.lang.Object)},
+	 * {@link implementations.MyConcurrentStack#contains(java.lang.Object)} and
+	 * {@link implementations.MyConcurrentStack#clear()}.
+	 */
+	@Test
+	public void testSearchContainsClear()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+		stack.push( 3 );
+
+		assertEquals( "Failed to return position from top", 1, stack.search( 3 ) );
+		assertEquals( "Failed to return position from top", 3, stack.search( 1 ) );
+		assertTrue( "Failed to find element", stack.contains( 2 ) );
+
+		stack.clear();
+		assertTrue( "Failed to clear", stack.isEmpty() );
+		assertEquals( "Failed to return -1", -1, stack.search( 3 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#iterator()},
+	 * {@link implementations.MyConcurrentStack#toArray(Object[])} and
+	 * {@link implementations.MyConcurrentStack#equals(utilities.StackADT)}.
+	 */
+	@Test
+	public void testIteratorToArrayEquals()
+	{
+		MyStack<Integer> other = new MyStack<Integer>();
+		for ( int i = 0; i < 4; i++ )
+		{
+			stack.push( i );
+			other.push( i );
+		}
+
+		Iterator<Integer> it = stack.iterator();
+		for ( int i = 3; i >= 0; i-- )
+		{
+			assertEquals( "Failed to iterate from the top", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end", it.hasNext() );
+
+		Integer[] holder = stack.toArray( new Integer[6] );
+		assertArrayEquals( "Failed to copy elements", new Integer[] { 3, 2, 1, 0, null, null }, holder );
+		assertTrue( "Failed to compare with MyStack", stack.equals( other ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#iterator()},
+	 * which keeps walking the stack as it was when created.
+	 */
+	@Test
+	public void testIterator_snapshot()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+
+		Iterator<Integer> it = stack.iterator();
+		stack.pop();
+		stack.push( 9 );
+
+		assertEquals( "Failed to keep snapshot", Integer.valueOf( 2 ), it.next() );
+		assertEquals( "Failed to keep snapshot", Integer.valueOf( 1 ), it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		stack.iterator().next();
+	}
+
+	/**
+	 * Test method for several threads pushing and popping at once without
+	 * elimination: every element is popped exactly once.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 20000 )
+	public void testPushPop_contended() throws InterruptedException
+	{
+		checkExactlyOnce( stack );
+	}
+
+	/**
+	 * Test method for several threads pushing and popping at once with an
+	 * elimination array: every element is popped exactly once.
+	 * @throws InterruptedException
+	 */
+	@Test( timeout = 20000 )
+	public void testPushPop_elimination() throws InterruptedException
+	{
+		checkExactlyOnce( new MyConcurrentStack<Integer>( 4 ) );
+	}
+
+	// Each thread pushes its own range and pops as many as it pushed
+	private void checkExactlyOnce( final MyConcurrentStack<Integer> shared ) throws InterruptedException
+	{
+		final int threadCount = 8;
+		final int perThread = 50000;
+		final int total = threadCount * perThread;
+		final int[] seen = new int[total];
+
+		Thread[] threads = new Thread[threadCount];
+		for ( int t = 0; t < threadCount; t++ )
+		{
+			final int base = t * perThread;
+			threads[t] = new Thread( () -> {
+				int popped = 0;
+				for ( int i = 0; i < perThread; i++ )
+				{
+					shared.push( base + i );
+					if ( i % 2 == 1 )
+					{
+						record( seen, shared.pop() );
+						record( seen, shared.pop() );
+						popped += 2;
+					}
+				}
+				while ( popped < perThread )
+				{
+					record( seen, shared.pop() );
+					popped++;
+				}
+			} );
+		}
+
+		for ( Thread t : threads )
+		{
+			t.start();
+		}
+		for ( Thread t : threads )
+		{
+			t.join();
+		}
+
+		for ( int i = 0; i < total; i++ )
+		{
+			assertEquals( "Failed to pop element exactly once: " + i, 1, seen[i] );
+		}
+		assertTrue( "Failed to empty", shared.isEmpty() );
+	}
+
+	private static void record( int[] seen, Integer value )
+	{
+		synchronized ( seen )
+		{
+			seen[value]++;
+		}
+	}
+}
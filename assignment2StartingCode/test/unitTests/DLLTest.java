@@ -1325,4 +1325,84 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(int, utilities.ListADT)}
+	 * at the head, in the middle and at the tail.
+	 */
+	@Test
+	public void testAddAllIndex()
+	{
+		MyArrayList<Integer> intArray = new MyArrayList<>();
+		intArray.add( two );
+		intArray.add( three );
+
+		myList.add( one );
+		myList.add( four );
+
+		assertTrue( "Failed to return true.", myList.addAll( 1, intArray ) );
+		myList.addAll( 0, intArray );
+		myList.addAll( myList.size(), intArray );
+
+		Object[] expected = { 2, 3, 1, 2, 3, 4, 2, 3 };
+		assertArrayEquals( "Failed to add to the correct position.", expected, myList.toArray() );
+		assertFalse( "Failed to return false for an empty list.", myList.addAll( 0, new MyDLL<Integer>() ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(int, utilities.ListADT)}
+	 * to insert the list into itself.
+	 */
+	@Test
+	public void testAddAllIndex_self()
+	{
+		myList.add( one );
+		myList.add( two );
+
+		myList.addAll( 1, myList );
+
+		Object[] expected = { 1, 1, 2, 2 };
+		assertArrayEquals( "Failed to copy list into itself.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeRange(int, int)}
+	 * from the middle, the head and the tail.
+	 */
+	@Test
+	public void testRemoveRange()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		myList.removeRange( 3, 5 );
+		myList.removeRange( 0, 1 );
+		myList.removeRange( 5, 7 );
+
+		Object[] expected = { 1, 2, 5, 6, 7 };
+		assertArrayEquals( "Failed to remove range.", expected, myList.toArray() );
+		assertEquals( "Failed to update tail.", Integer.valueOf( 7 ), myList.get( myList.size() - 1 ) );
+
+		myList.removeRange( 0, 5 );
+		assertTrue( "Failed to remove whole list.", myList.isEmpty() );
+		myList.add( one );
+		assertEquals( "Failed to reuse list.", one, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeRange(int, int)}
+	 * with the end past the size.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testRemoveRange_outOfBounds()
+	{
+		myList.add( one );
+		myList.removeRange( 0, 2 );
+	}
 }
@@ -0,0 +1,383 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.IntArrayList;
+import utilities.IntIterator;
+
+/**
+ * Class Description:
+ * Test for the int-specialised array list, IntArrayList.
+ */
+
+public class IntArrayListTest
+{
+	// Attributes
+	private IntArrayList myList;
+
+	/**
+	 * Initializes a new IntArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new IntArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of IntArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to start empty", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int)}
+	 * past the default capacity.
+	 */
+	@Test
+	public void testAdd_grows()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertTrue( "Failed to return true.", myList.add( i * 3 ) );
+		}
+
+		assertEquals( "Failed to return correct size", 1000, myList.size() );
+		assertEquals( "Failed to keep first element", 0, myList.get( 0 ) );
+		assertEquals( "Failed to keep last element", 2997, myList.get( 999 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int, int)}
+	 * in the middle of the list.
+	 */
+	@Test
+	public void testAddIntInt_middle()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		myList.add( 1, 2 );
+
+		assertArrayEquals( "Failed to shift elements", new int[] { 1, 2, 3 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int, int)}
+	 * at index size, which appends.
+	 */
+	@Test
+	public void testAddIntInt_end()
+	{
+		myList.add( 0, 5 );
+		myList.add( 1, 6 );
+
+		assertArrayEquals( "Failed to append", new int[] { 5, 6 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#add(int, int)}
+	 * with an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntInt_outOfBounds()
+	{
+		myList.add( 1, 5 );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#addAll(IntArrayList)}.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		IntArrayList other = new IntArrayList();
+		for ( int i = 0; i < 20; i++ )
+		{
+			other.add( i );
+		}
+		myList.add( -1 );
+
+		assertTrue( "Failed to return true.", myList.addAll( other ) );
+		assertEquals( "Failed to return correct size", 21, myList.size() );
+		assertEquals( "Failed to keep order", 19, myList.get( 20 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#addAll(IntArrayList)}
+	 * with the list itself.
+	 */
+	@Test
+	public void testAddAll_self()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.addAll( myList );
+
+		assertArrayEquals( "Failed to copy itself", new int[] { 1, 2, 1, 2 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#addAll(IntArrayList)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddAll_null()
+	{
+		myList.addAll( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#get(int)}
+	 * on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_empty()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#remove(int)},
+	 * which removes by index.
+	 */
+	@Test
+	public void testRemoveInt()
+	{
+		myList.add( 10 );
+		myList.add( 20 );
+		myList.add( 30 );
+
+		assertEquals( "Failed to return removed element", 20, myList.remove( 1 ) );
+		assertArrayEquals( "Failed to shift elements", new int[] { 10, 30 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#remove(int)}
+	 * past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testRemoveInt_outOfBounds()
+	{
+		myList.add( 1 );
+		myList.remove( 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#removeValue(int)}.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 7 );
+		myList.add( 8 );
+		myList.add( 7 );
+
+		assertTrue( "Failed to remove value", myList.removeValue( 7 ) );
+		assertArrayEquals( "Failed to remove only the first", new int[] { 8, 7 }, myList.toArray() );
+		assertFalse( "Failed to report missing value", myList.removeValue( 9 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#set(int, int)}.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+
+		assertEquals( "Failed to return old element", 1, myList.set( 0, 2 ) );
+		assertEquals( "Failed to replace element", 2, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#contains(int)}
+	 * and {@link implementations.IntArrayList#indexOf(int)}.
+	 */
+	@Test
+	public void testContains()
+	{
+		myList.add( 4 );
+		myList.add( 5 );
+
+		assertTrue( "Failed to find element", myList.contains( 5 ) );
+		assertFalse( "Failed to miss element", myList.contains( 6 ) );
+		assertEquals( "Failed to return index", 1, myList.indexOf( 5 ) );
+		assertEquals( "Failed to return -1", -1, myList.indexOf( 6 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.clear();
+
+		assertTrue( "Failed to clear", myList.isEmpty() );
+		myList.add( 3 );
+		assertEquals( "Failed to reuse list", 3, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#toArray(int[])}
+	 * with an array that is large enough and one that is too small.
+	 */
+	@Test
+	public void testToArrayIntArray()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		int[] big = new int[4];
+		assertSame( "Failed to use given array", big, myList.toArray( big ) );
+		assertEquals( "Failed to copy element", 2, big[1] );
+
+		int[] small = myList.toArray( new int[1] );
+		assertArrayEquals( "Failed to create new array", new int[] { 1, 2 }, small );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#iterator()}.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		IntIterator it = myList.iterator();
+		assertTrue( "Failed to have next", it.hasNext() );
+		assertEquals( "Failed to return first", 1, it.next() );
+		assertEquals( "Failed to return second", 2, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		myList.iterator().next();
+	}
+
+	/**
+	 * Starts an iteration over 1, 2, 3, applies change mid-way and asserts
+	 * that the following next() fails.
+	 */
+	private void assertFailsFast( String what, Consumer<IntArrayList> change )
+	{
+		myList = new IntArrayList();
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 3 );
+		IntIterator it = myList.iterator();
+		it.next();
+		change.accept( myList );
+		try
+		{
+			it.next();
+			fail( "Failed to detect " + what + " during iteration" );
+		}
+		catch ( ConcurrentModificationException e )
+		{
+			// Expected
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#iterator()} when the
+	 * list is changed during iteration, by every structural operation.
+	 */
+	@Test
+	public void testIterator_modified()
+	{
+		IntArrayList other = new IntArrayList();
+		other.add( 7 );
+
+		assertFailsFast( "add", list -> list.add( 7 ) );
+		assertFailsFast( "add at an index", list -> list.add( 0, 7 ) );
+		assertFailsFast( "addAll", list -> list.addAll( other ) );
+		assertFailsFast( "addAll of itself", list -> list.addAll( list ) );
+		assertFailsFast( "remove", list -> list.remove( 2 ) );
+		assertFailsFast( "removeValue", list -> list.removeValue( 1 ) );
+		assertFailsFast( "clear", IntArrayList::clear );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#iterator()}: set() and
+	 * adding an empty list leave the structure unchanged and are not counted.
+	 */
+	@Test
+	public void testIterator_setNotCounted()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		IntIterator it = myList.iterator();
+		assertEquals( "Failed to return first", 1, it.next() );
+		myList.set( 1, 7 );
+		myList.addAll( new IntArrayList() );
+		assertEquals( "Failed to return the new value", 7, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#IntArrayList(int)}
+	 * with a capacity of zero, which still grows on every kind of add.
+	 */
+	@Test
+	public void testConstructor_zeroCapacity()
+	{
+		IntArrayList list = new IntArrayList( 0 );
+		list.add( 7 );
+		assertEquals( "Failed to grow on add", 1, list.size() );
+
+		list = new IntArrayList( 0 );
+		list.add( 0, 7 );
+		assertEquals( "Failed to grow on add at an index", 1, list.size() );
+
+		IntArrayList other = new IntArrayList( 1 );
+		other.add( 7 );
+		list = new IntArrayList( 0 );
+		list.addAll( other );
+		list.addAll( list );
+		assertArrayEquals( "Failed to grow on addAll", new int[] { 7, 7 }, list.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntArrayList#IntArrayList(int)}
+	 * with a negative capacity.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_negative()
+	{
+		new IntArrayList( -1 );
+	}
+}
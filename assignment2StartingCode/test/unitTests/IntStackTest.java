@@ -0,0 +1,251 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.IntIterator;
+import implementations.IntStack;
+
+/**
+ * Class Description:
+ * Test for the int[]-based stack, IntStack.
+ */
+
+public class IntStackTest
+{
+	// Attributes
+	private IntStack stack;
+
+	/**
+	 * Initializes an IntStack instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new IntStack();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#push(int)} and
+	 * {@link implementations.IntStack#pop()} past the default capacity.
+	 */
+	@Test
+	public void testPushPop_lifo()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			stack.push( i );
+		}
+
+		assertEquals( "Failed to return correct size", 100, stack.size() );
+		for ( int i = 99; i >= 0; i-- )
+		{
+			assertEquals( "Failed to pop in LIFO order", i, stack.pop() );
+		}
+		assertTrue( "Failed to empty", stack.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#pop()} on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPop_empty()
+	{
+		stack.pop();
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#peek()}.
+	 */
+	@Test
+	public void testPeek()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+
+		assertEquals( "Failed to return top", 2, stack.peek() );
+		assertEquals( "Failed to leave stack unchanged", 2, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#peek()} on an empty stack.
+	 */
+	@Test( expected = EmptyStackException.class )
+	public void testPeek_empty()
+	{
+		stack.peek();
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		stack.push( 1 );
+		stack.clear();
+
+		assertTrue( "Failed to clear", stack.isEmpty() );
+		assertEquals( "Failed to return correct size", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#toArray()},
+	 * which lists the top first.
+	 */
+	@Test
+	public void testToArray()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+		stack.push( 3 );
+
+		assertArrayEquals( "Failed to return top first", new int[] { 3, 2, 1 }, stack.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#search(int)} and
+	 * {@link implementations.IntStack#contains(int)}.
+	 */
+	@Test
+	public void testSearch()
+	{
+		stack.push( 7 );
+		stack.push( 8 );
+		stack.push( 7 );
+
+		assertEquals( "Failed to return nearest position", 1, stack.search( 7 ) );
+		assertEquals( "Failed to return position", 2, stack.search( 8 ) );
+		assertEquals( "Failed to return -1", -1, stack.search( 9 ) );
+		assertTrue( "Failed to find element", stack.contains( 8 ) );
+		assertFalse( "Failed to miss element", stack.contains( 9 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#iterator()},
+	 * which walks from the top down.
+	 */
+	@Test
+	public void testIterator()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+
+		IntIterator it = stack.iterator();
+		assertEquals( "Failed to return top", 2, it.next() );
+		assertEquals( "Failed to return bottom", 1, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		stack.iterator().next();
+	}
+
+	/**
+	 * Starts an iteration over 3, 2, 1, applies change mid-way and asserts
+	 * that the following next() fails.
+	 */
+	private void assertFailsFast( String what, Consumer<IntStack> change )
+	{
+		stack = new IntStack();
+		stack.push( 1 );
+		stack.push( 2 );
+		stack.push( 3 );
+		IntIterator it = stack.iterator();
+		it.next();
+		change.accept( stack );
+		try
+		{
+			it.next();
+			fail( "Failed to detect " + what + " during iteration" );
+		}
+		catch ( ConcurrentModificationException e )
+		{
+			// Expected
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#iterator()} when the
+	 * stack is pushed, popped or cleared during iteration.
+	 */
+	@Test
+	public void testIterator_modified()
+	{
+		assertFailsFast( "push", s -> s.push( 4 ) );
+		assertFailsFast( "pop", IntStack::pop );
+		assertFailsFast( "clear", IntStack::clear );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#iterator()}: peek and
+	 * search leave the stack unchanged and are not counted.
+	 */
+	@Test
+	public void testIterator_readsNotCounted()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+
+		IntIterator it = stack.iterator();
+		assertEquals( "Failed to return top", 2, it.next() );
+		assertEquals( "Failed to peek", 2, stack.peek() );
+		assertEquals( "Failed to search", 2, stack.search( 1 ) );
+		assertEquals( "Failed to return bottom", 1, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#equals(IntStack)}.
+	 */
+	@Test
+	public void testEquals()
+	{
+		IntStack other = new IntStack();
+		stack.push( 1 );
+		stack.push( 2 );
+		other.push( 1 );
+
+		assertFalse( "Failed to compare sizes", stack.equals( other ) );
+		other.push( 2 );
+		assertTrue( "Failed to compare equal stacks", stack.equals( other ) );
+		other.pop();
+		other.push( 3 );
+		assertFalse( "Failed to compare elements", stack.equals( other ) );
+		assertFalse( "Failed to compare with null", stack.equals( null ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.IntStack#stackOverflow()}.
+	 */
+	@Test
+	public void testStackOverflow()
+	{
+		assertFalse( "Failed to report a growable stack", stack.stackOverflow() );
+	}
+}
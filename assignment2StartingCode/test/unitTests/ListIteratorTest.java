@@ -0,0 +1,235 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import implementations.MyArrayList;
+import implementations.MyCircularList;
+import implementations.MyDLL;
+import implementations.MyTreeList;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Class Description:
+ * Contract test for the fail-fast and snapshot iterators of every ListADT
+ * implementation. Each structural change, single or bulk, must make the
+ * next call to next() fail; set() and bulk calls that change nothing must not.
+ */
+
+@RunWith( Parameterized.class )
+public class ListIteratorTest
+{
+	// Attributes
+	@Parameter( 0 )
+	public String name;
+
+	@Parameter( 1 )
+	public Supplier<ListADT<Integer>> factory;
+
+	private ListADT<Integer> myList;
+
+	/**
+	 * @return One factory per ListADT implementation.
+	 */
+	@Parameters( name = "{0}" )
+	public static Collection<Object[]> lists()
+	{
+		Supplier<ListADT<Integer>> arrayList = MyArrayList::new;
+		Supplier<ListADT<Integer>> dll = MyDLL::new;
+		Supplier<ListADT<Integer>> unrolled = MyUnrolledList::new;
+		Supplier<ListADT<Integer>> tree = MyTreeList::new;
+		Supplier<ListADT<Integer>> circular = MyCircularList::new;
+		return Arrays.asList( new Object[][] {
+				{ "MyArrayList", arrayList },
+				{ "MyDLL", dll },
+				{ "MyUnrolledList", unrolled },
+				{ "MyTreeList", tree },
+				{ "MyCircularList", circular } } );
+	}
+
+	/**
+	 * Fills a new list with 0 to 4 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = factory.get();
+		for ( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+	}
+
+	/**
+	 * @return A new list of the same implementation holding the given elements.
+	 */
+	private ListADT<Integer> listOf( Integer... elements )
+	{
+		ListADT<Integer> list = factory.get();
+		for ( Integer e : elements )
+		{
+			list.add( e );
+		}
+		return list;
+	}
+
+	/**
+	 * Starts an iteration, applies change mid-way and asserts that the
+	 * following next() fails.
+	 */
+	private void assertFailsFast( String what, Consumer<ListADT<Integer>> change )
+	{
+		Iterator<Integer> it = myList.iterator();
+		it.next();
+		change.accept( myList );
+		try
+		{
+			it.next();
+			fail( "Failed to detect " + what + " during iteration" );
+		}
+		catch ( ConcurrentModificationException e )
+		{
+			// Expected
+		}
+	}
+
+	/**
+	 * Starts an iteration, applies change mid-way and asserts that the
+	 * iteration still finishes and returns the list's current elements.
+	 */
+	private void assertNotCounted( String what, Consumer<ListADT<Integer>> change )
+	{
+		Iterator<Integer> it = myList.iterator();
+		assertEquals( "Failed to start the iteration", Integer.valueOf( 0 ), it.next() );
+		change.accept( myList );
+		for ( int i = 1; i < myList.size(); i++ )
+		{
+			assertEquals( "Failed to iterate after " + what, myList.get( i ), it.next() );
+		}
+		assertFalse( "Failed to end the iteration after " + what, it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()} when the list is
+	 * added to during iteration.
+	 */
+	@Test
+	public void testIterator_add()
+	{
+		assertFailsFast( "add", list -> list.add( 5 ) );
+		assertFailsFast( "add at the front", list -> list.add( 0, 5 ) );
+		assertFailsFast( "add in the middle", list -> list.add( 3, 5 ) );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()} when the list is
+	 * removed from during iteration.
+	 */
+	@Test
+	public void testIterator_remove()
+	{
+		assertFailsFast( "remove at the front", list -> list.remove( 0 ) );
+		assertFailsFast( "remove at the back", list -> list.remove( list.size() - 1 ) );
+		assertFailsFast( "remove by value", list -> list.remove( Integer.valueOf( 3 ) ) );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()} when the list is
+	 * added to in bulk during iteration.
+	 */
+	@Test
+	public void testIterator_addAll()
+	{
+		assertFailsFast( "addAll", list -> list.addAll( listOf( 7, 8 ) ) );
+		assertFailsFast( "addAll at the front", list -> list.addAll( 0, listOf( 7, 8 ) ) );
+		assertFailsFast( "addAll in the middle", list -> list.addAll( 2, listOf( 7, 8 ) ) );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()} when a range is
+	 * removed during iteration.
+	 */
+	@Test
+	public void testIterator_removeRange()
+	{
+		assertFailsFast( "removeRange at the front", list -> list.removeRange( 0, 2 ) );
+		assertFailsFast( "removeRange in the middle", list -> list.removeRange( 2, 3 ) );
+		assertFailsFast( "removeRange of the rest", list -> list.removeRange( 1, list.size() ) );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()} when the list is
+	 * cleared during iteration.
+	 */
+	@Test
+	public void testIterator_clear()
+	{
+		assertFailsFast( "clear", ListADT::clear );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()}: set() replaces an
+	 * element without changing the structure and is not counted.
+	 */
+	@Test
+	public void testIterator_set()
+	{
+		assertNotCounted( "set", list -> {
+			list.set( 0, 10 );
+			list.set( 1, 11 );
+			list.set( 4, 14 );
+		} );
+		assertEquals( "Failed to set the last element", Integer.valueOf( 14 ), myList.get( 4 ) );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#iterator()}: bulk calls that
+	 * leave the list unchanged are not counted.
+	 */
+	@Test
+	public void testIterator_emptyBulk()
+	{
+		assertNotCounted( "an empty bulk call", list -> {
+			list.addAll( factory.get() );
+			list.addAll( 2, factory.get() );
+			list.removeRange( 3, 3 );
+		} );
+		assertEquals( "Failed to leave the list unchanged", 5, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link utilities.ListADT#snapshotIterator()}: it keeps
+	 * returning the elements it started with after the list is changed.
+	 */
+	@Test
+	public void testSnapshotIterator()
+	{
+		Iterator<Integer> it = myList.snapshotIterator();
+		assertEquals( "Failed to start the snapshot", Integer.valueOf( 0 ), it.next() );
+		myList.removeRange( 1, 3 );
+		myList.set( 0, 10 );
+		myList.clear();
+		myList.add( 9 );
+		for ( int i = 1; i < 5; i++ )
+		{
+			assertEquals( "Failed to iterate the snapshot", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end the snapshot", it.hasNext() );
+		assertEquals( "Failed to change the list", 1, myList.size() );
+	}
+}
@@ -0,0 +1,275 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.LongArrayList;
+import utilities.LongIterator;
+
+/**
+ * Class Description:
+ * Test for the long-specialised array list, LongArrayList.
+ */
+
+public class LongArrayListTest
+{
+	// Attributes
+	private LongArrayList myList;
+	private long big;
+
+	/**
+	 * Initializes a new LongArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new LongArrayList();
+		big = 5L * Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(long)}
+	 * with values outside the int range, past the default capacity.
+	 */
+	@Test
+	public void testAdd_grows()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( big + i );
+		}
+
+		assertEquals( "Failed to return correct size", 100, myList.size() );
+		assertEquals( "Failed to keep value", big + 99, myList.get( 99 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(int, long)}
+	 * at the front.
+	 */
+	@Test
+	public void testAddIntLong_front()
+	{
+		myList.add( 2L );
+		myList.add( 0, big );
+
+		assertArrayEquals( "Failed to shift elements", new long[] { big, 2L }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#add(int, long)}
+	 * with a negative index.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntLong_outOfBounds()
+	{
+		myList.add( -1, 1L );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#remove(int)},
+	 * which removes by index even when a value of the same number exists.
+	 */
+	@Test
+	public void testRemoveInt_isIndex()
+	{
+		myList.add( 1L );
+		myList.add( 0L );
+
+		assertEquals( "Failed to remove by index", 0L, myList.remove( 1 ) );
+		assertArrayEquals( "Failed to keep other element", new long[] { 1L }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#removeValue(long)}.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( big );
+		myList.add( 3L );
+
+		assertTrue( "Failed to remove value", myList.removeValue( big ) );
+		assertFalse( "Failed to report missing value", myList.removeValue( big ) );
+		assertEquals( "Failed to return correct size", 1, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#set(int, long)}
+	 * and {@link implementations.LongArrayList#contains(long)}.
+	 */
+	@Test
+	public void testSetContains()
+	{
+		myList.add( 1L );
+		myList.set( 0, big );
+
+		assertTrue( "Failed to find new value", myList.contains( big ) );
+		assertFalse( "Failed to drop old value", myList.contains( 1L ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#addAll(LongArrayList)}.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		LongArrayList other = new LongArrayList();
+		other.add( big );
+		other.add( big + 1 );
+
+		assertTrue( "Failed to return true.", myList.addAll( other ) );
+		assertFalse( "Failed to return false for empty list.", myList.addAll( new LongArrayList() ) );
+		assertArrayEquals( "Failed to copy elements", new long[] { big, big + 1 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#toArray(long[])}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testToArray_null()
+	{
+		myList.toArray( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( big );
+		myList.add( -big );
+
+		LongIterator it = myList.iterator();
+		assertEquals( "Failed to return first", big, it.next() );
+		assertEquals( "Failed to return second", -big, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		myList.add( 1L );
+		LongIterator it = myList.iterator();
+		it.next();
+		it.next();
+	}
+
+	/**
+	 * Starts an iteration over 1, 2, 3, applies change mid-way and asserts
+	 * that the following next() fails.
+	 */
+	private void assertFailsFast( String what, Consumer<LongArrayList> change )
+	{
+		myList = new LongArrayList();
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 3 );
+		LongIterator it = myList.iterator();
+		it.next();
+		change.accept( myList );
+		try
+		{
+			it.next();
+			fail( "Failed to detect " + what + " during iteration" );
+		}
+		catch ( ConcurrentModificationException e )
+		{
+			// Expected
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()} when the
+	 * list is changed during iteration, by every structural operation.
+	 */
+	@Test
+	public void testIterator_modified()
+	{
+		LongArrayList other = new LongArrayList();
+		other.add( big );
+
+		assertFailsFast( "add", list -> list.add( big ) );
+		assertFailsFast( "add at an index", list -> list.add( 0, big ) );
+		assertFailsFast( "addAll", list -> list.addAll( other ) );
+		assertFailsFast( "addAll of itself", list -> list.addAll( list ) );
+		assertFailsFast( "remove", list -> list.remove( 2 ) );
+		assertFailsFast( "removeValue", list -> list.removeValue( 1 ) );
+		assertFailsFast( "clear", LongArrayList::clear );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#iterator()}: set() and
+	 * adding an empty list leave the structure unchanged and are not counted.
+	 */
+	@Test
+	public void testIterator_setNotCounted()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		LongIterator it = myList.iterator();
+		assertEquals( "Failed to return first", 1, it.next() );
+		myList.set( 1, big );
+		myList.addAll( new LongArrayList() );
+		assertEquals( "Failed to return the new value", big, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#LongArrayList(int)}
+	 * with a capacity of zero, which still grows on every kind of add.
+	 */
+	@Test
+	public void testConstructor_zeroCapacity()
+	{
+		LongArrayList list = new LongArrayList( 0 );
+		list.add( big );
+		assertEquals( "Failed to grow on add", 1, list.size() );
+
+		list = new LongArrayList( 0 );
+		list.add( 0, big );
+		assertEquals( "Failed to grow on add at an index", 1, list.size() );
+
+		LongArrayList other = new LongArrayList( 1 );
+		other.add( big );
+		list = new LongArrayList( 0 );
+		list.addAll( other );
+		list.addAll( list );
+		assertArrayEquals( "Failed to grow on addAll", new long[] { big, big }, list.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.LongArrayList#LongArrayList(int)}
+	 * with a negative capacity.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_negative()
+	{
+		new LongArrayList( -1 );
+	}
+}
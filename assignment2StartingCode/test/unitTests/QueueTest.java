@@ -2,6 +2,7 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 import org.junit.After;
@@ -233,6 +234,91 @@ public class QueueTest
 
 	}
 
+	/**
+	 * Test method for {@link implementations.MyQueue#iterator()} when an
+	 * element is enqueued during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_enqueueDuringIteration()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		it.next();
+		queue.enqueue( three );
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyQueue#iterator()} when the
+	 * front is dequeued during iteration.
+	 * @throws EmptyQueueException
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_dequeueDuringIteration() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		Iterator<Integer> it = queue.iterator();
+		it.next();
+		queue.dequeue();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyQueue#iterator()} when the
+	 * queue is emptied with dequeueAll during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_dequeueAllDuringIteration()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		it.next();
+		queue.dequeueAll();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyQueue#iterator()}: peek and
+	 * search read the queue without changing it and are not counted.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIterator_peekNotCounted() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.iterator();
+		assertEquals( "Failed to return the front", one, it.next() );
+		assertEquals( "Failed to peek", one, queue.peek() );
+		assertEquals( "Failed to search", 2, queue.search( two ) );
+		assertEquals( "Failed to return the back", two, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyQueue#snapshotIterator()}:
+	 * it keeps the elements it started with after they are dequeued.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSnapshotIterator() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		Iterator<Integer> it = queue.snapshotIterator();
+		queue.dequeue();
+		queue.enqueue( three );
+		queue.dequeueAll();
+		assertEquals( "Failed to iterate the snapshot", one, it.next() );
+		assertEquals( "Failed to iterate the snapshot", two, it.next() );
+		assertFalse( "Failed to end the snapshot", it.hasNext() );
+		assertTrue( "Failed to empty the queue", queue.isEmpty() );
+	}
+
 	/**
 	 * Test method for 
 	 * {@link implementations.MyQueue#peek()}
@@ -2,6 +2,7 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
 import java.util.NoSuchElementException;
 
@@ -288,6 +289,91 @@ public class StackTest
 		
 	}
 
+	/**
+	 * Test method for {@link implementations.MyStack#iterator()} when an
+	 * element is pushed during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_pushDuringIteration()
+	{
+		stack.push( one );
+		stack.push( two );
+		Iterator<Integer> it = stack.iterator();
+		it.next();
+		stack.push( three );
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#iterator()} when the
+	 * top is popped during iteration, leaving elements still to iterate.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_popDuringIteration()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		Iterator<Integer> it = stack.iterator();
+		it.next();
+		stack.pop();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#iterator()} when the
+	 * stack is cleared during iteration.
+	 */
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIterator_clearDuringIteration()
+	{
+		stack.push( one );
+		stack.push( two );
+		Iterator<Integer> it = stack.iterator();
+		it.next();
+		stack.clear();
+		it.next();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#iterator()}: peek and
+	 * search read the stack without changing it and are not counted.
+	 */
+	@Test
+	public void testIterator_peekNotCounted()
+	{
+		stack.push( one );
+		stack.push( two );
+		Iterator<Integer> it = stack.iterator();
+		assertEquals( "Failed to return the top", two, it.next() );
+		assertEquals( "Failed to peek", two, stack.peek() );
+		assertEquals( "Failed to search", 2, stack.search( one ) );
+		assertEquals( "Failed to return the bottom", one, it.next() );
+		assertFalse( "Failed to end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#snapshotIterator()}:
+	 * it walks the stack from the top as it was, after the top is popped
+	 * and a new element pushed.
+	 */
+	@Test
+	public void testSnapshotIterator()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		Iterator<Integer> it = stack.snapshotIterator();
+		stack.pop();
+		stack.pop();
+		stack.push( four );
+		assertEquals( "Failed to iterate the snapshot", three, it.next() );
+		assertEquals( "Failed to iterate the snapshot", two, it.next() );
+		assertEquals( "Failed to iterate the snapshot", one, it.next() );
+		assertFalse( "Failed to end the snapshot", it.hasNext() );
+		assertEquals( "Failed to change the stack", four, stack.peek() );
+	}
+
 
 	/**
 	 * Test method for 
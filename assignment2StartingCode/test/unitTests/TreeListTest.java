@@ -0,0 +1,379 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyTreeList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the balanced-tree implementation of the ListADT,
+ * MyTreeList, with inserts and removes at any position.
+ */
+
+public class TreeListTest
+{
+	// Attributes
+	private MyTreeList<Integer> myList;
+
+	/**
+	 * Initializes a new MyTreeList before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyTreeList<Integer>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#add(java.lang.Object)}
+	 * and {@link implementations.MyTreeList#get(int)} on a large list.
+	 */
+	@Test
+	public void testAddGet_manyNodes()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return correct size", 1000, myList.size() );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to get element " + i, Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#add(int, java.lang.Object)}
+	 * repeatedly at one position in the middle.
+	 */
+	@Test
+	public void testAddIndex_middle()
+	{
+		for ( int i = 0; i < 200; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int i = 0; i < 200; i++ )
+		{
+			myList.add( 100, -i );
+		}
+
+		assertEquals( "Failed to return correct size", 400, myList.size() );
+		assertEquals( "Failed to keep prefix", Integer.valueOf( 99 ), myList.get( 99 ) );
+		assertEquals( "Failed to insert at index", Integer.valueOf( -199 ), myList.get( 100 ) );
+		assertEquals( "Failed to shift suffix", Integer.valueOf( 100 ), myList.get( 300 ) );
+		assertEquals( "Failed to keep last", Integer.valueOf( 199 ), myList.get( 399 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#add(int, java.lang.Object)}
+	 * with an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIndex_outOfBounds()
+	{
+		myList.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#add(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_null()
+	{
+		myList.add( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#remove(int)}
+	 * draining from the front.
+	 */
+	@Test
+	public void testRemoveIndex_drainFront()
+	{
+		for ( int i = 0; i < 500; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int i = 0; i < 500; i++ )
+		{
+			assertEquals( "Failed to remove in order", Integer.valueOf( i ), myList.remove( 0 ) );
+		}
+
+		assertTrue( "Failed to empty", myList.isEmpty() );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse empty list", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#get(int)}
+	 * on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_empty()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#remove(java.lang.Object)},
+	 * {@link implementations.MyTreeList#contains(java.lang.Object)} and
+	 * {@link implementations.MyTreeList#set(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testRemoveElementContainsSet()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return removed element", Integer.valueOf( 70 ), myList.remove( Integer.valueOf( 70 ) ) );
+		assertNull( "Failed to return null for missing element", myList.remove( Integer.valueOf( 70 ) ) );
+		assertFalse( "Failed to forget removed element", myList.contains( 70 ) );
+		assertEquals( "Failed to return old element", Integer.valueOf( 71 ), myList.set( 70, 700 ) );
+		assertTrue( "Failed to find set element", myList.contains( 700 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#addAll(utilities.ListADT)}
+	 * from a MyDLL and from the list itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyDLL<Integer> source = new MyDLL<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			source.add( i );
+		}
+
+		assertTrue( "Failed to add elements", myList.addAll( source ) );
+		assertTrue( "Failed to add itself", myList.addAll( myList ) );
+		assertEquals( "Failed to return correct size", 200, myList.size() );
+		assertEquals( "Failed to copy itself", Integer.valueOf( 99 ), myList.get( 199 ) );
+		assertFalse( "Failed to report empty source", myList.addAll( new MyDLL<Integer>() ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#iterator()}
+	 * and {@link implementations.MyTreeList#toArray(Object[])}.
+	 */
+	@Test
+	public void testIteratorToArray()
+	{
+		for ( int i = 0; i < 150; i++ )
+		{
+			myList.add( i );
+		}
+
+		Iterator<Integer> it = myList.iterator();
+		for ( int i = 0; i < 150; i++ )
+		{
+			assertEquals( "Failed to iterate in order", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end", it.hasNext() );
+
+		Integer[] holder = myList.toArray( new Integer[151] );
+		assertEquals( "Failed to copy last", Integer.valueOf( 149 ), holder[149] );
+		assertNull( "Failed to terminate with null", holder[150] );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		myList.iterator().next();
+	}
+
+	/**
+	 * Test method for random inserts, removes and sets, checked against
+	 * MyArrayList after every step.
+	 */
+	@Test
+	public void testRandomOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		Random random = new Random( 42 );
+
+		for ( int step = 0; step < 20000; step++ )
+		{
+			int choice = random.nextInt( 10 );
+			if ( choice < 5 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else if ( choice < 9 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same element", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to set same element", expected.set( index, -step ), myList.set( index, -step ) );
+			}
+			assertEquals( "Failed to keep size", expected.size(), myList.size() );
+		}
+
+		assertArrayEquals( "Failed to keep same elements", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#addAll(int, utilities.ListADT)}
+	 * and {@link implementations.MyTreeList#removeRange(int, int)} at random
+	 * positions, checked against MyArrayList after every step.
+	 */
+	@Test
+	public void testBulkOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		MyArrayList<Integer> chunk = new MyArrayList<Integer>();
+		Random random = new Random( 7 );
+
+		for ( int step = 0; step < 2000; step++ )
+		{
+			if ( random.nextBoolean() || expected.isEmpty() )
+			{
+				chunk.clear();
+				int length = random.nextInt( 150 );
+				for ( int i = 0; i < length; i++ )
+				{
+					chunk.add( step * 1000 + i );
+				}
+				int index = random.nextInt( expected.size() + 1 );
+				expected.addAll( index, chunk );
+				myList.addAll( index, chunk );
+			}
+			else
+			{
+				int from = random.nextInt( expected.size() );
+				int to = from + random.nextInt( Math.min( 150, expected.size() - from ) + 1 );
+				expected.removeRange( from, to );
+				myList.removeRange( from, to );
+			}
+			assertEquals( "Failed to keep size", expected.size(), myList.size() );
+		}
+
+		assertArrayEquals( "Failed to keep same elements", expected.toArray(), myList.toArray() );
+		myList.addAll( 0, myList );
+		assertEquals( "Failed to add itself", expected.size() * 2, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#removeRange(int, int)}
+	 * at the boundaries: an empty range at each end and in the middle, the
+	 * first and last elements, and the whole list.
+	 */
+	@Test
+	public void testRemoveRange_boundaries()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+
+		myList.removeRange( 0, 0 );
+		myList.removeRange( 50, 50 );
+		myList.removeRange( 100, 100 );
+		assertArrayEquals( "Failed to ignore empty ranges", expected.toArray(), myList.toArray() );
+
+		myList.removeRange( 0, 1 );
+		expected.removeRange( 0, 1 );
+		myList.removeRange( 98, 99 );
+		expected.removeRange( 98, 99 );
+		assertArrayEquals( "Failed to remove the first and last", expected.toArray(), myList.toArray() );
+		assertEquals( "Failed to keep the new first", Integer.valueOf( 1 ), myList.get( 0 ) );
+		assertEquals( "Failed to keep the new last", Integer.valueOf( 98 ), myList.get( 97 ) );
+
+		myList.removeRange( 0, myList.size() );
+		assertTrue( "Failed to empty", myList.isEmpty() );
+		myList.removeRange( 0, 0 );
+		myList.add( 5 );
+		assertEquals( "Failed to reuse empty list", Integer.valueOf( 5 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#removeRange(int, int)}
+	 * past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testRemoveRange_outOfBounds()
+	{
+		myList.add( 1 );
+		myList.removeRange( 0, 2 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#addAll(int, utilities.ListADT)}
+	 * at the front, the end and the middle, and of the list into itself.
+	 */
+	@Test
+	public void testAddAllIndex_positions()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		MyDLL<Integer> chunk = new MyDLL<Integer>();
+		for ( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+			chunk.add( -i - 1 );
+		}
+
+		for ( int index : new int[] { 0, 20, 15 } )
+		{
+			assertTrue( "Failed to add at " + index, myList.addAll( index, chunk ) );
+			expected.addAll( index, chunk );
+			assertArrayEquals( "Failed to add in order at " + index, expected.toArray(), myList.toArray() );
+		}
+
+		assertTrue( "Failed to add itself", myList.addAll( 3, myList ) );
+		expected.addAll( 3, expected );
+		assertArrayEquals( "Failed to add a copy of itself", expected.toArray(), myList.toArray() );
+		for ( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( "Failed to get " + i, expected.get( i ), myList.get( i ) );
+		}
+		assertFalse( "Failed to report empty source", myList.addAll( 0, new MyDLL<Integer>() ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyTreeList#addAll(int, utilities.ListADT)}
+	 * with an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddAllIndex_outOfBounds()
+	{
+		myList.addAll( 1, new MyDLL<Integer>() );
+	}
+}
@@ -0,0 +1,474 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the unrolled linked list implementation of the ListADT,
+ * MyUnrolledList, including node splits and merges.
+ */
+
+public class UnrolledListTest
+{
+	// Attributes
+	private MyUnrolledList<Integer> myList;
+
+	/**
+	 * Initializes a new MyUnrolledList before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyUnrolledList<Integer>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(java.lang.Object)}
+	 * and {@link implementations.MyUnrolledList#get(int)} across several nodes.
+	 */
+	@Test
+	public void testAddGet_manyNodes()
+	{
+		for ( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return correct size", 1000, myList.size() );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to get element " + i, Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(int, java.lang.Object)}
+	 * into the middle of full nodes, which splits them.
+	 */
+	@Test
+	public void testAddIndex_split()
+	{
+		for ( int i = 0; i < 200; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int i = 0; i < 200; i++ )
+		{
+			myList.add( 100, -i );
+		}
+
+		assertEquals( "Failed to return correct size", 400, myList.size() );
+		assertEquals( "Failed to keep prefix", Integer.valueOf( 99 ), myList.get( 99 ) );
+		assertEquals( "Failed to insert at index", Integer.valueOf( -199 ), myList.get( 100 ) );
+		assertEquals( "Failed to shift suffix", Integer.valueOf( 100 ), myList.get( 300 ) );
+		assertEquals( "Failed to keep last", Integer.valueOf( 199 ), myList.get( 399 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(int, java.lang.Object)}
+	 * with an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIndex_outOfBounds()
+	{
+		myList.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(java.lang.Object)}
+	 * with null.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_null()
+	{
+		myList.add( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(int)}
+	 * draining from the front, which merges and unlinks nodes.
+	 */
+	@Test
+	public void testRemoveIndex_drainFront()
+	{
+		for ( int i = 0; i < 500; i++ )
+		{
+			myList.add( i );
+		}
+		for ( int i = 0; i < 500; i++ )
+		{
+			assertEquals( "Failed to remove in order", Integer.valueOf( i ), myList.remove( 0 ) );
+		}
+
+		assertTrue( "Failed to empty", myList.isEmpty() );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse empty list", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#get(int)}
+	 * on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_empty()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(java.lang.Object)},
+	 * {@link implementations.MyUnrolledList#contains(java.lang.Object)} and
+	 * {@link implementations.MyUnrolledList#set(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testRemoveElementContainsSet()
+	{
+		for ( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return removed element", Integer.valueOf( 70 ), myList.remove( Integer.valueOf( 70 ) ) );
+		assertNull( "Failed to return null for missing element", myList.remove( Integer.valueOf( 70 ) ) );
+		assertFalse( "Failed to forget removed element", myList.contains( 70 ) );
+		assertEquals( "Failed to return old element", Integer.valueOf( 71 ), myList.set( 70, 700 ) );
+		assertTrue( "Failed to find set element", myList.contains( 700 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#addAll(utilities.ListADT)}
+	 * from a MyDLL and from the list itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyDLL<Integer> source = new MyDLL<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			source.add( i );
+		}
+
+		assertTrue( "Failed to add elements", myList.addAll( source ) );
+		assertTrue( "Failed to add itself", myList.addAll( myList ) );
+		assertEquals( "Failed to return correct size", 200, myList.size() );
+		assertEquals( "Failed to copy itself", Integer.valueOf( 99 ), myList.get( 199 ) );
+		assertFalse( "Failed to report empty source", myList.addAll( new MyDLL<Integer>() ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#iterator()}
+	 * and {@link implementations.MyUnrolledList#toArray(Object[])}.
+	 */
+	@Test
+	public void testIteratorToArray()
+	{
+		for ( int i = 0; i < 150; i++ )
+		{
+			myList.add( i );
+		}
+
+		Iterator<Integer> it = myList.iterator();
+		for ( int i = 0; i < 150; i++ )
+		{
+			assertEquals( "Failed to iterate in order", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end", it.hasNext() );
+
+		Integer[] holder = myList.toArray( new Integer[151] );
+		assertEquals( "Failed to copy last", Integer.valueOf( 149 ), holder[149] );
+		assertNull( "Failed to terminate with null", holder[150] );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#iterator()}
+	 * past the last element.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testIterator_exhausted()
+	{
+		myList.iterator().next();
+	}
+
+	/**
+	 * Test method for random inserts, removes and sets, checked against
+	 * MyArrayList after every step.
+	 */
+	@Test
+	public void testRandomOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		Random random = new Random( 42 );
+
+		for ( int step = 0; step < 20000; step++ )
+		{
+			int choice = random.nextInt( 10 );
+			if ( choice < 5 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				expected.add( index, step );
+				myList.add( index, step );
+			}
+			else if ( choice < 9 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same element", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to set same element", expected.set( index, -step ), myList.set( index, -step ) );
+			}
+			assertEquals( "Failed to keep size", expected.size(), myList.size() );
+		}
+
+		assertArrayEquals( "Failed to keep same elements", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#addAll(int, utilities.ListADT)}
+	 * and {@link implementations.MyUnrolledList#removeRange(int, int)} at random
+	 * positions, checked against MyArrayList after every step.
+	 */
+	@Test
+	public void testBulkOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		MyArrayList<Integer> chunk = new MyArrayList<Integer>();
+		Random random = new Random( 7 );
+
+		for ( int step = 0; step < 2000; step++ )
+		{
+			if ( random.nextBoolean() || expected.isEmpty() )
+			{
+				chunk.clear();
+				int length = random.nextInt( 150 );
+				for ( int i = 0; i < length; i++ )
+				{
+					chunk.add( step * 1000 + i );
+				}
+				int index = random.nextInt( expected.size() + 1 );
+				expected.addAll( index, chunk );
+				myList.addAll( index, chunk );
+			}
+			else
+			{
+				int from = random.nextInt( expected.size() );
+				int to = from + random.nextInt( Math.min( 150, expected.size() - from ) + 1 );
+				expected.removeRange( from, to );
+				myList.removeRange( from, to );
+			}
+			assertEquals( "Failed to keep size", expected.size(), myList.size() );
+		}
+
+		assertArrayEquals( "Failed to keep same elements", expected.toArray(), myList.toArray() );
+		myList.addAll( 0, myList );
+		assertEquals( "Failed to add itself", expected.size() * 2, myList.size() );
+	}
+
+	/**
+	 * Appends 0 to count - 1 to myList and to a new MyArrayList, which is
+	 * returned. Appends fill whole nodes of 64 before starting the next.
+	 */
+	private MyArrayList<Integer> fill( int count )
+	{
+		MyArrayList<Integer> expected = new MyArrayList<Integer>();
+		for ( int i = 0; i < count; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+		return expected;
+	}
+
+	/**
+	 * Asserts that myList holds the same elements as expected, read with
+	 * get, toArray and the iterator.
+	 */
+	private void assertMatches( String message, MyArrayList<Integer> expected )
+	{
+		assertEquals( message + ": size", expected.size(), myList.size() );
+		assertArrayEquals( message + ": toArray", expected.toArray(), myList.toArray() );
+		Iterator<Integer> it = myList.iterator();
+		for ( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( message + ": get " + i, expected.get( i ), myList.get( i ) );
+			assertEquals( message + ": next " + i, expected.get( i ), it.next() );
+		}
+		assertFalse( message + ": end", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#add(int, java.lang.Object)}
+	 * into a full node at every index, including exactly half way, where
+	 * the split leaves the insertion point at the end of the left half.
+	 */
+	@Test
+	public void testAddIndex_splitEveryIndex()
+	{
+		for ( int index = 0; index < 64; index++ )
+		{
+			myList.clear();
+			MyArrayList<Integer> expected = fill( 64 );
+
+			myList.add( index, -1 );
+			expected.add( index, -1 );
+			assertMatches( "Failed to insert at " + index, expected );
+
+			// A second insert lands in whichever half now holds the index
+			myList.add( index + 1, -2 );
+			expected.add( index + 1, -2 );
+			assertMatches( "Failed to insert after the split at " + index, expected );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(int)}
+	 * that leaves the first node short while its successor is large, so it
+	 * borrows half the difference.
+	 */
+	@Test
+	public void testRemoveIndex_refillBorrow()
+	{
+		MyArrayList<Integer> expected = fill( 128 );
+
+		// 64 and 64: the first node drops to 15 and borrows from the second
+		for ( int i = 0; i < 49; i++ )
+		{
+			assertEquals( "Failed to remove in order", expected.remove( 10 ), myList.remove( 10 ) );
+		}
+		assertMatches( "Failed to borrow", expected );
+
+		myList.add( 15, -1 );
+		expected.add( 15, -1 );
+		assertEquals( "Failed to remove after borrowing", expected.remove( 40 ), myList.remove( 40 ) );
+		assertMatches( "Failed to use the refilled nodes", expected );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#remove(int)}
+	 * that leaves the first node short while its successor is small, so the
+	 * two merge.
+	 */
+	@Test
+	public void testRemoveIndex_refillMerge()
+	{
+		MyArrayList<Integer> expected = fill( 84 );
+
+		// 64 and 20: the first node drops to 15 and takes the whole second
+		for ( int i = 0; i < 49; i++ )
+		{
+			assertEquals( "Failed to remove in order", expected.remove( 0 ), myList.remove( 0 ) );
+		}
+		assertMatches( "Failed to merge", expected );
+
+		myList.add( 64 );
+		expected.add( 64 );
+		assertEquals( "Failed to remove the last after merging", expected.remove( 35 ), myList.remove( 35 ) );
+		assertMatches( "Failed to append after merging", expected );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#removeRange(int, int)}
+	 * across whole nodes, which are unlinked, with both end nodes cut short
+	 * and refilled.
+	 */
+	@Test
+	public void testRemoveRange_wholeNodes()
+	{
+		MyArrayList<Integer> expected = fill( 64 * 6 );
+
+		// Keeps 10 of the first node and 4 of the fifth; the three between go
+		myList.removeRange( 10, 64 * 4 + 60 );
+		expected.removeRange( 10, 64 * 4 + 60 );
+		assertMatches( "Failed to cut across nodes", expected );
+
+		for ( int index = 0; index <= expected.size(); index += 7 )
+		{
+			myList.add( index, -index );
+			expected.add( index, -index );
+		}
+		assertMatches( "Failed to insert after the cut", expected );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#removeRange(int, int)}
+	 * on exact node boundaries, the whole list and an empty range.
+	 */
+	@Test
+	public void testRemoveRange_boundaries()
+	{
+		MyArrayList<Integer> expected = fill( 64 * 4 );
+
+		myList.removeRange( 64, 128 );
+		expected.removeRange( 64, 128 );
+		assertMatches( "Failed to remove one whole node", expected );
+
+		myList.removeRange( 0, 64 );
+		expected.removeRange( 0, 64 );
+		assertMatches( "Failed to remove the head node", expected );
+
+		myList.removeRange( 64, 64 );
+		assertMatches( "Failed to ignore an empty range", expected );
+
+		myList.removeRange( 60, 128 );
+		expected.removeRange( 60, 128 );
+		assertMatches( "Failed to cut the tail", expected );
+
+		myList.removeRange( 0, myList.size() );
+		assertTrue( "Failed to empty", myList.isEmpty() );
+		myList.add( 1 );
+		assertEquals( "Failed to reuse empty list", Integer.valueOf( 1 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyUnrolledList#addAll(int, utilities.ListADT)}
+	 * at the first index of a node, where nothing is split, and in the
+	 * middle of a node, which is split around the new elements.
+	 */
+	@Test
+	public void testAddAllIndex_nodeOffsets()
+	{
+		MyArrayList<Integer> chunk = new MyArrayList<Integer>();
+		for ( int i = 0; i < 100; i++ )
+		{
+			chunk.add( -i );
+		}
+
+		for ( int index : new int[] { 0, 64, 128, 30, 100, 192 } )
+		{
+			myList.clear();
+			MyArrayList<Integer> expected = fill( 192 );
+
+			myList.addAll( index, chunk );
+			expected.addAll( index, chunk );
+			assertMatches( "Failed to add at " + index, expected );
+
+			myList.remove( index );
+			expected.remove( index );
+			assertMatches( "Failed to remove after adding at " + index, expected );
+		}
+	}
+}